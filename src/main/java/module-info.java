@@ -12,6 +12,7 @@ module oth.shipeditor {
     requires com.fasterxml.jackson.annotation;
     requires com.fasterxml.jackson.databind;
     requires com.fasterxml.jackson.dataformat.csv;
+    requires com.fasterxml.jackson.module.blackbird;
 
     // These packages are tightly intertwined with the app and/or are important, but can be removed with some work.
     requires lombok;
@@ -57,7 +58,7 @@ module oth.shipeditor {
     exports oth.shipeditor.components.instrument;
     opens oth.shipeditor.components.instrument;
     exports oth.shipeditor.persistence to com.fasterxml.jackson.databind;
-    opens oth.shipeditor.persistence to com.fasterxml.jackson.databind;
+    opens oth.shipeditor.persistence to com.fasterxml.jackson.databind, com.fasterxml.jackson.module.blackbird;
     exports oth.shipeditor.parsing.deserialize;
     opens oth.shipeditor.parsing.deserialize;
     exports oth.shipeditor.parsing.serialize;
@@ -1,6 +1,7 @@
 package oth.shipeditor;
 
 import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.components.logging.DiagnosticsReport;
 import oth.shipeditor.components.logging.StandardOutputRedirector;
 import oth.shipeditor.parsing.loading.FileLoading;
 import oth.shipeditor.persistence.Initializations;
@@ -39,6 +40,8 @@ public final class Main {
             Main.configureLaf();
             PrimaryWindow window = PrimaryWindow.create();
             Initializations.updateStateFromSettings(window);
+            DiagnosticsReport.initListening();
+            SettingsManager.initListening();
 
             window.showGUI();
 
@@ -0,0 +1,10 @@
+package oth.shipeditor.communication.events.components;
+
+/**
+ * Published on EDT, coalesced; fired after one or more problems were added to the diagnostics collector.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public record DiagnosticsRecorded(int distinctCount) implements ComponentEvent {
+
+}
@@ -0,0 +1,12 @@
+package oth.shipeditor.communication.events.components;
+
+import oth.shipeditor.parsing.loading.LoadingStage;
+
+/**
+ * Published on EDT, coalesced; done and total count work units of the stage, total can grow while stage runs.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public record LoadingProgressed(LoadingStage stage, int done, int total) implements ComponentEvent {
+
+}
@@ -0,0 +1,13 @@
+package oth.shipeditor.communication.events.files;
+
+import oth.shipeditor.components.datafiles.entities.CSVEntry;
+
+/**
+ * Published when a single data entry was re-read from changed files; previous and updated can be the same instance
+ * if the entry was patched in place.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public record DataEntryUpdated(CSVEntry previous, CSVEntry updated) implements FileEvent {
+
+}
@@ -0,0 +1,13 @@
+package oth.shipeditor.communication.events.files;
+
+import oth.shipeditor.persistence.GameDataPackage;
+
+/**
+ * Published after a single package was enabled, disabled or pinned and its entries were merged into
+ * or dropped from the repository; data trees refresh only the subtree of this package.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public record DataPackageChanged(GameDataPackage dataPackage) implements FileEvent {
+
+}
@@ -0,0 +1,16 @@
+package oth.shipeditor.communication.events.files;
+
+import oth.shipeditor.components.datafiles.entities.CSVEntry;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Published when a repository version gets new per-package lists of entries of one kind.
+ * @param packageFolders folders of packages that provide entries of the kind, in order of the lists.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public record EntryPackagesSet(Class<? extends CSVEntry> entryType, List<Path> packageFolders) implements FileEvent {
+
+}
@@ -0,0 +1,12 @@
+package oth.shipeditor.communication.events.viewer.points;
+
+import oth.shipeditor.components.viewer.entities.weapon.WeaponSlotPoint;
+
+/**
+ * Published after effective weapon type or size of a slot changed, e.g. by editing or by skin override.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public record SlotFittingChanged(WeaponSlotPoint slot) implements PointEvent {
+
+}
@@ -1,9 +1,15 @@
 package oth.shipeditor.components;
 
+import org.kordamp.ikonli.fluentui.FluentUiRegularAL;
+import org.kordamp.ikonli.swing.FontIcon;
 import oth.shipeditor.communication.EventBus;
 import oth.shipeditor.communication.events.components.LoadingActionFired;
+import oth.shipeditor.communication.events.components.LoadingProgressed;
+import oth.shipeditor.parsing.loading.FileLoading;
+import oth.shipeditor.parsing.loading.LoadingStage;
 
 import javax.swing.*;
+import java.awt.*;
 
 /**
  * @author Ontheheavens
@@ -13,20 +19,57 @@ public class ProgressBarPanel extends JPanel {
 
     private final JProgressBar progressBar;
 
+    private final JButton cancelButton;
+
     ProgressBarPanel() {
+        this.setLayout(new FlowLayout(FlowLayout.TRAILING, 4, 0));
         progressBar = new JProgressBar(SwingConstants.HORIZONTAL);
         progressBar.setIndeterminate(true);
+        progressBar.setStringPainted(true);
+        progressBar.setString("");
+
+        cancelButton = new JButton(FontIcon.of(FluentUiRegularAL.DISMISS_16, 16, Color.GRAY));
+        cancelButton.setToolTipText("Cancel game data loading");
+        cancelButton.setBorderPainted(false);
+        cancelButton.setContentAreaFilled(false);
+        cancelButton.addActionListener(e -> FileLoading.cancelGameDataLoading());
+
         EventBus.subscribe(event -> {
             if (event instanceof LoadingActionFired(boolean started)) {
                 if (started) {
+                    progressBar.setIndeterminate(true);
+                    progressBar.setString("");
                     this.add(progressBar);
                 } else {
                     this.remove(progressBar);
+                    this.remove(cancelButton);
                 }
                 this.revalidate();
                 this.repaint();
             }
         });
+        EventBus.subscribe(event -> {
+            if (event instanceof LoadingProgressed(LoadingStage stage, int done, int total)) {
+                this.updateProgress(stage, done, total);
+            }
+        });
+    }
+
+    private void updateProgress(LoadingStage stage, int done, int total) {
+        if (cancelButton.getParent() != this) {
+            this.add(cancelButton);
+            this.revalidate();
+        }
+        if (total > 0) {
+            progressBar.setIndeterminate(false);
+            progressBar.setMaximum(total);
+            progressBar.setValue(Math.min(done, total));
+            progressBar.setString(stage.getDisplayedName() + ": " + done + " / " + total);
+        } else {
+            progressBar.setIndeterminate(true);
+            progressBar.setString(stage.getDisplayedName());
+        }
+        this.repaint();
     }
 
 }
@@ -13,6 +13,8 @@ import oth.shipeditor.components.logging.LogsPanel;
 import oth.shipeditor.components.viewer.LayerViewer;
 import oth.shipeditor.components.viewer.PrimaryViewer;
 import oth.shipeditor.parsing.loading.FileLoading;
+import oth.shipeditor.parsing.loading.PackageDelta;
+import oth.shipeditor.persistence.GameDataPackage;
 import oth.shipeditor.persistence.Settings;
 import oth.shipeditor.persistence.SettingsManager;
 import oth.shipeditor.utility.themes.Themes;
@@ -152,13 +154,28 @@ public final class WindowContentPanes {
                 JMenuItem reloadAllGameData = new JMenuItem("Reload all game data");
                 reloadAllGameData.setIcon(FontIcon.of(FluentUiRegularAL.ARROW_DOWNLOAD_20, 16, Themes.getIconColor()));
                 reloadAllGameData.addActionListener(event -> FileLoading.loadGameData());
-                if (FileLoading.isLoadingInProgress()) {
-                    reloadAllGameData.setEnabled(false);
-                }
                 menu.add(reloadAllGameData);
 
+                JMenuItem cancelLoading = new JMenuItem("Cancel data loading");
+                cancelLoading.setIcon(FontIcon.of(FluentUiRegularAL.DISMISS_20, 16, Themes.getIconColor()));
+                cancelLoading.addActionListener(event -> FileLoading.cancelGameDataLoading());
+                cancelLoading.setEnabled(FileLoading.isLoadingInProgress());
+                menu.add(cancelLoading);
+
                 Settings settings = SettingsManager.getSettings();
 
+                JMenu enablePackage = new JMenu("Enable data package");
+                enablePackage.setIcon(FontIcon.of(FluentUiRegularAL.ARROW_ROTATE_CLOCKWISE_20, 16,
+                        Themes.getIconColor()));
+                for (GameDataPackage dataPackage : settings.getDataPackages()) {
+                    if (!dataPackage.isDisabled()) continue;
+                    JMenuItem packageOption = new JMenuItem(dataPackage.getFolderName());
+                    packageOption.addActionListener(event -> PackageDelta.setDisabled(dataPackage, false));
+                    enablePackage.add(packageOption);
+                }
+                enablePackage.setEnabled(enablePackage.getItemCount() > 0);
+                menu.add(enablePackage);
+
                 JMenuItem autoLoadData = new JCheckBoxMenuItem("Auto-load data at start");
                 autoLoadData.setSelected(SettingsManager.isDataAutoloadEnabled());
                 autoLoadData.setIcon(FontIcon.of(FluentUiRegularAL.DOCUMENT_AUTOSAVE_24, 16, Themes.getIconColor()));
@@ -167,7 +184,16 @@ public final class WindowContentPanes {
                 );
                 menu.add(autoLoadData);
 
-                JMenuItem toggleFileErrorPopups = new JCheckBoxMenuItem("Enable file error pop-ups");
+                JMenuItem launcherModsOnly = new JCheckBoxMenuItem("Load only mods enabled in launcher");
+                launcherModsOnly.setSelected(settings.isLauncherModsOnly());
+                launcherModsOnly.setIcon(FontIcon.of(FluentUiRegularAL.DEVELOPER_BOARD_24, 16, Themes.getIconColor()));
+                launcherModsOnly.addActionListener(event -> {
+                    settings.setLauncherModsOnly(launcherModsOnly.isSelected());
+                    FileLoading.loadGameData();
+                });
+                menu.add(launcherModsOnly);
+
+                JMenuItem toggleFileErrorPopups = new JCheckBoxMenuItem("Open error report automatically");
                 toggleFileErrorPopups.setSelected(SettingsManager.areFileErrorPopupsEnabled());
                 toggleFileErrorPopups.setIcon(FontIcon.of(FluentUiRegularAL.DOCUMENT_ERROR_20, 16, Themes.getIconColor()));
                 toggleFileErrorPopups.addActionListener(event ->
@@ -45,6 +45,7 @@ public class GameDataPanel extends JPanel {
         dataTabsContainer.addTab(StringValues.WINGS, wingsTreePanel);
         dataTabsContainer.addTab("Hull styles", new HullStylesPanel());
         dataTabsContainer.addTab("Engine styles", new EngineStylesPanel());
+        dataTabsContainer.addTab("Search", new TextSearchPanel());
         dataTabsContainer.setTabLayoutPolicy(JTabbedPane.SCROLL_TAB_LAYOUT);
         this.setLayout(new BorderLayout());
         this.add(dataTabsContainer, BorderLayout.CENTER);
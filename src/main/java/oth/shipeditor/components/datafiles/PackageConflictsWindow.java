@@ -0,0 +1,138 @@
+package oth.shipeditor.components.datafiles;
+
+import oth.shipeditor.components.datafiles.entities.CSVEntry;
+import oth.shipeditor.parsing.FileUtilities;
+import oth.shipeditor.representation.GameDataRepository;
+import oth.shipeditor.representation.PackageOverlay;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableColumnModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Non-modal window listing entity IDs defined by more than one package, with the package that wins;
+ * one instance is reused and refreshed each time it is shown. Double click on a row opens the winning data file.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public final class PackageConflictsWindow extends JPanel {
+
+    private static PackageConflictsWindow instance;
+
+    private static JDialog window;
+
+    private final ConflictsTableModel tableModel;
+
+    private final JLabel summary;
+
+    private PackageConflictsWindow() {
+        this.setLayout(new BorderLayout());
+        this.setBorder(new EmptyBorder(4, 4, 4, 4));
+        tableModel = new ConflictsTableModel();
+        JTable table = new JTable(tableModel);
+        table.setAutoCreateRowSorter(true);
+        table.setFillsViewportHeight(true);
+        TableColumnModel columns = table.getColumnModel();
+        columns.getColumn(0).setPreferredWidth(80);
+        columns.getColumn(1).setPreferredWidth(180);
+        columns.getColumn(2).setPreferredWidth(160);
+        columns.getColumn(3).setPreferredWidth(320);
+        table.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() != 2) return;
+                int viewRow = table.rowAtPoint(e.getPoint());
+                if (viewRow < 0) return;
+                PackageOverlay.Conflict conflict = tableModel.rows.get(table.convertRowIndexToModel(viewRow));
+                Path file = conflict.winner().getTableFilePath();
+                if (file != null) {
+                    FileUtilities.openPathInDesktop(file);
+                }
+            }
+        });
+        this.add(new JScrollPane(table), BorderLayout.CENTER);
+
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        summary = new JLabel();
+        bottomPanel.add(summary, BorderLayout.LINE_START);
+        JButton refreshButton = new JButton("Refresh");
+        refreshButton.addActionListener(e -> this.refresh());
+        bottomPanel.add(refreshButton, BorderLayout.LINE_END);
+        this.add(bottomPanel, BorderLayout.PAGE_END);
+    }
+
+    public static void showWindow() {
+        if (window == null) {
+            instance = new PackageConflictsWindow();
+            window = new JDialog((Frame) null, "Package conflicts", false);
+            window.setDefaultCloseOperation(WindowConstants.HIDE_ON_CLOSE);
+            window.setContentPane(instance);
+            window.setSize(800, 400);
+            window.setLocationRelativeTo(null);
+        }
+        instance.refresh();
+        if (!window.isVisible()) {
+            window.setVisible(true);
+        }
+    }
+
+    private void refresh() {
+        List<PackageOverlay.Conflict> conflicts = GameDataRepository.getPackageOverlay().getConflicts();
+        tableModel.setRows(conflicts);
+        summary.setText(conflicts.size() + " IDs defined by more than one package");
+    }
+
+    private static String getPackageName(CSVEntry entry) {
+        Path folder = entry.getPackageFolderPath();
+        return folder == null ? "" : String.valueOf(folder.getFileName());
+    }
+
+    private static final class ConflictsTableModel extends AbstractTableModel {
+
+        private static final String[] COLUMNS = {"Kind", "ID", "Effective package", "Shadowed packages"};
+
+        private List<PackageOverlay.Conflict> rows = List.of();
+
+        void setRows(List<PackageOverlay.Conflict> updated) {
+            this.rows = updated;
+            this.fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            PackageOverlay.Conflict conflict = rows.get(rowIndex);
+            return switch (columnIndex) {
+                case 0 -> conflict.kind().toString();
+                case 1 -> conflict.entityID();
+                case 2 -> PackageConflictsWindow.getPackageName(conflict.winner());
+                default -> conflict.shadowed().stream()
+                        .map(PackageConflictsWindow::getPackageName)
+                        .collect(Collectors.joining(", "));
+            };
+        }
+
+    }
+
+}
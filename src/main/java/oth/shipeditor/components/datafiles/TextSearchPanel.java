@@ -0,0 +1,174 @@
+package oth.shipeditor.components.datafiles;
+
+import oth.shipeditor.parsing.FileUtilities;
+import oth.shipeditor.parsing.loading.TextSearchIndex;
+import oth.shipeditor.persistence.PackageRegistry;
+import oth.shipeditor.utility.Errors;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableColumnModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Searches raw text of all loaded data files through {@link TextSearchIndex}; searching starts as the user types.
+ * Double click on a hit opens its file.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+class TextSearchPanel extends JPanel {
+
+    private static final int TYPING_DELAY_MS = 250;
+
+    private final JTextField queryField;
+
+    private final HitsTableModel tableModel;
+
+    private final JLabel statusLabel;
+
+    private final Timer searchTimer;
+
+    private final AtomicInteger searchCounter = new AtomicInteger();
+
+    TextSearchPanel() {
+        this.setLayout(new BorderLayout());
+
+        queryField = new JTextField();
+        queryField.setToolTipText("Case-insensitive text; words at both ends of the query may be partial");
+        queryField.setBorder(BorderFactory.createCompoundBorder(new EmptyBorder(4, 4, 4, 4),
+                queryField.getBorder()));
+        this.add(queryField, BorderLayout.PAGE_START);
+
+        tableModel = new HitsTableModel();
+        JTable table = new JTable(tableModel);
+        table.setAutoCreateRowSorter(true);
+        table.setFillsViewportHeight(true);
+        TableColumnModel columns = table.getColumnModel();
+        columns.getColumn(0).setPreferredWidth(240);
+        columns.getColumn(1).setPreferredWidth(40);
+        columns.getColumn(2).setPreferredWidth(120);
+        columns.getColumn(3).setPreferredWidth(320);
+        table.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() != 2) return;
+                int viewRow = table.rowAtPoint(e.getPoint());
+                if (viewRow < 0) return;
+                TextSearchIndex.SearchHit hit = tableModel.getHit(table.convertRowIndexToModel(viewRow));
+                FileUtilities.openPathInDesktop(hit.file());
+            }
+        });
+        this.add(new JScrollPane(table), BorderLayout.CENTER);
+
+        statusLabel = new JLabel(" ");
+        statusLabel.setBorder(new EmptyBorder(2, 4, 2, 4));
+        this.add(statusLabel, BorderLayout.PAGE_END);
+
+        searchTimer = new Timer(TYPING_DELAY_MS, e -> this.search());
+        searchTimer.setRepeats(false);
+        queryField.addActionListener(e -> this.search());
+        queryField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                searchTimer.restart();
+            }
+        });
+    }
+
+    private void search() {
+        searchTimer.stop();
+        String query = queryField.getText();
+        int searchNumber = searchCounter.incrementAndGet();
+        long start = System.nanoTime();
+        CompletableFuture.supplyAsync(() -> TextSearchIndex.search(query))
+                .thenAccept(hits -> SwingUtilities.invokeLater(() -> {
+                    if (searchNumber != searchCounter.get()) return;
+                    tableModel.setRows(hits);
+                    long elapsed = (System.nanoTime() - start) / 1_000_000;
+                    String status = hits.size() + " hits in " + elapsed + " ms, "
+                            + TextSearchIndex.getIndexedFileCount() + " files indexed";
+                    if (TextSearchIndex.isBuilding()) {
+                        status += " (indexing in progress)";
+                    }
+                    statusLabel.setText(status);
+                }))
+                .exceptionally(throwable -> {
+                    Errors.printToStream(throwable);
+                    return null;
+                });
+    }
+
+    private static final class HitsTableModel extends AbstractTableModel {
+
+        private static final String[] COLUMNS = {"File", "Line", "Entity", "Text"};
+
+        private List<TextSearchIndex.SearchHit> rows = List.of();
+
+        void setRows(List<TextSearchIndex.SearchHit> updated) {
+            this.rows = updated;
+            this.fireTableDataChanged();
+        }
+
+        TextSearchIndex.SearchHit getHit(int row) {
+            return rows.get(row);
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            return columnIndex == 1 ? Integer.class : String.class;
+        }
+
+        private static String describeFile(Path file) {
+            PackageRegistry.GamePackage gamePackage = PackageRegistry.findContaining(file);
+            if (gamePackage == null) return file.toString();
+            return gamePackage.getFolderName() + ": " + gamePackage.folder().relativize(file);
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            TextSearchIndex.SearchHit hit = rows.get(rowIndex);
+            return switch (columnIndex) {
+                case 0 -> HitsTableModel.describeFile(hit.file());
+                case 1 -> hit.line();
+                case 2 -> hit.entityID() == null ? "" : hit.entityID();
+                default -> hit.text();
+            };
+        }
+
+    }
+
+}
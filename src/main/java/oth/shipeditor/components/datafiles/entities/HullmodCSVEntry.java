@@ -3,6 +3,7 @@ package oth.shipeditor.components.datafiles.entities;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.parsing.loading.FileLoading;
+import oth.shipeditor.representation.CSVRow;
 import oth.shipeditor.representation.ship.HullSize;
 import oth.shipeditor.utility.Utility;
 import oth.shipeditor.utility.components.ComponentUtilities;
@@ -23,7 +24,7 @@ import java.util.Map;
 @Getter
 public class HullmodCSVEntry implements OrdnancedCSVEntry {
 
-    private final Map<String, String> rowData;
+    private final CSVRow rowData;
 
     private final Path packageFolderPath;
 
@@ -35,7 +36,7 @@ public class HullmodCSVEntry implements OrdnancedCSVEntry {
 
     private File fetchedSpriteFile;
 
-    public HullmodCSVEntry(Map<String, String> row, Path folder, Path tablePath) {
+    public HullmodCSVEntry(CSVRow row, Path folder, Path tablePath) {
         this.rowData = row;
         packageFolderPath = folder;
         this.tableFilePath = tablePath;
@@ -70,16 +71,17 @@ public class HullmodCSVEntry implements OrdnancedCSVEntry {
 
     @Override
     public int getOrdnanceCost(HullSize size) {
-        var csvData = this.getRowData();
-        String stringValue;
+        String column;
         switch (size) {
-            case FRIGATE -> stringValue = csvData.get("cost_frigate");
-            case DESTROYER -> stringValue = csvData.get("cost_dest");
-            case CRUISER -> stringValue = csvData.get("cost_cruiser");
-            case CAPITAL_SHIP -> stringValue = csvData.get("cost_capital");
-            default -> stringValue = "0";
+            case FRIGATE -> column = "cost_frigate";
+            case DESTROYER -> column = "cost_dest";
+            case CRUISER -> column = "cost_cruiser";
+            case CAPITAL_SHIP -> column = "cost_capital";
+            default -> {
+                return 0;
+            }
         }
-        return Integer.parseInt(stringValue);
+        return rowData.getInt(column, 0);
     }
 
     @Override
@@ -8,6 +8,7 @@ import oth.shipeditor.components.viewer.layers.ship.ShipPainter;
 import oth.shipeditor.components.viewer.layers.ship.data.ShipHull;
 import oth.shipeditor.parsing.FileUtilities;
 import oth.shipeditor.parsing.loading.FileLoading;
+import oth.shipeditor.representation.CSVRow;
 import oth.shipeditor.representation.ship.HullSize;
 import oth.shipeditor.representation.ship.HullSpecFile;
 import oth.shipeditor.representation.ship.ShipTypeHints;
@@ -35,7 +36,7 @@ import java.util.*;
 @Getter
 public class ShipCSVEntry implements CSVEntry, InstallableEntry {
 
-    private final Map<String, String> rowData;
+    private final CSVRow rowData;
 
     private final HullSpecFile hullSpecFile;
 
@@ -54,7 +55,7 @@ public class ShipCSVEntry implements CSVEntry, InstallableEntry {
 
     private Sprite entrySprite;
 
-    public ShipCSVEntry(Map<String, String> row, Map.Entry<HullSpecFile, Map<String, SkinSpecFile>> hullWithSkins,
+    public ShipCSVEntry(CSVRow row, Map.Entry<HullSpecFile, Map<String, SkinSpecFile>> hullWithSkins,
                         Path folder, String fileName) {
         this.packageFolderPath = folder;
         this.hullSpecFile = hullWithSkins.getKey();
@@ -124,31 +125,19 @@ public class ShipCSVEntry implements CSVEntry, InstallableEntry {
         if (activeSkinSpecFile != null && !activeSkinSpecFile.isBase()) {
             return activeSkinSpecFile.getOrdnancePoints();
         }
-        String ordnancePoints = rowData.get(StringConstants.ORDNANCE_POINTS_SPACED);
-        return Integer.parseInt(ordnancePoints);
+        return this.getBaseTotalOP();
     }
 
     public int getBaseTotalOP() {
-        String ordnancePoints = rowData.get(StringConstants.ORDNANCE_POINTS_SPACED);
-        if (ordnancePoints == null || ordnancePoints.isEmpty()) return -1;
-        int result;
-        try {
-            result = Integer.parseInt(ordnancePoints);
-        } catch (NumberFormatException exception) {
-            return -1;
-        }
-        return result;
+        return rowData.getInt(StringConstants.ORDNANCE_POINTS_SPACED, -1);
     }
 
-    public int getBayCount() {
-        int result = 0;
-        var entryRowData = this.getRowData();
-        String fighterBays = entryRowData.get("fighter bays");
+    public int getFleetPoints() {
+        return rowData.getInt(StringConstants.FLEET_POINTS_SPACED, 0);
+    }
 
-        if (fighterBays != null && !fighterBays.isEmpty()) {
-            result = Integer.parseInt(fighterBays);
-        }
-        return result;
+    public int getBayCount() {
+        return rowData.getInt("fighter bays", 0);
     }
 
     public String getShipSpriteName() {
@@ -2,12 +2,12 @@ package oth.shipeditor.components.datafiles.entities;
 
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.representation.CSVRow;
 import oth.shipeditor.utility.Utility;
 import oth.shipeditor.utility.text.StringConstants;
 import oth.shipeditor.utility.text.StringValues;
 
 import java.nio.file.Path;
-import java.util.Map;
 
 /**
  * @author Ontheheavens
@@ -17,7 +17,7 @@ import java.util.Map;
 @Getter
 public class ShipSystemCSVEntry implements CSVEntry {
 
-    private final Map<String, String> rowData;
+    private final CSVRow rowData;
 
     private final Path packageFolderPath;
 
@@ -25,7 +25,7 @@ public class ShipSystemCSVEntry implements CSVEntry {
 
     private final String shipSystemID;
 
-    public ShipSystemCSVEntry(Map<String, String> row, Path folder, Path tablePath) {
+    public ShipSystemCSVEntry(CSVRow row, Path folder, Path tablePath) {
         this.rowData = row;
         packageFolderPath = folder;
         this.tableFilePath = tablePath;
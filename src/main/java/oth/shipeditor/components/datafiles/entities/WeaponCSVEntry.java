@@ -11,6 +11,7 @@ import oth.shipeditor.components.viewer.layers.weapon.WeaponRenderOrdering;
 import oth.shipeditor.components.viewer.layers.weapon.WeaponSprites;
 import oth.shipeditor.components.viewer.painters.points.weapon.ProjectilePainter;
 import oth.shipeditor.parsing.loading.FileLoading;
+import oth.shipeditor.representation.CSVRow;
 import oth.shipeditor.representation.GameDataRepository;
 import oth.shipeditor.representation.weapon.*;
 import oth.shipeditor.utility.graphics.DrawUtilities;
@@ -32,7 +33,6 @@ import java.io.File;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -43,7 +43,7 @@ import java.util.function.Consumer;
 @Getter
 public class WeaponCSVEntry implements CSVEntry, InstallableEntry {
 
-    private final Map<String, String> rowData;
+    private final CSVRow rowData;
 
     private final Path packageFolderPath;
 
@@ -57,7 +57,7 @@ public class WeaponCSVEntry implements CSVEntry, InstallableEntry {
 
     private Sprite weaponImage;
 
-    public WeaponCSVEntry(Map<String, String> row, Path folder, Path tablePath) {
+    public WeaponCSVEntry(CSVRow row, Path folder, Path tablePath) {
         this.rowData = row;
         packageFolderPath = folder;
         this.tableFilePath = tablePath;
@@ -93,10 +93,7 @@ public class WeaponCSVEntry implements CSVEntry, InstallableEntry {
     }
 
     public int getOPCost() {
-        var data = this.getRowData();
-        String costText = data.get("OPs");
-        if (costText == null|| costText.isEmpty()) return 0;
-        return Integer.parseInt(costText);
+        return rowData.getInt("OPs", 0);
     }
 
     public int getDrawOrder() {
@@ -19,7 +19,6 @@ import oth.shipeditor.utility.text.StringValues;
 import javax.swing.*;
 import java.io.File;
 import java.nio.file.Path;
-import java.util.Map;
 
 /**
  * @author Ontheheavens
@@ -29,7 +28,7 @@ import java.util.Map;
 @Getter
 public class WingCSVEntry implements OrdnancedCSVEntry {
 
-    private final Map<String, String> rowData;
+    private final CSVRow rowData;
 
     private final Path packageFolderPath;
 
@@ -45,7 +44,7 @@ public class WingCSVEntry implements OrdnancedCSVEntry {
 
     private Sprite memberSprite;
 
-    public WingCSVEntry(Map<String, String> row, Path folder, Path tablePath) {
+    public WingCSVEntry(CSVRow row, Path folder, Path tablePath) {
         this.rowData = row;
         packageFolderPath = folder;
         this.tableFilePath = tablePath;
@@ -68,9 +67,7 @@ public class WingCSVEntry implements OrdnancedCSVEntry {
 
     public VariantFile retrieveMemberVariant() {
         String variantID = rowData.get(StringConstants.VARIANT);
-        var gameData = SettingsManager.getGameData();
-        var allVariants = gameData.getAllVariants();
-        return allVariants.get(variantID);
+        return GameDataRepository.getVariantByID(variantID);
     }
 
     @Override
@@ -141,8 +138,7 @@ public class WingCSVEntry implements OrdnancedCSVEntry {
      */
     @Override
     public int getOrdnanceCost(HullSize size) {
-        String tableValue = this.rowData.get("op cost");
-        return Integer.parseInt(tableValue);
+        return this.rowData.getInt("op cost", 0);
     }
 
     @Override
@@ -120,6 +120,13 @@ public abstract class CSVDataTreePanel<T extends CSVEntry> extends DataTreePanel
         setLoadedStatus();
     }
 
+    @Override
+    DefaultMutableTreeNode createPackageSubtree(Path packageFolder) {
+        List<T> packageEntries = DataTreePanel.getPackageEntries(getPackageList(), packageFolder);
+        if (packageEntries == null) return null;
+        return createPackageNode(Map.entry(packageFolder, packageEntries), getRepository());
+    }
+
     private DefaultMutableTreeNode createPackageNode(Map.Entry<Path, List<T>> entryFolder,
                                                      Map<String, T> entriesRepository) {
         Path path = entryFolder.getKey();
@@ -3,14 +3,17 @@ package oth.shipeditor.components.datafiles.trees;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.communication.EventBus;
-import oth.shipeditor.communication.events.components.DataTreesReloadQueued;
+import oth.shipeditor.communication.events.files.DataEntryUpdated;
+import oth.shipeditor.communication.events.files.DataPackageChanged;
 import oth.shipeditor.components.datafiles.OpenDataTarget;
 import oth.shipeditor.components.datafiles.entities.CSVEntry;
 import oth.shipeditor.components.viewer.layers.ship.FeaturesOverseer;
 import oth.shipeditor.components.viewer.layers.ship.ShipLayer;
 import oth.shipeditor.components.viewer.layers.ship.ShipPainter;
+import oth.shipeditor.parsing.loading.PackageDelta;
 import oth.shipeditor.persistence.GameDataPackage;
 import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.GameDataRepository;
 import oth.shipeditor.representation.ship.VariantFile;
 import oth.shipeditor.utility.components.ComponentUtilities;
 import oth.shipeditor.utility.components.MouseoverLabelListener;
@@ -20,6 +23,8 @@ import oth.shipeditor.utility.themes.Themes;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.tree.*;
 import java.awt.*;
@@ -32,9 +37,6 @@ import java.awt.event.MouseEvent;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 /**
  * @author Ontheheavens
@@ -44,6 +46,8 @@ import java.util.stream.StreamSupport;
 @Log4j2
 public abstract class DataTreePanel extends JPanel {
 
+    private static final int TYPE_AHEAD_MIN_LENGTH = 2;
+
     @Getter
     private DefaultMutableTreeNode rootNode;
 
@@ -55,6 +59,11 @@ public abstract class DataTreePanel extends JPanel {
 
     private JTextField searchField;
 
+    /**
+     * Entry nodes by entry and by entry ID; built on first lookup after the tree structure changed.
+     */
+    private NodeLookup nodeLookup;
+
     @Getter
     private JPanel rightPanel;
 
@@ -68,6 +77,109 @@ public abstract class DataTreePanel extends JPanel {
         JPanel treePanel = createTreePanel(rootName);
         JSplitPane splitPane = createContentSplitter(treePanel);
         this.add(splitPane, BorderLayout.CENTER);
+        this.initEntryUpdateListening();
+    }
+
+    private void initEntryUpdateListening() {
+        EventBus.subscribe(event -> {
+            if (event instanceof DataEntryUpdated checked) {
+                this.replaceEntryNode(checked.previous(), checked.updated());
+            }
+        });
+        EventBus.subscribe(event -> {
+            if (event instanceof DataPackageChanged checked) {
+                this.refreshPackage(checked.dataPackage());
+            }
+        });
+    }
+
+    /**
+     * Rebuilds only the subtree of the package and re-inserts it in package order;
+     * rest of the tree keeps its nodes and expansion state.
+     */
+    private void refreshPackage(GameDataPackage dataPackage) {
+        if (!(tree.getModel() instanceof DefaultTreeModel model)) return;
+        String folderName = dataPackage.getFolderName();
+        for (int i = 0; i < rootNode.getChildCount(); i++) {
+            if (!(rootNode.getChildAt(i) instanceof DefaultMutableTreeNode packageNode)) continue;
+            if (packageNode.getUserObject() instanceof GameDataPackage existing
+                    && existing.getFolderName().equals(folderName)) {
+                model.removeNodeFromParent(packageNode);
+                nodeLookup = null;
+                break;
+            }
+        }
+        if (dataPackage.isDisabled()) return;
+
+        Path packageFolder = SettingsManager.getPackageFolderPath(dataPackage);
+        DefaultMutableTreeNode packageNode = this.createPackageSubtree(packageFolder);
+        if (packageNode == null || packageNode.getChildCount() == 0) return;
+        DataTreePanel.sortFolderNode(packageNode, DataTreePanel::compareEntryNodes);
+        int index = 0;
+        while (index < rootNode.getChildCount()
+                && DataTreePanel.comparePackageNodes((DefaultMutableTreeNode) rootNode.getChildAt(index),
+                packageNode) < 0) {
+            index++;
+        }
+        model.insertNodeInto(packageNode, rootNode, index);
+        nodeLookup = null;
+        tree.expandPath(new TreePath(rootNode));
+    }
+
+    /**
+     * @return node of the package with all its displayed entries, or NULL if the tree does not group by packages.
+     */
+    DefaultMutableTreeNode createPackageSubtree(Path packageFolder) {
+        return null;
+    }
+
+    /**
+     * @return entries listed under the package folder, matched regardless of path form; NULL if there are none.
+     */
+    static <T> List<T> getPackageEntries(Map<Path, List<T>> entriesByPackage, Path packageFolder) {
+        if (entriesByPackage == null) return null;
+        Path target = packageFolder.toAbsolutePath().normalize();
+        for (Map.Entry<Path, List<T>> entryPackage : entriesByPackage.entrySet()) {
+            if (entryPackage.getKey().toAbsolutePath().normalize().equals(target)) {
+                return entryPackage.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Swaps the entry of a single node without rebuilding the tree; selected node is re-selected
+     * so that the entry panel is refreshed with updated data.
+     */
+    private void replaceEntryNode(CSVEntry previous, CSVEntry updated) {
+        NodeLookup lookup = this.getNodeLookup();
+        DefaultMutableTreeNode node = lookup.byEntry().remove(previous);
+        if (node == null) return;
+        node.setUserObject(updated);
+        lookup.byEntry().put(updated, node);
+        lookup.byID().putIfAbsent(updated.getID(), node);
+        if (tree.getModel() instanceof DefaultTreeModel model) {
+            model.nodeChanged(node);
+        }
+        TreePath path = new TreePath(node.getPath());
+        if (tree.isPathSelected(path)) {
+            tree.clearSelection();
+            tree.setSelectionPath(path);
+        }
+    }
+
+    /**
+     * Expected to be called by subclasses that rebuild their nodes outside of package refresh and tree sorting.
+     */
+    protected void invalidateNodeLookup() {
+        nodeLookup = null;
+    }
+
+    private NodeLookup getNodeLookup() {
+        if (nodeLookup == null) {
+            nodeLookup = NodeLookup.of(rootNode);
+        }
+        return nodeLookup;
     }
 
     private static JLabel createVariantFileLabel(VariantFile variantFile) {
@@ -232,19 +344,35 @@ public abstract class DataTreePanel extends JPanel {
         gridBagConstraints.insets = new Insets(0, 0, 0, 0); // Set padding.
         // Add the search field to the container with the specified constraints.
         searchContainer.add(searchField, gridBagConstraints);
-        JButton searchButton = new JButton(StringValues.SEARCH);
-        searchButton.addActionListener(e -> {
-            String query = searchField.getText();
-            if (query.isEmpty()) return;
-            List<DefaultMutableTreeNode> nodes = getMatchingNodes(query);
-            if (!nodes.isEmpty()) {
-                selectMatchedNodes(nodes);
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                selectMatchesOfInput(TYPE_AHEAD_MIN_LENGTH);
+            }
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                selectMatchesOfInput(TYPE_AHEAD_MIN_LENGTH);
+            }
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                selectMatchesOfInput(TYPE_AHEAD_MIN_LENGTH);
             }
         });
+        JButton searchButton = new JButton(StringValues.SEARCH);
+        searchButton.addActionListener(e -> selectMatchesOfInput(1));
         searchContainer.add(searchButton);
         return searchContainer;
     }
 
+    private void selectMatchesOfInput(int minLength) {
+        String query = searchField.getText();
+        if (query.length() < minLength) return;
+        List<DefaultMutableTreeNode> nodes = getMatchingNodes(query);
+        if (!nodes.isEmpty()) {
+            selectMatchedNodes(nodes);
+        }
+    }
+
     static GridBagConstraints getDefaultConstraints() {
         GridBagConstraints constraints = new GridBagConstraints();
         constraints.gridx = 0;
@@ -258,24 +386,14 @@ public abstract class DataTreePanel extends JPanel {
 
     protected abstract void initTreePanelListeners(JPanel passedTreePanel);
 
+    /**
+     * @return node of the same entry instance, or else first node of an entry with the same ID; NULL if not shown.
+     */
     DefaultMutableTreeNode getNodeOfEntry(CSVEntry entry) {
-        DefaultMutableTreeNode root = this.getRootNode();
-        Enumeration<TreeNode> allNodes = root.depthFirstEnumeration();
-        Spliterator<TreeNode> spliterator = Spliterators.spliteratorUnknownSize(
-                allNodes.asIterator(), Spliterator.ORDERED);
-        Stream<TreeNode> stream = StreamSupport.stream(spliterator, false);
-        Optional<DefaultMutableTreeNode> treeNode = stream
-                .filter(node -> node instanceof DefaultMutableTreeNode)
-                .map(node -> (DefaultMutableTreeNode) node)
-                .filter(node -> {
-                    Object userObject = node.getUserObject();
-                    if (userObject instanceof CSVEntry csvEntry) {
-                        String entryID = csvEntry.getID();
-                        return entryID.equals(entry.getID());
-                    }
-                    return false;
-                }).findFirst();
-        return treeNode.orElse(null);
+        NodeLookup lookup = this.getNodeLookup();
+        DefaultMutableTreeNode node = lookup.byEntry().get(entry);
+        if (node != null) return node;
+        return lookup.byID().get(entry.getID());
     }
 
     JTree createCustomTree() {
@@ -297,22 +415,28 @@ public abstract class DataTreePanel extends JPanel {
         return customTree;
     }
 
-    @SuppressWarnings("UnnecessaryLocalVariable")
+    /**
+     * Input is matched as plain case-insensitive substring. Entry nodes are matched by displayed name and ID
+     * through repository search index; other nodes, such as packages, folders or help articles,
+     * are matched by displayed name.
+     */
     private List<DefaultMutableTreeNode> getMatchingNodes(String input) {
-        Enumeration<TreeNode> allNodes = this.rootNode.depthFirstEnumeration();
-        Spliterator<TreeNode> spliterator = Spliterators.spliteratorUnknownSize(
-                allNodes.asIterator(), Spliterator.ORDERED);
-        Stream<TreeNode> stream = StreamSupport.stream(spliterator, false);
-        List<DefaultMutableTreeNode> result = stream
-                .filter(node -> node instanceof DefaultMutableTreeNode)
-                .map(node -> (DefaultMutableTreeNode) node)
-                .filter(node -> {
-                    Object userObject = node.getUserObject();
-                    if (userObject == null) return false;
-                    String toString = userObject.toString().toLowerCase(Locale.ROOT);
-                    return toString.matches(".*" + input.toLowerCase() + ".*");
-                })
-                .collect(Collectors.toList());
+        NodeLookup lookup = this.getNodeLookup();
+        List<DefaultMutableTreeNode> result = new ArrayList<>();
+        if (!lookup.byEntry().isEmpty()) {
+            for (CSVEntry match : GameDataRepository.searchEntries(input)) {
+                DefaultMutableTreeNode node = lookup.byEntry().get(match);
+                if (node != null) {
+                    result.add(node);
+                }
+            }
+        }
+        String query = input.toLowerCase(Locale.ROOT);
+        for (DefaultMutableTreeNode node : lookup.otherNodes()) {
+            if (node.getUserObject().toString().toLowerCase(Locale.ROOT).contains(query)) {
+                result.add(node);
+            }
+        }
         return result;
     }
 
@@ -339,30 +463,7 @@ public abstract class DataTreePanel extends JPanel {
             }
         }
 
-        nodeList.sort((firstNode, secondNode) -> {
-            Object firstNodeUserObject = firstNode.getUserObject();
-            GameDataPackage firstDataPackage = (GameDataPackage) firstNodeUserObject;
-            Object secondNodeUserObject = secondNode.getUserObject();
-            GameDataPackage secondDataPackage = (GameDataPackage) secondNodeUserObject;
-
-            if (SettingsManager.isCoreFolder(firstDataPackage)) {
-                return -1;
-            }
-            else if (SettingsManager.isCoreFolder(secondDataPackage)) {
-                return 1;
-            }
-
-            if (firstDataPackage.isPinned() && !secondDataPackage.isPinned()) {
-                return -1;
-            }
-            else if (!firstDataPackage.isPinned() && secondDataPackage.isPinned()) {
-                return 1;
-            }
-
-            String firstFolderName = firstDataPackage.getFolderName();
-            String secondFolderName = secondDataPackage.getFolderName();
-            return firstFolderName.compareToIgnoreCase(secondFolderName);
-        });
+        nodeList.sort(DataTreePanel::comparePackageNodes);
 
         rootNode.removeAllChildren();
         for (DefaultMutableTreeNode packageNode : nodeList) {
@@ -372,13 +473,10 @@ public abstract class DataTreePanel extends JPanel {
         Enumeration<TreeNode> updatedPackages = rootNode.children();
         while (updatedPackages.hasMoreElements()) {
             TreeNode folder = updatedPackages.nextElement();
-            DataTreePanel.sortFolderNode(folder, (node1, node2) -> {
-                String name1 = node1.toString();
-                String name2 = node2.toString();
-                return name1.compareToIgnoreCase(name2);
-            });
+            DataTreePanel.sortFolderNode(folder, DataTreePanel::compareEntryNodes);
         }
 
+        nodeLookup = null;
         if (tree.getModel() instanceof DefaultTreeModel checked) {
             checked.nodeStructureChanged(rootNode);
         }
@@ -387,6 +485,40 @@ public abstract class DataTreePanel extends JPanel {
         tree.repaint();
     }
 
+    /**
+     * Core package goes first, then pinned packages, then the rest; by folder name within each group.
+     */
+    private static int comparePackageNodes(DefaultMutableTreeNode firstNode, DefaultMutableTreeNode secondNode) {
+        Object firstNodeUserObject = firstNode.getUserObject();
+        GameDataPackage firstDataPackage = (GameDataPackage) firstNodeUserObject;
+        Object secondNodeUserObject = secondNode.getUserObject();
+        GameDataPackage secondDataPackage = (GameDataPackage) secondNodeUserObject;
+
+        if (SettingsManager.isCoreFolder(firstDataPackage)) {
+            return -1;
+        }
+        else if (SettingsManager.isCoreFolder(secondDataPackage)) {
+            return 1;
+        }
+
+        if (firstDataPackage.isPinned() && !secondDataPackage.isPinned()) {
+            return -1;
+        }
+        else if (!firstDataPackage.isPinned() && secondDataPackage.isPinned()) {
+            return 1;
+        }
+
+        String firstFolderName = firstDataPackage.getFolderName();
+        String secondFolderName = secondDataPackage.getFolderName();
+        return firstFolderName.compareToIgnoreCase(secondFolderName);
+    }
+
+    private static int compareEntryNodes(DefaultMutableTreeNode node1, DefaultMutableTreeNode node2) {
+        String name1 = node1.toString();
+        String name2 = node2.toString();
+        return name1.compareToIgnoreCase(name2);
+    }
+
     @SuppressWarnings("ConstantConditions")
     private static void sortFolderNode(TreeNode folder, Comparator<DefaultMutableTreeNode> comparator) {
         Enumeration<? extends TreeNode> children = folder.children();
@@ -456,6 +588,13 @@ public abstract class DataTreePanel extends JPanel {
 
     protected abstract Class<?> getEntryClass();
 
+    /**
+     * @return false if other data never refers to entries of this tree.
+     */
+    boolean isUsageSearchSupported() {
+        return true;
+    }
+
     JPopupMenu getContextMenu() {
         JPopupMenu menu = new JPopupMenu();
         JMenuItem collapsePackage = new JMenuItem("Collapse package");
@@ -471,6 +610,13 @@ public abstract class DataTreePanel extends JPanel {
         JMenuItem openPackage = new JMenuItem(StringValues.OPEN_DATA_PACKAGE);
         openPackage.addActionListener(e -> openEntryPath(OpenDataTarget.PACKAGE));
         menu.add(openPackage);
+        if (this.isUsageSearchSupported() && cachedSelectForMenu != null
+                && cachedSelectForMenu.getUserObject() instanceof CSVEntry entry) {
+            menu.addSeparator();
+            JMenuItem findUsages = new JMenuItem("Find usages");
+            findUsages.addActionListener(e -> UsagesWindow.showUsages(entry));
+            menu.add(findUsages);
+        }
         return menu;
     }
 
@@ -516,28 +662,16 @@ public abstract class DataTreePanel extends JPanel {
 
                 if (dataPackage.isPinned()) {
                     JMenuItem unpinPackage = new JMenuItem("Unpin package");
-                    unpinPackage.addActionListener(event -> {
-                        dataPackage.setPinned(false);
-                        SettingsManager.updateFileFromRuntime();
-                        EventBus.publish(new DataTreesReloadQueued());
-                    });
+                    unpinPackage.addActionListener(event -> PackageDelta.setPinned(dataPackage, false));
                     menu.add(unpinPackage);
                 } else {
                     JMenuItem pinPackage = new JMenuItem("Pin package");
-                    pinPackage.addActionListener(event -> {
-                        dataPackage.setPinned(true);
-                        SettingsManager.updateFileFromRuntime();
-                        EventBus.publish(new DataTreesReloadQueued());
-                    });
+                    pinPackage.addActionListener(event -> PackageDelta.setPinned(dataPackage, true));
                     menu.add(pinPackage);
                 }
 
                 JMenuItem disablePackage = new JMenuItem("Disable package");
-                disablePackage.addActionListener(event -> {
-                    dataPackage.setDisabled(true);
-                    SettingsManager.updateFileFromRuntime();
-                    EventBus.publish(new DataTreesReloadQueued());
-                });
+                disablePackage.addActionListener(event -> PackageDelta.setDisabled(dataPackage, true));
                 menu.add(disablePackage);
 
                 menu.show(tree, e.getPoint().x, e.getPoint().y);
@@ -550,5 +684,31 @@ public abstract class DataTreePanel extends JPanel {
 
     }
 
+    /**
+     * @param otherNodes nodes with non-entry user objects, in depth-first order.
+     */
+    private record NodeLookup(Map<CSVEntry, DefaultMutableTreeNode> byEntry,
+                              Map<String, DefaultMutableTreeNode> byID,
+                              List<DefaultMutableTreeNode> otherNodes) {
+
+        static NodeLookup of(DefaultMutableTreeNode root) {
+            Map<CSVEntry, DefaultMutableTreeNode> byEntry = new IdentityHashMap<>();
+            Map<String, DefaultMutableTreeNode> byID = new HashMap<>();
+            List<DefaultMutableTreeNode> otherNodes = new ArrayList<>();
+            Enumeration<TreeNode> allNodes = root.depthFirstEnumeration();
+            while (allNodes.hasMoreElements()) {
+                if (!(allNodes.nextElement() instanceof DefaultMutableTreeNode node)) continue;
+                Object userObject = node.getUserObject();
+                if (userObject instanceof CSVEntry entry) {
+                    byEntry.put(entry, node);
+                    byID.putIfAbsent(entry.getID(), node);
+                } else if (userObject != null) {
+                    otherNodes.add(node);
+                }
+            }
+            return new NodeLookup(byEntry, byID, otherNodes);
+        }
+
+    }
 
 }
@@ -0,0 +1,19 @@
+package oth.shipeditor.components.datafiles.trees;
+
+import javax.swing.*;
+import java.util.Map;
+
+/**
+ * Filter checkbox of one facet value; label is followed by the number of entries the value would show
+ * with the rest of the filters applied.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+record FacetCheckBox(String facet, Object value, String label, JCheckBox checkBox) {
+
+    void showCount(Map<String, Map<Object, Integer>> counts) {
+        Integer count = counts.getOrDefault(facet, Map.of()).get(value);
+        checkBox.setText(label + " (" + (count == null ? 0 : count) + ")");
+    }
+
+}
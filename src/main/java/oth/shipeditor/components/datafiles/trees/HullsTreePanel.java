@@ -14,6 +14,7 @@ import oth.shipeditor.parsing.loading.FileLoading;
 import oth.shipeditor.persistence.GameDataPackage;
 import oth.shipeditor.persistence.Settings;
 import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.GameDataRepository;
 import oth.shipeditor.representation.ship.HullSize;
 import oth.shipeditor.representation.ship.HullSpecFile;
 import oth.shipeditor.representation.ship.SkinSpecFile;
@@ -206,6 +207,16 @@ class HullsTreePanel extends DataTreePanel {
         }
     }
 
+    @Override
+    DefaultMutableTreeNode createPackageSubtree(Path packageFolder) {
+        GameDataRepository gameData = SettingsManager.getGameData();
+        List<ShipCSVEntry> packageEntries = DataTreePanel.getPackageEntries(gameData.getShipEntriesByPackage(),
+                packageFolder);
+        if (packageEntries == null) return null;
+        List<ShipCSVEntry> filteredEntries = ShipFilterPanel.filterEntries(packageEntries);
+        return HullsTreePanel.createPackageNode(Map.entry(packageFolder, filteredEntries));
+    }
+
     private static DefaultMutableTreeNode createPackageNode(Map.Entry<Path, List<ShipCSVEntry>> hullFolder) {
         Path folderPath = hullFolder.getKey();
         String packageName = folderPath.getFileName().toString();
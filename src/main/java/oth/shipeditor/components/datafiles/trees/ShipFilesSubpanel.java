@@ -23,7 +23,6 @@ import javax.swing.border.TitledBorder;
 import java.awt.*;
 import java.io.File;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Map;
 
@@ -217,17 +216,8 @@ class ShipFilesSubpanel extends JPanel {
     }
 
     private static JPanel createVariantPanel() {
-        GameDataRepository gameData = SettingsManager.getGameData();
-
-        Collection<VariantFile> variantsForHull = new ArrayList<>();
-        Map<String, VariantFile> allVariants = gameData.getAllVariants();
-        for (VariantFile variantFile : allVariants.values()) {
-            String hullID = variantFile.getHullId();
-            if (hullID.equals(currentShipHullID)) {
-                variantsForHull.add(variantFile);
-            }
-        }
-
+        if (currentShipHullID == null) return null;
+        Collection<VariantFile> variantsForHull = GameDataRepository.getMatchingForHullID(currentShipHullID).values();
         if (variantsForHull.isEmpty()) return null;
         return DataTreePanel.createVariantsPanel(variantsForHull, true);
     }
@@ -6,6 +6,7 @@ import oth.shipeditor.communication.EventBus;
 import oth.shipeditor.communication.events.files.HullTreeReloadQueued;
 import oth.shipeditor.components.datafiles.entities.ShipCSVEntry;
 import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.FacetIndex;
 import oth.shipeditor.representation.GameDataRepository;
 import oth.shipeditor.representation.ship.HullSize;
 import oth.shipeditor.utility.components.ComponentUtilities;
@@ -16,6 +17,7 @@ import java.awt.*;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * @author Ontheheavens
@@ -30,6 +32,9 @@ class ShipFilterPanel extends JPanel {
     @Getter
     private static final Map<HullSize, Boolean> SIZE_FILTERS = new EnumMap<>(HullSize.class);
 
+    @SuppressWarnings("StaticCollection")
+    private static final List<FacetCheckBox> facetBoxes = new ArrayList<>();
+
     static {
         SIZE_FILTERS.put(HullSize.DEFAULT, true);
         SIZE_FILTERS.put(HullSize.FIGHTER, true);
@@ -41,6 +46,7 @@ class ShipFilterPanel extends JPanel {
 
     ShipFilterPanel() {
         this.setLayout(new BorderLayout());
+        facetBoxes.clear();
 
         JPanel filtersPane = new JPanel();
         filtersPane.setLayout(new BoxLayout(filtersPane, BoxLayout.PAGE_AXIS));
@@ -54,42 +60,41 @@ class ShipFilterPanel extends JPanel {
         JScrollPane scrollContainer = new JScrollPane(filtersPane);
 
         this.add(scrollContainer, BorderLayout.CENTER);
-    }
-
-    private static boolean shouldDisplayByHandle(ShipCSVEntry entry) {
-        if (currentTextFilter == null || currentTextFilter.isEmpty()) return true;
-        String currentInput = currentTextFilter.toLowerCase(Locale.ROOT);
-        String name = entry.toString();
-        if (name.toLowerCase(Locale.ROOT).contains(currentInput)) {
-            return true;
-        }
-        String id = entry.getHullID();
-        return id.toLowerCase(Locale.ROOT).contains(currentInput);
+        ShipFilterPanel.selectEntries(GameDataRepository.getHullFacets());
     }
 
     static Map<Path, List<ShipCSVEntry>> getFilteredEntries() {
         GameDataRepository gameData = SettingsManager.getGameData();
-        Map<Path, List<ShipCSVEntry>> shipEntriesByPackage = gameData.getShipEntriesByPackage();
-
-        if (shipEntriesByPackage == null) return null;
-
-        Map<Path, List<ShipCSVEntry>> filteredResult = new HashMap<>();
-        for (Map.Entry<Path, List<ShipCSVEntry>> entryPackage : shipEntriesByPackage.entrySet()) {
-            List<ShipCSVEntry> entryList = entryPackage.getValue();
-            List<ShipCSVEntry> filteredList = entryList.stream()
-                    .filter(ShipFilterPanel::shouldDisplayBySize)
-                    .filter(ShipFilterPanel::shouldDisplayByHandle)
-                    .toList();
-            if (!filteredList.isEmpty()) {
-                filteredResult.put(entryPackage.getKey(), filteredList);
-            }
-        }
-        return filteredResult;
+        if (gameData.getShipEntriesByPackage() == null) return null;
+
+        FacetIndex<ShipCSVEntry> facets = GameDataRepository.getHullFacets();
+        return facets.groupByPackage(ShipFilterPanel.selectEntries(facets));
+    }
+
+    static List<ShipCSVEntry> filterEntries(List<ShipCSVEntry> entryList) {
+        FacetIndex<ShipCSVEntry> facets = GameDataRepository.getHullFacets();
+        BitSet selection = ShipFilterPanel.selectEntries(facets);
+        return entryList.stream()
+                .filter(entry -> facets.isSelected(selection, entry))
+                .toList();
     }
 
-    private static boolean shouldDisplayBySize(ShipCSVEntry entry) {
-        HullSize entrySize = entry.getSize();
-        return SIZE_FILTERS.get(entrySize);
+    /**
+     * Intersects size facet bitsets with text matches; refreshes entry counts of size checkboxes on the way.
+     */
+    private static BitSet selectEntries(FacetIndex<ShipCSVEntry> facets) {
+        BitSet base = facets.selectAll();
+        if (currentTextFilter != null && !currentTextFilter.isEmpty()) {
+            base.and(facets.selectEntries(GameDataRepository.searchEntries(currentTextFilter)));
+        }
+        Map<String, Predicate<Object>> enabled = Map.of(FacetIndex.SIZE,
+                size -> Boolean.TRUE.equals(SIZE_FILTERS.get(size)));
+        Map<String, Map<Object, Integer>> counts = new HashMap<>();
+        BitSet selection = facets.filter(base, enabled, counts);
+        if (facets.size() > 0) {
+            facetBoxes.forEach(box -> box.showCount(counts));
+        }
+        return selection;
     }
 
     private static JPanel createHullSizeFilters() {
@@ -111,6 +116,7 @@ class ShipFilterPanel extends JPanel {
 
             JCheckBox checkBox = new JCheckBox();
             checkBox.setText(size.getDisplayedName());
+            facetBoxes.add(new FacetCheckBox(FacetIndex.SIZE, size, size.getDisplayedName(), checkBox));
             checkBox.setSelected(SIZE_FILTERS.get(size));
             checkBox.addActionListener(e -> {
                 if (checkBox.isSelected()) {
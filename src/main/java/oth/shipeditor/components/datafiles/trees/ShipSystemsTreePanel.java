@@ -84,6 +84,11 @@ class ShipSystemsTreePanel extends CSVDataTreePanel<ShipSystemCSVEntry>{
         return checked;
     }
 
+    @Override
+    boolean isUsageSearchSupported() {
+        return false;
+    }
+
     @Override
     protected Class<?> getEntryClass() {
         return ShipSystemCSVEntry.class;
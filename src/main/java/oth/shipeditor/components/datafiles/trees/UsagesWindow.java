@@ -0,0 +1,98 @@
+package oth.shipeditor.components.datafiles.trees;
+
+import oth.shipeditor.components.datafiles.entities.CSVEntry;
+import oth.shipeditor.parsing.FileUtilities;
+import oth.shipeditor.representation.EntityUsage;
+import oth.shipeditor.representation.GameDataRepository;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableColumnModel;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Non-modal window listing where a data entry is referenced; double click on a row opens its data file.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+final class UsagesWindow extends JPanel {
+
+    private UsagesWindow(List<EntityUsage> usages) {
+        this.setLayout(new BorderLayout());
+        this.setBorder(new EmptyBorder(4, 4, 4, 4));
+        JTable table = new JTable(new UsagesTableModel(usages));
+        table.setAutoCreateRowSorter(true);
+        table.setFillsViewportHeight(true);
+        TableColumnModel columns = table.getColumnModel();
+        columns.getColumn(0).setPreferredWidth(120);
+        columns.getColumn(1).setPreferredWidth(180);
+        columns.getColumn(2).setPreferredWidth(400);
+        table.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() != 2) return;
+                int viewRow = table.rowAtPoint(e.getPoint());
+                if (viewRow < 0) return;
+                Path file = usages.get(table.convertRowIndexToModel(viewRow)).file();
+                if (file != null) {
+                    FileUtilities.openPathInDesktop(file);
+                }
+            }
+        });
+        this.add(new JScrollPane(table), BorderLayout.CENTER);
+        this.add(new JLabel(usages.size() + " usages found"), BorderLayout.PAGE_END);
+    }
+
+    static void showUsages(CSVEntry entry) {
+        List<EntityUsage> usages = GameDataRepository.findUsages(entry);
+        JDialog window = new JDialog((Frame) null, "Usages of " + entry.getID(), false);
+        window.setDefaultCloseOperation(WindowConstants.DISPOSE_ON_CLOSE);
+        window.setContentPane(new UsagesWindow(usages));
+        window.setSize(720, 360);
+        window.setLocationRelativeTo(null);
+        window.setVisible(true);
+    }
+
+    private static final class UsagesTableModel extends AbstractTableModel {
+
+        private static final String[] COLUMNS = {"Usage", "ID", "File"};
+
+        private final List<EntityUsage> rows;
+
+        private UsagesTableModel(List<EntityUsage> usages) {
+            this.rows = usages;
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            EntityUsage usage = rows.get(rowIndex);
+            return switch (columnIndex) {
+                case 0 -> usage.kind().toString();
+                case 1 -> usage.entityID();
+                default -> usage.file() == null ? "" : usage.file().toString();
+            };
+        }
+
+    }
+
+}
@@ -4,14 +4,14 @@ import lombok.Getter;
 import lombok.Setter;
 import oth.shipeditor.communication.EventBus;
 import oth.shipeditor.communication.events.files.WeaponTreeReloadQueued;
-import oth.shipeditor.components.datafiles.entities.CSVEntry;
 import oth.shipeditor.components.datafiles.entities.WeaponCSVEntry;
+import oth.shipeditor.components.viewer.entities.weapon.SlotData;
 import oth.shipeditor.components.viewer.entities.weapon.WeaponSlotPoint;
 import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.FacetIndex;
 import oth.shipeditor.representation.GameDataRepository;
 import oth.shipeditor.representation.weapon.WeaponSize;
 import oth.shipeditor.representation.weapon.WeaponType;
-import oth.shipeditor.utility.Errors;
 import oth.shipeditor.utility.components.ComponentUtilities;
 
 import javax.swing.*;
@@ -20,6 +20,7 @@ import java.awt.*;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * @author Ontheheavens
@@ -51,6 +52,9 @@ public class WeaponFilterPanel extends JPanel {
     @SuppressWarnings("StaticCollection")
     private static Set<JCheckBox> allFilterBoxes;
 
+    @SuppressWarnings("StaticCollection")
+    private static List<FacetCheckBox> facetBoxes;
+
     static {
         for (WeaponType type : WeaponType.values()) {
             TYPE_FILTERS.put(type, true);
@@ -80,6 +84,7 @@ public class WeaponFilterPanel extends JPanel {
         filtersPane.setAlignmentY(0);
 
         allFilterBoxes = new HashSet<>();
+        facetBoxes = new ArrayList<>();
 
         JPanel buttonContainer = WeaponFilterPanel.getSelectionButtonsPanel();
 
@@ -104,6 +109,7 @@ public class WeaponFilterPanel extends JPanel {
         verticalScrollBar.setUnitIncrement(12);
 
         this.add(scrollContainer, BorderLayout.CENTER);
+        WeaponFilterPanel.selectEntries(GameDataRepository.getWeaponFacets());
     }
 
     private static JPanel getSelectionButtonsPanel() {
@@ -140,67 +146,73 @@ public class WeaponFilterPanel extends JPanel {
         }
     }
 
-    static Map<Path, List<WeaponCSVEntry>> getFilteredEntries() {
-        GameDataRepository gameData = SettingsManager.getGameData();
-        Map<Path, List<WeaponCSVEntry>> weaponEntriesByPackage = gameData.getWeaponEntriesByPackage();
-
-        if (weaponEntriesByPackage == null) return null;
-
-        Map<Path, List<WeaponCSVEntry>> filteredResult = new HashMap<>();
-        for (Map.Entry<Path, List<WeaponCSVEntry>> entryPackage : weaponEntriesByPackage.entrySet()) {
-            List<WeaponCSVEntry> entryList = entryPackage.getValue();
-            List<WeaponCSVEntry> filteredList = entryList.stream()
-                    .filter(WeaponFilterPanel::shouldDisplayByPackage)
-                    .filter(WeaponFilterPanel::shouldDisplayByType)
-                    .filter(WeaponFilterPanel::shouldDisplayBySize)
-                    .filter(WeaponFilterPanel::shouldDisplayByHandle)
-                    .filter(WeaponFilterPanel::shouldDisplayBySlot)
-                    .toList();
-            if (!filteredList.isEmpty()) {
-                Path entryPackageKey = entryPackage.getKey();
-                filteredResult.put(entryPackageKey, filteredList);
-            }
+    /**
+     * Expected to be called after effective type or size of a slot changed; refilters if the slot is filtered by.
+     */
+    static void slotFittingChanged(WeaponSlotPoint slotPoint) {
+        if (filterBySelectedSlot && slotPoint == lastSelectedSlot) {
+            EventBus.publish(new WeaponTreeReloadQueued());
         }
-        return filteredResult;
     }
 
-    private static boolean shouldDisplayBySlot(WeaponCSVEntry entry) {
-        if (lastSelectedSlot != null && filterBySelectedSlot) {
-            return WeaponType.isWeaponFitting(lastSelectedSlot, entry);
-        }
-        return true;
-    }
+    static Map<Path, List<WeaponCSVEntry>> getFilteredEntries() {
+        GameDataRepository gameData = SettingsManager.getGameData();
+        if (gameData.getWeaponEntriesByPackage() == null) return null;
 
-    private static boolean shouldDisplayBySize(WeaponCSVEntry entry) {
-        WeaponSize weaponSize = entry.getSize();
-        return SIZE_FILTERS.get(weaponSize);
+        FacetIndex<WeaponCSVEntry> facets = GameDataRepository.getWeaponFacets();
+        return facets.groupByPackage(WeaponFilterPanel.selectEntries(facets));
     }
 
+    static List<WeaponCSVEntry> filterEntries(List<WeaponCSVEntry> entryList) {
+        FacetIndex<WeaponCSVEntry> facets = GameDataRepository.getWeaponFacets();
+        BitSet selection = WeaponFilterPanel.selectEntries(facets);
+        return entryList.stream()
+                .filter(entry -> facets.isSelected(selection, entry))
+                .toList();
+    }
 
-    private static boolean shouldDisplayByType(WeaponCSVEntry entry) {
-        WeaponType weaponType = entry.getType();
-        if (weaponType == null) {
-            NullPointerException exception = new NullPointerException("Weapon type not found!");
-            Errors.showFileError("Null weapon type was found in weapon spec: " + entry.getWeaponID(), exception);
-            Errors.printToStream(exception);
+    /**
+     * Intersects facet bitsets of enabled packages, types and sizes with text and slot matches;
+     * refreshes entry counts of filter checkboxes on the way.
+     */
+    private static BitSet selectEntries(FacetIndex<WeaponCSVEntry> facets) {
+        BitSet base = facets.selectAll();
+        if (currentTextFilter != null && !currentTextFilter.isEmpty()) {
+            base.and(facets.selectEntries(GameDataRepository.searchEntries(currentTextFilter)));
         }
-        return TYPE_FILTERS.get(weaponType);
-    }
+        if (lastSelectedSlot != null && filterBySelectedSlot) {
+            base.and(WeaponFilterPanel.selectFitting(facets, lastSelectedSlot));
+        }
+        Map<String, Predicate<Object>> enabled = new LinkedHashMap<>();
+        if (packageFilters != null) {
+            enabled.put(FacetIndex.PACKAGE, folder -> !Boolean.FALSE.equals(packageFilters.get(folder)));
+        }
+        enabled.put(FacetIndex.TYPE, type -> Boolean.TRUE.equals(TYPE_FILTERS.get(type)));
+        enabled.put(FacetIndex.SIZE, size -> Boolean.TRUE.equals(SIZE_FILTERS.get(size)));
 
-    private static boolean shouldDisplayByPackage(CSVEntry entry) {
-        Path folderPath = entry.getPackageFolderPath();
-        return packageFilters.get(folderPath);
+        Map<String, Map<Object, Integer>> counts = new HashMap<>();
+        BitSet selection = facets.filter(base, enabled, counts);
+        if (facetBoxes != null && facets.size() > 0) {
+            facetBoxes.forEach(box -> box.showCount(counts));
+        }
+        return selection;
     }
 
-    private static boolean shouldDisplayByHandle(WeaponCSVEntry entry) {
-        if (currentTextFilter == null || currentTextFilter.isEmpty()) return true;
-        String currentInput = currentTextFilter.toLowerCase(Locale.ROOT);
-        String name = entry.toString();
-        if (name.toLowerCase(Locale.ROOT).contains(currentInput)) {
-            return true;
+    /**
+     * Fitting is decided once per weapon type and size from fitting table, then applied to facet bitsets.
+     */
+    private static BitSet selectFitting(FacetIndex<WeaponCSVEntry> facets, SlotData slot) {
+        BitSet result = new BitSet(facets.size());
+        for (WeaponType weaponType : WeaponType.values()) {
+            for (WeaponSize weaponSize : WeaponSize.values()) {
+                if (WeaponType.isFitting(slot.getWeaponType(), slot.getWeaponSize(), weaponType, weaponSize)) {
+                    BitSet fitting = facets.select(FacetIndex.TYPE, weaponType);
+                    fitting.and(facets.select(FacetIndex.SIZE, weaponSize));
+                    result.or(fitting);
+                }
+            }
         }
-        String id = entry.getWeaponID();
-        return id.toLowerCase(Locale.ROOT).contains(currentInput);
+        return result;
     }
 
     private static JPanel createPackageFilters() {
@@ -220,7 +232,9 @@ public class WeaponFilterPanel extends JPanel {
             buttonContainer.setBorder(new EmptyBorder(4, 0, 0, 0));
 
             JCheckBox checkBox = new JCheckBox();
-            checkBox.setText(path.getFileName().toString());
+            String label = path.getFileName().toString();
+            checkBox.setText(label);
+            facetBoxes.add(new FacetCheckBox(FacetIndex.PACKAGE, path, label, checkBox));
             checkBox.setSelected(entry.getValue());
             checkBox.addActionListener(e -> {
                 if (checkBox.isSelected()) {
@@ -263,6 +277,7 @@ public class WeaponFilterPanel extends JPanel {
 
             JCheckBox checkBox = new JCheckBox();
             checkBox.setText(type.getDisplayedName());
+            facetBoxes.add(new FacetCheckBox(FacetIndex.TYPE, type, type.getDisplayedName(), checkBox));
             checkBox.setSelected(TYPE_FILTERS.get(type));
             checkBox.addActionListener(e -> {
                 if (checkBox.isSelected()) {
@@ -304,6 +319,7 @@ public class WeaponFilterPanel extends JPanel {
 
             JCheckBox checkBox = new JCheckBox();
             checkBox.setText(size.getDisplayedName());
+            facetBoxes.add(new FacetCheckBox(FacetIndex.SIZE, size, size.getDisplayedName(), checkBox));
             checkBox.setSelected(SIZE_FILTERS.get(size));
             checkBox.addActionListener(e -> {
                 if (checkBox.isSelected()) {
@@ -3,7 +3,9 @@ package oth.shipeditor.components.datafiles.trees;
 import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.communication.EventBus;
 import oth.shipeditor.communication.events.components.SelectWeaponDataEntry;
+import oth.shipeditor.communication.events.files.EntryPackagesSet;
 import oth.shipeditor.communication.events.files.WeaponTreeReloadQueued;
+import oth.shipeditor.communication.events.viewer.points.SlotFittingChanged;
 import oth.shipeditor.components.datafiles.entities.WeaponCSVEntry;
 import oth.shipeditor.components.viewer.layers.ship.FeaturesOverseer;
 import oth.shipeditor.components.viewer.layers.weapon.WeaponSprites;
@@ -34,6 +36,7 @@ import javax.swing.tree.TreePath;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -118,6 +121,18 @@ public class WeaponsTreePanel extends CSVDataTreePanel<WeaponCSVEntry>{
                 this.reload();
             }
         });
+        EventBus.subscribe(event -> {
+            if (event instanceof SlotFittingChanged checked) {
+                WeaponFilterPanel.slotFittingChanged(checked.slot());
+            }
+        });
+        EventBus.subscribe(event -> {
+            if (event instanceof EntryPackagesSet checked && checked.entryType() == WeaponCSVEntry.class) {
+                Map<Path, Boolean> filterEntries = new LinkedHashMap<>();
+                checked.packageFolders().forEach(folder -> filterEntries.put(folder, true));
+                WeaponFilterPanel.setPackageFilters(filterEntries);
+            }
+        });
         EventBus.subscribe(event -> {
             if (event instanceof SelectWeaponDataEntry checked) {
                 WeaponCSVEntry entry = checked.entry();
@@ -252,25 +267,8 @@ public class WeaponsTreePanel extends CSVDataTreePanel<WeaponCSVEntry>{
                 continue;
             }
 
-            DefaultMutableTreeNode packageRoot;
-            if (SettingsManager.isCoreFolder(folderName)) {
-                GameDataPackage corePackage = SettingsManager.getCorePackage();
-                packageRoot = new DefaultMutableTreeNode(corePackage);
-                for (WeaponCSVEntry entry : entryFolder.getValue()) {
-                    MutableTreeNode entryNode = new DefaultMutableTreeNode(entry);
-                    packageRoot.add(entryNode);
-                    nodeCount++;
-                }
-            } else {
-                GameDataPackage modPackage = settings.getPackage(folderName);
-                packageRoot = new DefaultMutableTreeNode(modPackage);
-
-                for (WeaponCSVEntry entry : entryFolder.getValue()) {
-                    MutableTreeNode entryNode = new DefaultMutableTreeNode(entry);
-                    packageRoot.add(entryNode);
-                    nodeCount++;
-                }
-            }
+            DefaultMutableTreeNode packageRoot = WeaponsTreePanel.createPackageNode(path, entryFolder.getValue());
+            nodeCount += packageRoot.getChildCount();
 
             DefaultMutableTreeNode rootNode = getRootNode();
             rootNode.add(packageRoot);
@@ -279,6 +277,31 @@ public class WeaponsTreePanel extends CSVDataTreePanel<WeaponCSVEntry>{
         setLoadedStatus();
     }
 
+    @Override
+    DefaultMutableTreeNode createPackageSubtree(Path packageFolder) {
+        List<WeaponCSVEntry> packageEntries = DataTreePanel.getPackageEntries(getPackageList(), packageFolder);
+        if (packageEntries == null) return null;
+        List<WeaponCSVEntry> filteredEntries = WeaponFilterPanel.filterEntries(packageEntries);
+        return WeaponsTreePanel.createPackageNode(packageFolder, filteredEntries);
+    }
+
+    private static DefaultMutableTreeNode createPackageNode(Path packageFolder, Iterable<WeaponCSVEntry> entries) {
+        String folderName = FileUtilities.extractFolderName(packageFolder.toString());
+        GameDataPackage dataPackage;
+        if (SettingsManager.isCoreFolder(folderName)) {
+            dataPackage = SettingsManager.getCorePackage();
+        } else {
+            Settings settings = SettingsManager.getSettings();
+            dataPackage = settings.getPackage(folderName);
+        }
+        DefaultMutableTreeNode packageRoot = new DefaultMutableTreeNode(dataPackage);
+        for (WeaponCSVEntry entry : entries) {
+            MutableTreeNode entryNode = new DefaultMutableTreeNode(entry);
+            packageRoot.add(entryNode);
+        }
+        return packageRoot;
+    }
+
     @Override
     protected void updateEntryPanel(WeaponCSVEntry selected) {
         JPanel rightPanel = getRightPanel();
@@ -29,6 +29,7 @@ class ArticleTreePanel extends DataTreePanel {
     @Override
     public void reload() {
         reload.run();
+        this.invalidateNodeLookup();
     }
 
     @Override
@@ -0,0 +1,119 @@
+package oth.shipeditor.components.logging;
+
+import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.communication.EventBus;
+import oth.shipeditor.communication.events.components.DiagnosticsRecorded;
+import oth.shipeditor.utility.Errors;
+
+import javax.swing.*;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects problems found while loading and initializing game data, in place of modal pop-ups.
+ * Recording only logs and counts the problem; it is safe from any thread and never waits on EDT.
+ * Repeated problems are merged into one record with occurrence count. Cleared at the start of every full load.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+public final class Diagnostics {
+
+    private static final int MAX_RECORDS = 10_000;
+
+    private static final Map<Diagnostic, AtomicInteger> occurrences = new ConcurrentHashMap<>();
+
+    private static final AtomicBoolean notificationQueued = new AtomicBoolean();
+
+    private Diagnostics() {}
+
+    public static void warning(Path file, String entityID, String cause) {
+        Diagnostics.record(new Diagnostic(Severity.WARNING, file, entityID, cause), null);
+    }
+
+    public static void error(Path file, String entityID, String cause) {
+        Diagnostics.error(file, entityID, cause, null);
+    }
+
+    /**
+     * @param exception printed to error stream once, at the time of recording; not kept in the record.
+     */
+    public static void error(Path file, String entityID, String cause, Throwable exception) {
+        Diagnostics.record(new Diagnostic(Severity.ERROR, file, entityID, cause), exception);
+    }
+
+    private static void record(Diagnostic diagnostic, Throwable exception) {
+        if (diagnostic.severity() == Severity.ERROR) {
+            log.error(diagnostic.describe());
+        } else {
+            log.warn(diagnostic.describe());
+        }
+        if (exception != null) {
+            Errors.printToStream(exception);
+        }
+        AtomicInteger count = occurrences.get(diagnostic);
+        if (count == null) {
+            if (occurrences.size() >= MAX_RECORDS) return;
+            count = occurrences.computeIfAbsent(diagnostic, key -> new AtomicInteger());
+        }
+        count.incrementAndGet();
+        if (notificationQueued.compareAndSet(false, true)) {
+            SwingUtilities.invokeLater(() -> {
+                notificationQueued.set(false);
+                EventBus.publish(new DiagnosticsRecorded(occurrences.size()));
+            });
+        }
+    }
+
+    public static void clear() {
+        occurrences.clear();
+    }
+
+    public static boolean isEmpty() {
+        return occurrences.isEmpty();
+    }
+
+    /**
+     * @return snapshot of records, errors first, then by file and entity.
+     */
+    public static List<Recorded> getRecorded() {
+        List<Recorded> result = new ArrayList<>(occurrences.size());
+        occurrences.forEach((diagnostic, count) -> result.add(new Recorded(diagnostic, count.get())));
+        result.sort(Comparator.comparing((Recorded recorded) -> recorded.diagnostic().severity()).reversed()
+                .thenComparing(recorded -> String.valueOf(recorded.diagnostic().file()))
+                .thenComparing(recorded -> String.valueOf(recorded.diagnostic().entityID())));
+        return result;
+    }
+
+    public enum Severity {
+        WARNING, ERROR
+    }
+
+    /**
+     * @param file data file the problem was found in; NULL if not tied to a single file.
+     * @param entityID ID of the hull, variant, weapon or other entity affected; NULL if not known.
+     */
+    public record Diagnostic(Severity severity, Path file, String entityID, String cause) {
+
+        String describe() {
+            StringBuilder builder = new StringBuilder(cause);
+            if (entityID != null) {
+                builder.append(" [").append(entityID).append("]");
+            }
+            if (file != null) {
+                builder.append(" at: ").append(file);
+            }
+            return builder.toString();
+        }
+
+    }
+
+    public record Recorded(Diagnostic diagnostic, int count) {}
+
+}
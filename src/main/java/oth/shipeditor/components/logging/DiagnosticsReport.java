@@ -0,0 +1,154 @@
+package oth.shipeditor.components.logging;
+
+import oth.shipeditor.communication.EventBus;
+import oth.shipeditor.communication.events.components.DiagnosticsRecorded;
+import oth.shipeditor.communication.events.components.LoadingActionFired;
+import oth.shipeditor.parsing.loading.FileLoading;
+import oth.shipeditor.persistence.SettingsManager;
+
+import javax.swing.*;
+import javax.swing.border.EmptyBorder;
+import javax.swing.table.AbstractTableModel;
+import javax.swing.table.TableColumnModel;
+import java.awt.*;
+import java.util.List;
+
+/**
+ * Non-modal window listing problems from {@link Diagnostics}; one instance is reused and refreshed in place.
+ * Opens by itself after a load that recorded problems, or when problems are recorded outside of loading,
+ * unless file error pop-ups are disabled in settings.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public final class DiagnosticsReport extends JPanel {
+
+    private static DiagnosticsReport instance;
+
+    private static JDialog window;
+
+    private final ReportTableModel tableModel;
+
+    private final JLabel summary;
+
+    private DiagnosticsReport() {
+        this.setLayout(new BorderLayout());
+        this.setBorder(new EmptyBorder(4, 4, 4, 4));
+        tableModel = new ReportTableModel();
+        JTable table = new JTable(tableModel);
+        table.setAutoCreateRowSorter(true);
+        table.setFillsViewportHeight(true);
+        TableColumnModel columns = table.getColumnModel();
+        columns.getColumn(0).setPreferredWidth(60);
+        columns.getColumn(1).setPreferredWidth(40);
+        columns.getColumn(2).setPreferredWidth(120);
+        columns.getColumn(3).setPreferredWidth(320);
+        columns.getColumn(4).setPreferredWidth(320);
+        this.add(new JScrollPane(table), BorderLayout.CENTER);
+
+        JPanel bottomPanel = new JPanel(new BorderLayout());
+        summary = new JLabel();
+        bottomPanel.add(summary, BorderLayout.LINE_START);
+        JButton clearButton = new JButton("Clear");
+        clearButton.addActionListener(e -> {
+            Diagnostics.clear();
+            this.refresh();
+        });
+        bottomPanel.add(clearButton, BorderLayout.LINE_END);
+        this.add(bottomPanel, BorderLayout.PAGE_END);
+    }
+
+    /**
+     * Expected to be called once on EDT during startup.
+     */
+    public static void initListening() {
+        EventBus.subscribe(event -> {
+            if (event instanceof DiagnosticsRecorded) {
+                if (window != null && window.isVisible()) {
+                    instance.refresh();
+                } else if (!FileLoading.isLoadingInProgress() && SettingsManager.areFileErrorPopupsEnabled()) {
+                    DiagnosticsReport.showWindow();
+                }
+            }
+        });
+        EventBus.subscribe(event -> {
+            if (event instanceof LoadingActionFired(boolean started) && !started) {
+                if (!Diagnostics.isEmpty() && SettingsManager.areFileErrorPopupsEnabled()) {
+                    DiagnosticsReport.showWindow();
+                } else if (window != null && window.isVisible()) {
+                    instance.refresh();
+                }
+            }
+        });
+    }
+
+    public static void showWindow() {
+        if (window == null) {
+            instance = new DiagnosticsReport();
+            window = new JDialog((Frame) null, "Loading diagnostics", false);
+            window.setDefaultCloseOperation(WindowConstants.HIDE_ON_CLOSE);
+            window.setContentPane(instance);
+            window.setSize(900, 400);
+            window.setLocationRelativeTo(null);
+        }
+        instance.refresh();
+        if (!window.isVisible()) {
+            window.setVisible(true);
+        }
+    }
+
+    private void refresh() {
+        List<Diagnostics.Recorded> recorded = Diagnostics.getRecorded();
+        tableModel.setRows(recorded);
+        long errors = recorded.stream()
+                .filter(entry -> entry.diagnostic().severity() == Diagnostics.Severity.ERROR)
+                .count();
+        summary.setText(errors + " errors, " + (recorded.size() - errors) + " warnings");
+    }
+
+    private static final class ReportTableModel extends AbstractTableModel {
+
+        private static final String[] COLUMNS = {"Severity", "Count", "Entity", "Cause", "File"};
+
+        private List<Diagnostics.Recorded> rows = List.of();
+
+        void setRows(List<Diagnostics.Recorded> updated) {
+            this.rows = updated;
+            this.fireTableDataChanged();
+        }
+
+        @Override
+        public int getRowCount() {
+            return rows.size();
+        }
+
+        @Override
+        public int getColumnCount() {
+            return COLUMNS.length;
+        }
+
+        @Override
+        public String getColumnName(int column) {
+            return COLUMNS[column];
+        }
+
+        @Override
+        public Class<?> getColumnClass(int columnIndex) {
+            return columnIndex == 1 ? Integer.class : String.class;
+        }
+
+        @Override
+        public Object getValueAt(int rowIndex, int columnIndex) {
+            Diagnostics.Recorded recorded = rows.get(rowIndex);
+            Diagnostics.Diagnostic diagnostic = recorded.diagnostic();
+            return switch (columnIndex) {
+                case 0 -> diagnostic.severity().toString();
+                case 1 -> recorded.count();
+                case 2 -> diagnostic.entityID() == null ? "" : diagnostic.entityID();
+                case 3 -> diagnostic.cause();
+                default -> diagnostic.file() == null ? "" : diagnostic.file().toString();
+            };
+        }
+
+    }
+
+}
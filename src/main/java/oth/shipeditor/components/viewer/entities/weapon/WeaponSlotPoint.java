@@ -2,6 +2,8 @@ package oth.shipeditor.components.viewer.entities.weapon;
 
 import lombok.Getter;
 import lombok.Setter;
+import oth.shipeditor.communication.EventBus;
+import oth.shipeditor.communication.events.viewer.points.SlotFittingChanged;
 import oth.shipeditor.components.CoordsDisplayMode;
 import oth.shipeditor.components.datafiles.entities.CSVEntry;
 import oth.shipeditor.components.instrument.EditorInstrument;
@@ -33,10 +35,8 @@ public class WeaponSlotPoint extends AngledPoint implements SlotPoint {
     @Getter @Setter
     private String id;
 
-    @Setter
     private WeaponSize weaponSize;
 
-    @Setter
     private WeaponType weaponType;
 
     @Setter
@@ -51,7 +51,7 @@ public class WeaponSlotPoint extends AngledPoint implements SlotPoint {
     @Setter
     private double angle;
 
-    @Getter @Setter
+    @Getter
     private WeaponSlotOverride skinOverride;
 
     @Getter @Setter
@@ -118,6 +118,21 @@ public class WeaponSlotPoint extends AngledPoint implements SlotPoint {
         return weaponType;
     }
 
+    public void setWeaponType(WeaponType newType) {
+        this.weaponType = newType;
+        EventBus.publish(new SlotFittingChanged(this));
+    }
+
+    public void setWeaponSize(WeaponSize newSize) {
+        this.weaponSize = newSize;
+        EventBus.publish(new SlotFittingChanged(this));
+    }
+
+    public void setSkinOverride(WeaponSlotOverride override) {
+        this.skinOverride = override;
+        EventBus.publish(new SlotFittingChanged(this));
+    }
+
     public double getArc() {
         if (skinOverride != null && skinOverride.getBoxedArc() != null) {
             return skinOverride.getBoxedArc();
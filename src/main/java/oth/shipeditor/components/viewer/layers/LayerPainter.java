@@ -17,6 +17,7 @@ import oth.shipeditor.undo.EditDispatch;
 import oth.shipeditor.undo.UndoOverseer;
 import oth.shipeditor.utility.Utility;
 import oth.shipeditor.utility.graphics.Sprite;
+import oth.shipeditor.utility.overseers.ImageCache;
 import oth.shipeditor.utility.overseers.StaticController;
 
 import java.awt.*;
@@ -24,6 +25,7 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.NoninvertibleTransformException;
 import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
@@ -47,9 +49,14 @@ public abstract class LayerPainter implements Painter {
 
     private final ViewerLayer parentLayer;
 
-    @Setter
     private Sprite sprite;
 
+    /**
+     * File of the sprite this painter keeps pinned in image cache, so that it is not evicted while displayed.
+     */
+    @Getter(AccessLevel.NONE)
+    private Path pinnedSpriteFile;
+
     @Setter(AccessLevel.PROTECTED)
     private boolean uninitialized = true;
 
@@ -71,6 +78,14 @@ public abstract class LayerPainter implements Painter {
         return new Dimension(spriteImage.getWidth(), spriteImage.getHeight());
     }
 
+    public void setSprite(Sprite updated) {
+        this.sprite = updated;
+        Path previousFile = this.pinnedSpriteFile;
+        this.pinnedSpriteFile = updated == null ? null : updated.getPath();
+        ImageCache.pin(pinnedSpriteFile);
+        ImageCache.unpin(previousFile);
+    }
+
     public BufferedImage getSpriteImage() {
         return sprite.getImage();
     }
@@ -151,6 +166,8 @@ public abstract class LayerPainter implements Painter {
         cleanupPointPainters();
         listeners.forEach(EventBus::unsubscribe);
         UndoOverseer.cleanupRemovedLayer(this);
+        ImageCache.unpin(pinnedSpriteFile);
+        pinnedSpriteFile = null;
     }
 
     protected void cleanupPointPainters() {
@@ -3,6 +3,7 @@ package oth.shipeditor.components.viewer.layers.ship;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.map.ListOrderedMap;
 import oth.shipeditor.components.datafiles.entities.WeaponCSVEntry;
+import oth.shipeditor.components.logging.Diagnostics;
 import oth.shipeditor.components.viewer.entities.BoundPoint;
 import oth.shipeditor.components.viewer.entities.bays.LaunchBay;
 import oth.shipeditor.components.viewer.entities.bays.LaunchPortPoint;
@@ -11,20 +12,17 @@ import oth.shipeditor.components.viewer.entities.weapon.WeaponSlotPoint;
 import oth.shipeditor.components.viewer.layers.weapon.WeaponPainter;
 import oth.shipeditor.components.viewer.painters.points.ship.*;
 import oth.shipeditor.components.viewer.painters.points.ship.features.InstalledFeature;
-import oth.shipeditor.persistence.SettingsManager;
 import oth.shipeditor.representation.ship.EngineSlot;
 import oth.shipeditor.representation.ship.EngineStyle;
 import oth.shipeditor.representation.GameDataRepository;
 import oth.shipeditor.representation.ship.HullSpecFile;
 import oth.shipeditor.representation.ship.VariantFile;
 import oth.shipeditor.representation.weapon.*;
-import oth.shipeditor.utility.Errors;
 import oth.shipeditor.utility.text.StringConstants;
 
 import java.awt.geom.Point2D;
 import java.util.Arrays;
 import java.util.Map;
-import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -227,10 +225,8 @@ public final class ShipPainterInitialization {
                 feature.setContainedInBuiltIns(true);
                 runtimeBuiltIns.put(slotID, feature);
             } else {
-                if (SettingsManager.areFileErrorPopupsEnabled()) {
-                    String message = "Weapon entry for initialized ship (" + shipPainter.getBaseHullId() + ") not found: " + weaponID;
-                    Errors.showFileError(message, new NoSuchElementException(message));
-                }
+                Diagnostics.warning(hullSpecFile.getFilePath(), shipPainter.getBaseHullId(),
+                        "Built-in weapon entry not found: " + weaponID);
             }
 
         });
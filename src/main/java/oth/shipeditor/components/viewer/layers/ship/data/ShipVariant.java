@@ -7,6 +7,7 @@ import oth.shipeditor.components.datafiles.entities.HullmodCSVEntry;
 import oth.shipeditor.components.datafiles.entities.ShipCSVEntry;
 import oth.shipeditor.components.datafiles.entities.WeaponCSVEntry;
 import oth.shipeditor.components.datafiles.entities.WingCSVEntry;
+import oth.shipeditor.components.logging.Diagnostics;
 import oth.shipeditor.components.viewer.layers.ship.ShipLayer;
 import oth.shipeditor.components.viewer.layers.ship.ShipPainter;
 import oth.shipeditor.components.viewer.layers.weapon.WeaponPainter;
@@ -22,7 +23,6 @@ import oth.shipeditor.representation.weapon.WeaponSpecFile;
 import oth.shipeditor.undo.EditDispatch;
 import oth.shipeditor.utility.text.StringValues;
 
-import javax.swing.*;
 import java.nio.file.Path;
 import java.util.*;
 
@@ -291,10 +291,8 @@ public class ShipVariant implements Variant {
                 String weaponID = entry.getValue();
                 WeaponCSVEntry weaponEntry = GameDataRepository.getWeaponByID(weaponID);
                 if (weaponEntry == null) {
-                    JOptionPane.showMessageDialog(null,
-                            "Failed to locate weapon entry for variant, weapon ID: " + weaponID,
-                            StringValues.VARIANT_INITIALIZATION_ERROR,
-                            JOptionPane.ERROR_MESSAGE);
+                    Diagnostics.warning(variantFilePath, variantId,
+                            "Weapon entry not found, skipping in shown variant: " + weaponID);
                     continue;
                 }
                 WeaponSpecFile specFile = weaponEntry.getSpecFile();
@@ -318,17 +316,17 @@ public class ShipVariant implements Variant {
 
         var normalMods = file.getHullMods();
         if (normalMods != null) {
-            this.hullMods = ShipVariant.constructModsList(normalMods);
+            this.hullMods = this.constructModsList(normalMods);
         }
 
         var filePermaMods = file.getPermaMods();
         if (filePermaMods != null) {
-            this.permaMods = ShipVariant.constructModsList(filePermaMods);
+            this.permaMods = this.constructModsList(filePermaMods);
         }
 
         var fileSMods = file.getSMods();
         if (fileSMods != null) {
-            this.sMods = ShipVariant.constructModsList(fileSMods);
+            this.sMods = this.constructModsList(fileSMods);
         }
 
         var fileWings = file.getWings();
@@ -341,26 +339,22 @@ public class ShipVariant implements Variant {
                 if (entry != null) {
                     wings.add(entry);
                 } else {
-                    JOptionPane.showMessageDialog(null,
-                            "Wing entry not found, skipping in shown variant. ID: " + wingID,
-                            StringValues.FILE_LOADING_ERROR,
-                            JOptionPane.ERROR_MESSAGE);
+                    Diagnostics.warning(variantFilePath, variantId,
+                            "Wing entry not found, skipping in shown variant: " + wingID);
                 }
             });
         }
     }
 
-    private static List<HullmodCSVEntry> constructModsList(Iterable<String> rawList) {
+    private List<HullmodCSVEntry> constructModsList(Iterable<String> rawList) {
         List<HullmodCSVEntry> result = new ArrayList<>();
         rawList.forEach(hullmodID -> {
             HullmodCSVEntry entry = GameDataRepository.retrieveHullmodCSVEntryByID(hullmodID);
             if (entry != null) {
                 result.add(entry);
             } else {
-                JOptionPane.showMessageDialog(null,
-                        "Hullmod entry not found, skipping in shown variant. ID: " + hullmodID,
-                        StringValues.FILE_LOADING_ERROR,
-                        JOptionPane.ERROR_MESSAGE);
+                Diagnostics.warning(variantFilePath, variantId,
+                        "Hullmod entry not found, skipping in shown variant: " + hullmodID);
             }
         });
         return result;
@@ -0,0 +1,108 @@
+package oth.shipeditor.menubar;
+
+import oth.shipeditor.parsing.deserialize.StringPool;
+import oth.shipeditor.parsing.loading.DataFileIndex;
+import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.GameDataRepository;
+import oth.shipeditor.representation.LazySpec;
+import oth.shipeditor.utility.overseers.ImageCache;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.Map;
+
+/**
+ * Read-only summary of figures collected during last game data load, for diagnosing memory and loading time.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+final class DataStatisticsPanel extends JPanel {
+
+    private static final int BYTES_IN_KILOBYTE = 1024;
+
+    private final JPanel content;
+
+    private int row;
+
+    DataStatisticsPanel() {
+        this.setLayout(new BorderLayout());
+        content = new JPanel(new GridBagLayout());
+        this.add(content, BorderLayout.CENTER);
+
+        this.addStringPoolSection();
+        this.addFileIndexSection();
+        this.addLazySpecSection();
+        this.addSpriteCacheSection();
+    }
+
+    static void showDialog() {
+        JOptionPane.showMessageDialog(null, new DataStatisticsPanel(),
+                "Game data statistics", JOptionPane.INFORMATION_MESSAGE);
+    }
+
+    private void addStringPoolSection() {
+        StringPool.Statistics statistics = StringPool.getStatistics();
+        this.addHeader("String deduplication");
+        this.addLine("Strings requested:", String.valueOf(statistics.requests()));
+        this.addLine("Distinct strings:", String.valueOf(statistics.distinct()));
+        this.addLine("Duplicates merged:", String.valueOf(statistics.duplicates()));
+        this.addLine("Memory saved:", "~" + statistics.bytesSaved() / BYTES_IN_KILOBYTE + " KB");
+    }
+
+    private void addFileIndexSection() {
+        this.addHeader("Data file index");
+        this.addLine("Indexed packages:", String.valueOf(DataFileIndex.getManifests().size()));
+        this.addLine("Lookup hits:", String.valueOf(DataFileIndex.getHitCount()));
+        this.addLine("Lookup misses:", String.valueOf(DataFileIndex.getMissCount()));
+    }
+
+    private void addLazySpecSection() {
+        GameDataRepository gameData = SettingsManager.getGameData();
+        this.addHeader("Lazily loaded specs");
+        this.addLine("Variants indexed:", String.valueOf(DataStatisticsPanel.countOf(gameData.getAllVariants())));
+        this.addLine("Projectiles indexed:", String.valueOf(DataStatisticsPanel.countOf(gameData.getAllProjectiles())));
+        this.addLine("Deserialized on demand:", String.valueOf(LazySpec.getMaterializedCount()));
+    }
+
+    private void addSpriteCacheSection() {
+        ImageCache.Statistics statistics = ImageCache.getStatistics();
+        this.addHeader("Sprite cache");
+        this.addLine("Hits:", String.valueOf(statistics.hits()));
+        this.addLine("Misses:", String.valueOf(statistics.misses()));
+        this.addLine("Evictions:", String.valueOf(statistics.evictions()));
+        this.addLine("Resident sprites:", statistics.residentImages() + " (" + statistics.pinnedImages() + " pinned)");
+        this.addLine("Resident size:", statistics.residentBytes() / BYTES_IN_KILOBYTE + " KB of "
+                + statistics.budgetBytes() / BYTES_IN_KILOBYTE + " KB");
+    }
+
+    private static int countOf(Map<?, ?> specs) {
+        return specs == null ? 0 : specs.size();
+    }
+
+    private void addHeader(String text) {
+        JLabel header = new JLabel(text);
+        header.setFont(header.getFont().deriveFont(Font.BOLD));
+        GridBagConstraints constraints = new GridBagConstraints();
+        int topInset = row == 0 ? 0 : 8;
+        constraints.gridx = 0;
+        constraints.gridy = row++;
+        constraints.gridwidth = 2;
+        constraints.anchor = GridBagConstraints.LINE_START;
+        constraints.insets = new Insets(topInset, 0, 2, 0);
+        content.add(header, constraints);
+    }
+
+    private void addLine(String name, String value) {
+        GridBagConstraints constraints = new GridBagConstraints();
+        constraints.gridy = row++;
+        constraints.anchor = GridBagConstraints.LINE_START;
+        constraints.insets = new Insets(0, 6, 0, 12);
+        constraints.gridx = 0;
+        content.add(new JLabel(name), constraints);
+        constraints.gridx = 1;
+        constraints.anchor = GridBagConstraints.LINE_END;
+        constraints.insets = new Insets(0, 0, 0, 0);
+        content.add(new JLabel(value), constraints);
+    }
+
+}
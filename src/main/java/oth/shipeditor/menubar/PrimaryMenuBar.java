@@ -11,6 +11,8 @@ import oth.shipeditor.communication.events.viewer.control.CursorSnappingToggled;
 import oth.shipeditor.communication.events.viewer.control.PointSelectionModeChange;
 import oth.shipeditor.communication.events.viewer.control.RotationRoundingToggled;
 import oth.shipeditor.components.viewer.control.ControlPredicates;
+import oth.shipeditor.components.datafiles.PackageConflictsWindow;
+import oth.shipeditor.components.logging.DiagnosticsReport;
 import oth.shipeditor.components.viewer.control.PointSelectionMode;
 import oth.shipeditor.persistence.Settings;
 import oth.shipeditor.persistence.SettingsManager;
@@ -58,9 +60,40 @@ public final class PrimaryMenuBar extends JMenuBar {
                 infoText, JOptionPane.INFORMATION_MESSAGE));
         application.add(projectInfo);
 
+        JMenuItem dataStatistics = new JMenuItem("Game data statistics");
+        dataStatistics.addActionListener(e -> DataStatisticsPanel.showDialog());
+        application.add(dataStatistics);
+
+        JMenuItem loadingDiagnostics = new JMenuItem("Loading diagnostics");
+        loadingDiagnostics.addActionListener(e -> DiagnosticsReport.showWindow());
+        application.add(loadingDiagnostics);
+
+        JMenuItem packageConflicts = new JMenuItem("Package conflicts");
+        packageConflicts.addActionListener(e -> PackageConflictsWindow.showWindow());
+        application.add(packageConflicts);
+
+        JMenuItem spriteCacheBudget = new JMenuItem("Sprite cache budget");
+        spriteCacheBudget.addActionListener(e -> PrimaryMenuBar.showSpriteCacheBudgetDialog());
+        application.add(spriteCacheBudget);
+
         this.add(application);
     }
 
+    private static void showSpriteCacheBudgetDialog() {
+        Settings settings = SettingsManager.getSettings();
+        int current = Math.max(SettingsManager.MIN_SPRITE_CACHE_MEGABYTES, settings.getSpriteCacheMegabytes());
+        JSpinner spinner = new JSpinner(new SpinnerNumberModel(current,
+                SettingsManager.MIN_SPRITE_CACHE_MEGABYTES, 16384, 32));
+        JPanel budgetPanel = new JPanel();
+        budgetPanel.add(new JLabel("Megabytes of decoded sprites kept in memory:"));
+        budgetPanel.add(spinner);
+        int result = JOptionPane.showConfirmDialog(null, budgetPanel, "Sprite cache budget",
+                JOptionPane.OK_CANCEL_OPTION, JOptionPane.PLAIN_MESSAGE);
+        if (result == JOptionPane.OK_OPTION) {
+            settings.setSpriteCacheMegabytes((Integer) spinner.getValue());
+        }
+    }
+
     private static JMenu createThemeOptions() {
         JMenu themeMenu = new JMenu("Theme");
         themeMenu.setIcon(FontIcon.of(FluentUiRegularAL.DARK_THEME_24, 16, Themes.getIconColor()));
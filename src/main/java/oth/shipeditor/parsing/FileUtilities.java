@@ -5,14 +5,19 @@ import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.components.viewer.layers.ViewerLayer;
 import oth.shipeditor.components.viewer.layers.ship.ShipLayer;
 import oth.shipeditor.components.viewer.layers.ship.ShipPainter;
+import oth.shipeditor.parsing.deserialize.PooledKeyDeserializer;
+import oth.shipeditor.parsing.deserialize.PooledStringDeserializer;
 import oth.shipeditor.parsing.loading.FileLoading;
 import oth.shipeditor.persistence.BasicPrettyPrinter;
+import oth.shipeditor.persistence.PackageRegistry;
 import oth.shipeditor.persistence.Settings;
 import oth.shipeditor.persistence.SettingsManager;
 import oth.shipeditor.utility.graphics.Sprite;
@@ -30,9 +35,7 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.LinkedHashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Stream;
 
 /**
  * @author Ontheheavens
@@ -65,6 +68,13 @@ public final class FileUtilities {
         mapper.configure(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS.mappedFeature(), true);
         mapper.configure(JsonReadFeature.ALLOW_LEADING_PLUS_SIGN_FOR_NUMBERS.mappedFeature(), true);
 
+        SimpleModule stringPooling = new SimpleModule("StringPooling");
+        stringPooling.addDeserializer(String.class, new PooledStringDeserializer());
+        stringPooling.addKeyDeserializer(String.class, new PooledKeyDeserializer());
+        mapper.registerModule(stringPooling);
+        // Generated property accessors in place of reflection; falls back to reflection where it cannot apply.
+        mapper.registerModule(new BlackbirdModule());
+
         DefaultPrettyPrinter prettyPrinter = new BasicPrettyPrinter().createInstance();
         mapper.setDefaultPrettyPrinter(prettyPrinter);
 
@@ -130,8 +140,6 @@ public final class FileUtilities {
     public static Map<Path, File> getFileFromPackages(Path targetFile) {
         Settings settings = SettingsManager.getSettings();
 
-        List<Path> allModFolders = SettingsManager.getAllModFolders();
-
         Path coreFolderPath = Path.of(settings.getCoreFolderPath());
 
         Path coreFilePath = coreFolderPath.resolve(targetFile);
@@ -139,13 +147,13 @@ public final class FileUtilities {
         Map<Path, File> matchingFiles = new LinkedHashMap<>();
         matchingFiles.put(coreFolderPath, coreFilePath.toFile());
 
-        try (Stream<Path> modDirectories = allModFolders.stream()) {
-            modDirectories.forEach(modDir -> {
-                Path targetFilePath = modDir.resolve(targetFile);
-                if (Files.exists(targetFilePath)) {
-                    matchingFiles.put(modDir, targetFilePath.toFile());
-                }
-            });
+        for (PackageRegistry.GamePackage gamePackage : PackageRegistry.getActivePackages()) {
+            if (gamePackage.core() || !gamePackage.mayContain(targetFile)) continue;
+            Path modDir = gamePackage.folder();
+            Path targetFilePath = modDir.resolve(targetFile);
+            if (Files.exists(targetFilePath)) {
+                matchingFiles.put(modDir, targetFilePath.toFile());
+            }
         }
         return matchingFiles;
     }
@@ -216,17 +224,7 @@ public final class FileUtilities {
 
     public static boolean isFileWithinGamePackages(File file) {
         Path filePath = file.toPath();
-
-        if (filePath.startsWith(SettingsManager.getCoreFolderPath())) {
-            return true;
-        }
-        for (Path modFolder : SettingsManager.getAllModFolders()) {
-            if (filePath.startsWith(modFolder)) {
-                return true;
-            }
-        }
-
-        return false;
+        return PackageRegistry.findContaining(filePath) != null;
     }
 
     public static String extractFolderName(String path) {
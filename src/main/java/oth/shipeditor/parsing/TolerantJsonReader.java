@@ -0,0 +1,204 @@
+package oth.shipeditor.parsing;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Streaming reader that rewrites Starsector-flavoured JSON into input Jackson accepts, in a single pass:
+ * strips {@code #} comments, quotes unquoted identifiers, turns {@code ;} separators into commas,
+ * drops {@code f}/{@code d} number suffixes and leading zeros. Contents of quoted strings are passed through as-is.
+ * Well-formed JSON comes out unchanged, so the reader can be applied to every data file without a retry pass.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@SuppressWarnings("MagicCharacter")
+public final class TolerantJsonReader extends Reader {
+
+    private static final int NONE = -2;
+
+    private static final char QUOTES = '"';
+
+    private final Reader source;
+
+    private final StringBuilder pending = new StringBuilder();
+
+    private int pendingPosition;
+
+    private int lookahead = NONE;
+
+    private boolean started;
+
+    private boolean finished;
+
+    public TolerantJsonReader(Reader source) {
+        this.source = source;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) throws IOException {
+        if (length == 0) return 0;
+        while (pending.length() - pendingPosition == 0) {
+            if (finished) return -1;
+            pending.setLength(0);
+            pendingPosition = 0;
+            this.step();
+        }
+        int count = Math.min(length, pending.length() - pendingPosition);
+        pending.getChars(pendingPosition, pendingPosition + count, buffer, offset);
+        pendingPosition += count;
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        source.close();
+    }
+
+    private int next() throws IOException {
+        if (lookahead != NONE) {
+            int result = lookahead;
+            lookahead = NONE;
+            return result;
+        }
+        return source.read();
+    }
+
+    private int peek() throws IOException {
+        if (lookahead == NONE) {
+            lookahead = source.read();
+        }
+        return lookahead;
+    }
+
+    /**
+     * Consumes one token or character from source and appends its corrected form to pending output.
+     */
+    private void step() throws IOException {
+        int current = this.next();
+        if (!started) {
+            started = true;
+            if (current == '\uFEFF') {
+                current = this.next();
+            }
+        }
+        if (current < 0) {
+            finished = true;
+            return;
+        }
+        char character = (char) current;
+        if (character == QUOTES) {
+            this.copyString();
+        } else if (character == '#') {
+            this.skipComment();
+        } else if (character == ';') {
+            pending.append(',');
+        } else if (TolerantJsonReader.isDigit(character) || TolerantJsonReader.startsNumber(character, this.peek())) {
+            this.copyNumber(character);
+        } else if (Character.isLetter(character) || character == '_') {
+            this.copyIdentifier(character);
+        } else {
+            pending.append(character);
+        }
+    }
+
+    private void copyString() throws IOException {
+        pending.append(QUOTES);
+        int current;
+        while ((current = this.next()) >= 0) {
+            char character = (char) current;
+            pending.append(character);
+            if (character == '\\') {
+                int escaped = this.next();
+                if (escaped < 0) break;
+                pending.append((char) escaped);
+            } else if (character == QUOTES) {
+                return;
+            }
+        }
+        finished = true;
+    }
+
+    private void skipComment() throws IOException {
+        int current;
+        while ((current = this.peek()) >= 0) {
+            if (current == '\n' || current == '\r') return;
+            this.next();
+        }
+    }
+
+    private void copyNumber(char first) throws IOException {
+        StringBuilder number = new StringBuilder();
+        number.append(first);
+        while (TolerantJsonReader.isNumberPart(this.peek())) {
+            number.append((char) this.next());
+        }
+        int suffix = this.peek();
+        boolean suffixed = suffix == 'f' || suffix == 'F' || suffix == 'd' || suffix == 'D';
+        if (suffixed) {
+            this.next();
+        }
+        if (TolerantJsonReader.isIdentifierPart(this.peek())) {
+            // Not a number after all; treat the whole run as identifier-like value.
+            if (suffixed) {
+                number.append((char) suffix);
+            }
+            while (TolerantJsonReader.isIdentifierPart(this.peek())) {
+                number.append((char) this.next());
+            }
+            pending.append(QUOTES).append(number).append(QUOTES);
+            return;
+        }
+        pending.append(TolerantJsonReader.stripLeadingZeros(number));
+    }
+
+    private void copyIdentifier(char first) throws IOException {
+        StringBuilder identifier = new StringBuilder();
+        identifier.append(first);
+        while (TolerantJsonReader.isIdentifierPart(this.peek())) {
+            identifier.append((char) this.next());
+        }
+        String word = identifier.toString();
+        if ("true".equals(word) || "false".equals(word) || "null".equals(word)) {
+            pending.append(word);
+        } else {
+            pending.append(QUOTES).append(word).append(QUOTES);
+        }
+    }
+
+    private static CharSequence stripLeadingZeros(StringBuilder number) {
+        int start = (number.charAt(0) == '-' || number.charAt(0) == '+') ? 1 : 0;
+        int index = start;
+        while (index < number.length() - 1 && number.charAt(index) == '0'
+                && TolerantJsonReader.isDigit(number.charAt(index + 1))) {
+            index++;
+        }
+        if (index > start) {
+            number.delete(start, index);
+        }
+        return number;
+    }
+
+    private static boolean startsNumber(char character, int following) {
+        boolean signOrPoint = character == '-' || character == '+' || character == '.';
+        return signOrPoint && following >= 0 && TolerantJsonReader.isDigit((char) following);
+    }
+
+    private static boolean isDigit(char character) {
+        return character >= '0' && character <= '9';
+    }
+
+    private static boolean isNumberPart(int character) {
+        if (character < 0) return false;
+        char value = (char) character;
+        return TolerantJsonReader.isDigit(value) || value == '.' || value == 'e' || value == 'E'
+                || value == '+' || value == '-';
+    }
+
+    private static boolean isIdentifierPart(int character) {
+        if (character < 0) return false;
+        char value = (char) character;
+        return Character.isLetterOrDigit(value) || value == '_' || value == '.' || value == '-'
+                || value == '/' || value == '$';
+    }
+
+}
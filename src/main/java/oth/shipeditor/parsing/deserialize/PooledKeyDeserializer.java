@@ -0,0 +1,18 @@
+package oth.shipeditor.parsing.deserialize;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.KeyDeserializer;
+
+/**
+ * Routes string map keys, such as slot IDs in weapon group mappings, through {@link StringPool}.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public class PooledKeyDeserializer extends KeyDeserializer {
+
+    @Override
+    public Object deserializeKey(String key, DeserializationContext ctxt) {
+        return StringPool.intern(key);
+    }
+
+}
@@ -0,0 +1,21 @@
+package oth.shipeditor.parsing.deserialize;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Routes every deserialized string value through {@link StringPool}.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public class PooledStringDeserializer extends StringDeserializer {
+
+    @Override
+    public String deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        return StringPool.intern(super.deserialize(p, ctxt));
+    }
+
+}
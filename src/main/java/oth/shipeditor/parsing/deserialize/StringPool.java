@@ -0,0 +1,101 @@
+package oth.shipeditor.parsing.deserialize;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load-scoped interning pool for strings of game data: IDs, tags, slot names, sprite paths and CSV cells.
+ * While a load is in progress, every equal string read by Jackson or CSV parsing resolves to one canonical instance;
+ * the pool itself is dropped when the load finishes, canonical instances stay with the repository.
+ * Outside of load the pool passes strings through unchanged.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+public final class StringPool {
+
+    private static final int STRING_HEADER_BYTES = 24;
+
+    private static final int ARRAY_HEADER_BYTES = 16;
+
+    private static final AtomicLong requests = new AtomicLong();
+
+    private static final AtomicLong duplicates = new AtomicLong();
+
+    private static final AtomicLong bytesSaved = new AtomicLong();
+
+    private static volatile Map<String, String> pool;
+
+    /**
+     * Figures of the last finished load, or of the current one while it is in progress.
+     */
+    @Getter
+    private static volatile Statistics lastStatistics = new Statistics(0, 0, 0, 0);
+
+    private StringPool() {}
+
+    public static void open() {
+        requests.set(0);
+        duplicates.set(0);
+        bytesSaved.set(0);
+        pool = new ConcurrentHashMap<>();
+    }
+
+    public static void close() {
+        Map<String, String> current = pool;
+        if (current == null) return;
+        pool = null;
+        lastStatistics = new Statistics(requests.get(), current.size(), duplicates.get(), bytesSaved.get());
+        log.info("String pool closed: {} distinct strings, {} duplicates merged, ~{} KB saved.",
+                current.size(), duplicates.get(), bytesSaved.get() / 1024);
+    }
+
+    public static Statistics getStatistics() {
+        Map<String, String> current = pool;
+        if (current == null) {
+            return lastStatistics;
+        }
+        return new Statistics(requests.get(), current.size(), duplicates.get(), bytesSaved.get());
+    }
+
+    /**
+     * @return canonical instance equal to the passed string if pool is open, else the string itself.
+     */
+    public static String intern(String value) {
+        Map<String, String> current = pool;
+        if (current == null || value == null) return value;
+        requests.incrementAndGet();
+        String canonical = current.putIfAbsent(value, value);
+        if (canonical == null) {
+            return value;
+        }
+        if (canonical != value) {
+            duplicates.incrementAndGet();
+            bytesSaved.addAndGet(StringPool.estimateFootprint(value));
+        }
+        return canonical;
+    }
+
+    /**
+     * Rough retained size of a String with compact strings and compressed references, aligned to 8 bytes.
+     */
+    private static long estimateFootprint(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        long arrayBytes = ARRAY_HEADER_BYTES + (long) value.length() * bytesPerChar;
+        arrayBytes = (arrayBytes + 7) & ~7L;
+        return STRING_HEADER_BYTES + arrayBytes;
+    }
+
+    public record Statistics(long requests, long distinct, long duplicates, long bytesSaved) {}
+
+}
@@ -0,0 +1,147 @@
+package oth.shipeditor.parsing.loading;
+
+import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.persistence.PackageRegistry;
+import oth.shipeditor.persistence.SettingsManager;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Resolves relative data file paths against game packages without walking the file tree on every lookup.
+ * Each package folder is walked once into a {@link PackageManifest}, which also serves file listings to loaders;
+ * the result is kept until the package is invalidated or the index is rebuilt.
+ * Lookup order is the same as before: requesting package first, then core folder, then all mod folders.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+public final class DataFileIndex {
+
+    private static final Map<Path, PackageManifest> packageManifests = new ConcurrentHashMap<>();
+
+    private static final AtomicLong hits = new AtomicLong();
+
+    private static final AtomicLong misses = new AtomicLong();
+
+    private DataFileIndex() {}
+
+    public static long getHitCount() {
+        return hits.get();
+    }
+
+    public static long getMissCount() {
+        return misses.get();
+    }
+
+    public static Collection<PackageManifest> getManifests() {
+        return Collections.unmodifiableCollection(packageManifests.values());
+    }
+
+    /**
+     * Lists packages and drops all package manifests, then walks core and mod folders anew.
+     * Expected to be called from loading thread.
+     */
+    public static void rebuild() {
+        PackageRegistry.refresh();
+        DataFileIndex.rebuild(ForkJoinPool.commonPool(), manifest -> {});
+    }
+
+    /**
+     * @param executor runs one walk per package folder; calling thread waits for all of them.
+     * @param onWalked notified from walking threads as each package is done.
+     */
+    static void rebuild(Executor executor, Consumer<PackageManifest> onWalked) {
+        long start = System.nanoTime();
+        packageManifests.clear();
+        hits.set(0);
+        misses.set(0);
+
+        List<Path> packages = DataFileIndex.getPackageFolders();
+        List<CompletableFuture<PackageManifest>> walks = new ArrayList<>(packages.size());
+        for (Path packageFolder : packages) {
+            walks.add(CompletableFuture.supplyAsync(() -> {
+                PackageManifest manifest = DataFileIndex.getManifest(packageFolder);
+                onWalked.accept(manifest);
+                return manifest;
+            }, executor));
+        }
+        List<PackageManifest> manifests = walks.stream().map(CompletableFuture::join).toList();
+
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        int totalFiles = manifests.stream().mapToInt(PackageManifest::getFileCount).sum();
+        log.info("Data file index built for {} packages, {} files in {} ms.", packages.size(), totalFiles, elapsed);
+    }
+
+    /**
+     * @return core folder followed by mod folders active in loading, regardless of their editor-disabled state.
+     */
+    static List<Path> getPackageFolders() {
+        List<Path> packages = new ArrayList<>();
+        packages.add(SettingsManager.getCoreFolderPath());
+        packages.addAll(PackageRegistry.getActiveModFolders());
+        return packages;
+    }
+
+    /**
+     * @param packageFolder folder whose contents changed or whose state was toggled; re-walked on next lookup.
+     */
+    public static void invalidate(Path packageFolder) {
+        if (packageFolder == null) return;
+        packageManifests.remove(packageFolder.toAbsolutePath().normalize());
+    }
+
+    /**
+     * @param file created or deleted file; manifest of the package that contains it is dropped.
+     */
+    static void invalidateContaining(Path file) {
+        Path normalized = file.toAbsolutePath().normalize();
+        packageManifests.keySet().removeIf(normalized::startsWith);
+    }
+
+    static Path resolve(Path filePath, Path packageFolderPath) {
+        Path result = null;
+        if (packageFolderPath != null) {
+            result = DataFileIndex.lookup(filePath, packageFolderPath);
+        }
+        if (result == null) {
+            result = DataFileIndex.lookup(filePath, SettingsManager.getCoreFolderPath());
+        }
+        if (result == null) {
+            for (Path modFolder : PackageRegistry.getActiveModFolders()) {
+                result = DataFileIndex.lookup(filePath, modFolder);
+                if (result != null) break;
+            }
+        }
+        if (result != null) {
+            hits.incrementAndGet();
+        } else {
+            misses.incrementAndGet();
+        }
+        return result;
+    }
+
+    private static Path lookup(Path filePath, Path packageFolder) {
+        PackageManifest manifest = DataFileIndex.getManifest(packageFolder);
+        return manifest.find(filePath);
+    }
+
+    /**
+     * @return manifest of the package folder; the folder is walked if it was not indexed yet.
+     */
+    public static PackageManifest getManifest(Path packageFolder) {
+        Path key = packageFolder.toAbsolutePath().normalize();
+        return packageManifests.computeIfAbsent(key, PackageManifest::walk);
+    }
+
+}
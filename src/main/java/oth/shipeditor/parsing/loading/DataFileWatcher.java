@@ -0,0 +1,168 @@
+package oth.shipeditor.parsing.loading;
+
+import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.persistence.PackageRegistry;
+import oth.shipeditor.persistence.Settings;
+import oth.shipeditor.persistence.SettingsManager;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches data folders of core and enabled mod packages, handing changed files to {@link IncrementalReload}.
+ * Events are coalesced over a short quiet period, since editors tend to write a file in several steps.
+ * Restarted after every full data load, so that folder set follows package settings.
+ * Top level of "mods" folder and of each "data" folder is watched as well, to keep {@link PackageRegistry} current.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+public final class DataFileWatcher {
+
+    private static final long QUIET_PERIOD_MILLIS = 30;
+
+    private static WatchService watchService;
+
+    private static Thread watcherThread;
+
+    private DataFileWatcher() {}
+
+    static synchronized void restart() {
+        DataFileWatcher.stop();
+        WatchService service;
+        try {
+            service = FileSystems.getDefault().newWatchService();
+        } catch (IOException exception) {
+            log.error("Failed to create data file watcher.", exception);
+            return;
+        }
+        Map<WatchKey, Path> watchedFolders = new HashMap<>();
+        for (Path packageFolder : DataFileWatcher.getWatchedPackages()) {
+            DataFileWatcher.registerTree(service, packageFolder.resolve("data"), watchedFolders);
+        }
+        Settings settings = SettingsManager.getSettings();
+        DataFileWatcher.registerFolder(service, Paths.get(settings.getModFolderPath()), watchedFolders);
+        watchService = service;
+        watcherThread = new Thread(() -> DataFileWatcher.watch(service, watchedFolders), "Data file watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+        log.info("Watching {} data folders for changes.", watchedFolders.size());
+    }
+
+    public static synchronized void stop() {
+        if (watchService == null) return;
+        try {
+            watchService.close();
+        } catch (IOException exception) {
+            log.error("Failed to close data file watcher.", exception);
+        }
+        watchService = null;
+        watcherThread = null;
+    }
+
+    private static List<Path> getWatchedPackages() {
+        List<Path> packages = new ArrayList<>();
+        for (PackageRegistry.GamePackage gamePackage : PackageRegistry.getActivePackages()) {
+            if (gamePackage.isDisabled()) continue;
+            packages.add(gamePackage.folder());
+        }
+        return packages;
+    }
+
+    private static void registerFolder(WatchService service, Path folder, Map<WatchKey, Path> watchedFolders) {
+        if (!Files.isDirectory(folder)) return;
+        try {
+            WatchKey key = folder.register(service, ENTRY_CREATE, ENTRY_DELETE);
+            watchedFolders.put(key, folder);
+        } catch (IOException exception) {
+            log.error("Failed to register folder for watching: {}", folder, exception);
+        }
+    }
+
+    private static void registerTree(WatchService service, Path root, Map<WatchKey, Path> watchedFolders) {
+        if (!Files.isDirectory(root)) return;
+        try {
+            Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attributes)
+                        throws IOException {
+                    WatchKey key = directory.register(service, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                    watchedFolders.put(key, directory);
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException exception) {
+            log.error("Failed to register data folder for watching: {}", root, exception);
+        }
+    }
+
+    private static void watch(WatchService service, Map<WatchKey, Path> watchedFolders) {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = service.take();
+                Set<Path> changed = new LinkedHashSet<>();
+                while (key != null) {
+                    DataFileWatcher.collectChanges(service, key, watchedFolders, changed);
+                    key = service.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS);
+                }
+                if (FileLoading.isLoadingInProgress()) {
+                    log.trace("Full data load in progress, skipping {} changed files.", changed.size());
+                    continue;
+                }
+                IncrementalReload.apply(changed);
+                TextSearchIndex.scheduleUpdate(changed);
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException exception) {
+            log.trace("Data file watcher closed.");
+        }
+    }
+
+    private static void collectChanges(WatchService service, WatchKey key,
+                                       Map<WatchKey, Path> watchedFolders, Set<Path> changed) {
+        Path directory = watchedFolders.get(key);
+        boolean packagesChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW || directory == null) continue;
+            Path file = directory.resolve((Path) event.context());
+            if (event.kind() != ENTRY_MODIFY) {
+                DataFileIndex.invalidateContaining(file);
+                packagesChanged |= DataFileWatcher.isPackageLevel(directory);
+            }
+            if (DataFileWatcher.isModsFolder(directory)) continue;
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(file)) {
+                DataFileWatcher.registerTree(service, file, watchedFolders);
+                continue;
+            }
+            changed.add(file);
+        }
+        if (!key.reset()) {
+            watchedFolders.remove(key);
+        }
+        if (packagesChanged) {
+            PackageRegistry.refresh();
+        }
+    }
+
+    private static boolean isModsFolder(Path directory) {
+        Settings settings = SettingsManager.getSettings();
+        return directory.equals(Paths.get(settings.getModFolderPath()));
+    }
+
+    /**
+     * @return true for "mods" folder and for "data" folder of a package, whose listings the registry holds.
+     */
+    private static boolean isPackageLevel(Path directory) {
+        if (DataFileWatcher.isModsFolder(directory)) return true;
+        if (!"data".equals(directory.getFileName().toString())) return false;
+        PackageRegistry.GamePackage containing = PackageRegistry.findContaining(directory);
+        return containing != null && directory.equals(containing.folder().resolve("data"));
+    }
+
+}
@@ -1,5 +1,7 @@
 package oth.shipeditor.parsing.loading;
 
+import oth.shipeditor.representation.GameDataRepository;
+
 /**
  * @author Ontheheavens
  * @since 28.10.2023
@@ -7,8 +9,22 @@ package oth.shipeditor.parsing.loading;
 public abstract class DataLoadingAction {
 
     /**
-     * @return code that is expected to publish the results of loading process.
+     * @param target repository version being built; written to off EDT, not visible to readers until published.
+     * @return code that is expected to publish the results of loading process; run on EDT after target is published.
+     */
+    public abstract Runnable perform(GameDataRepository target);
+
+    /**
+     * Called by full load; actions that parse spec files count them against the pipeline and honor its cancellation.
+     */
+    Runnable perform(GameDataRepository target, LoadingPipeline pipeline) {
+        return this.perform(target);
+    }
+
+    /**
+     * Called on EDT in place of publishing code when perform failed; target is already published by then.
+     * @param previous version that was published before the load; its collections are copied, not shared.
      */
-    public abstract Runnable perform();
+    public abstract void carryOver(GameDataRepository previous, GameDataRepository target);
 
 }
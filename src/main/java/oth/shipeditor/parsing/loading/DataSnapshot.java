@@ -0,0 +1,178 @@
+package oth.shipeditor.parsing.loading;
+
+import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.utility.Errors;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * On-disk binary snapshot of parsed game data files, written after a full load and consulted on the next one.
+ * Every record is validated against path, size and modification time of its source file;
+ * only files that changed since the snapshot was written are parsed again.
+ * <p>
+ * A warm start still walks every package and reads the whole snapshot before any file is served,
+ * so it saves parsing time but is not free; time of reading is logged on open, time of the whole load by the pipeline.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+public final class DataSnapshot {
+
+    private static final String SNAPSHOT_FILE_NAME = "ship_editor_data.snapshot";
+
+    /**
+     * Snapshotted classes declare their serialVersionUID, so that a recompile keeps the snapshot readable;
+     * expected to be increased whenever any of them changes its serialized fields.
+     */
+    private static final int FORMAT_VERSION = 3;
+
+    private static final String DESERIALIZATION_FILTER = "oth.shipeditor.**;java.**;!*";
+
+    private static final Map<String, SnapshotRecord> current = new ConcurrentHashMap<>();
+
+    private static final AtomicInteger restoredCount = new AtomicInteger();
+
+    private static final AtomicInteger parsedCount = new AtomicInteger();
+
+    private static volatile Map<String, SnapshotRecord> previous;
+
+    private DataSnapshot() {}
+
+    /**
+     * Reads the snapshot of previous session; until {@link #close()} is called, data files are served from it.
+     */
+    static void open() {
+        long start = System.nanoTime();
+        current.clear();
+        restoredCount.set(0);
+        parsedCount.set(0);
+        previous = DataSnapshot.readSnapshot();
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        log.info("Data snapshot opened with {} records in {} ms.", previous.size(), elapsed);
+    }
+
+    /**
+     * Writes the snapshot if any file was parsed anew or disappeared since last session, then releases records.
+     */
+    static void close() {
+        Map<String, SnapshotRecord> previousRecords = previous;
+        if (previousRecords == null) return;
+        previous = null;
+
+        int restored = restoredCount.get();
+        int parsed = parsedCount.get();
+        log.info("Data snapshot: {} files restored, {} files parsed.", restored, parsed);
+
+        boolean changed = parsed > 0 || previousRecords.size() != current.size();
+        if (changed) {
+            DataSnapshot.writeSnapshot(new HashMap<>(current));
+        }
+        current.clear();
+    }
+
+    /**
+     * Releases records without writing, for loads that were cancelled midway.
+     */
+    static void discard() {
+        previous = null;
+        current.clear();
+    }
+
+    /**
+     * @return previously parsed contents of the file if snapshot is open and the file is unchanged, else NULL.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T restore(File file, Class<?> expectedType) {
+        Map<String, SnapshotRecord> previousRecords = previous;
+        if (previousRecords == null) return null;
+
+        String key = file.getAbsolutePath();
+        SnapshotRecord record = previousRecords.get(key);
+        if (record == null || !record.matches(file) || !expectedType.isInstance(record.payload())) {
+            return null;
+        }
+        current.put(key, record);
+        restoredCount.incrementAndGet();
+        return (T) record.payload();
+    }
+
+    /**
+     * @param payload freshly parsed contents of the file; ignored when snapshot is not open or payload is NULL.
+     */
+    static void record(File file, Serializable payload) {
+        if (previous == null || payload == null) return;
+        String key = file.getAbsolutePath();
+        current.put(key, new SnapshotRecord(file.length(), file.lastModified(), payload));
+        parsedCount.incrementAndGet();
+    }
+
+    private static Path getSnapshotPath() {
+        Path applicationDirectory = SettingsManager.getApplicationDirectory();
+        if (applicationDirectory == null) return null;
+        return applicationDirectory.resolve(SNAPSHOT_FILE_NAME);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, SnapshotRecord> readSnapshot() {
+        Path snapshotPath = DataSnapshot.getSnapshotPath();
+        if (snapshotPath == null || !Files.isRegularFile(snapshotPath)) {
+            return new HashMap<>();
+        }
+        try (ObjectInputStream input = new ObjectInputStream(new BufferedInputStream(
+                Files.newInputStream(snapshotPath)))) {
+            input.setObjectInputFilter(ObjectInputFilter.Config.createFilter(DESERIALIZATION_FILTER));
+            int version = input.readInt();
+            if (version != FORMAT_VERSION) {
+                log.info("Data snapshot format is outdated, discarding.");
+                return new HashMap<>();
+            }
+            return (Map<String, SnapshotRecord>) input.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException exception) {
+            // Layout changes missed by format version end up here too; such snapshot is simply rebuilt after this load.
+            log.info("Data snapshot could not be read, discarding: {}", exception.toString());
+            return new HashMap<>();
+        }
+    }
+
+    private static void writeSnapshot(Map<String, SnapshotRecord> records) {
+        Path snapshotPath = DataSnapshot.getSnapshotPath();
+        if (snapshotPath == null) return;
+        long start = System.nanoTime();
+        Path temporary = snapshotPath.resolveSibling(SNAPSHOT_FILE_NAME + ".tmp");
+        try (ObjectOutputStream output = new ObjectOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(temporary)))) {
+            output.writeInt(FORMAT_VERSION);
+            output.writeObject(records);
+        } catch (IOException exception) {
+            log.error("Failed to write data snapshot.");
+            Errors.printToStream(exception);
+            return;
+        }
+        try {
+            Files.move(temporary, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            log.error("Failed to replace data snapshot.");
+            Errors.printToStream(exception);
+            return;
+        }
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        log.info("Data snapshot written with {} records in {} ms.", records.size(), elapsed);
+    }
+
+    private record SnapshotRecord(long size, long modified, Serializable payload) implements Serializable {
+
+        private boolean matches(File file) {
+            return file.length() == size && file.lastModified() == modified;
+        }
+
+    }
+
+}
@@ -1,22 +1,20 @@
 package oth.shipeditor.parsing.loading;
 
-import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.json.JsonReadFeature;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.MappingIterator;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
 import com.fasterxml.jackson.dataformat.csv.CsvParser;
-import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.communication.EventBus;
 import oth.shipeditor.communication.events.components.LoadingActionFired;
-import oth.shipeditor.parsing.FileUtilities;
+import oth.shipeditor.components.logging.Diagnostics;
 import oth.shipeditor.parsing.JsonProcessor;
 import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.CSVRow;
+import oth.shipeditor.representation.CSVTable;
 import oth.shipeditor.representation.GameDataRepository;
+import oth.shipeditor.representation.LazySpec;
 import oth.shipeditor.representation.ship.HullSpecFile;
 import oth.shipeditor.representation.ship.SkinSpecFile;
 import oth.shipeditor.representation.ship.VariantFile;
@@ -36,19 +34,24 @@ import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Reader;
+import java.io.Serializable;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.file.FileVisitOption;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 
 /**
  * @author Ontheheavens
@@ -81,41 +84,74 @@ public final class FileLoading {
     @Getter
     private static final Action loadSpriteAsHull = new LoadSpriteAsNewHull();
 
+    private static final Set<String> VARIANT_HEADER_FIELDS = Set.of(StringConstants.VARIANT_ID,
+            StringConstants.HULL_ID);
+
+    /**
+     * Collected for usage search; weapon IDs are taken only from weapon maps of the groups.
+     */
+    private static final Map<String, String> VARIANT_REFERENCE_FIELDS = Map.of(StringConstants.HULL_MODS, "",
+            StringConstants.PERMA_MODS, "", StringConstants.S_MODS, "", StringConstants.WINGS, "",
+            StringConstants.MODULES, "", StringConstants.WEAPON_GROUPS, StringConstants.WEAPONS);
+
+    private static final Set<String> PROJECTILE_HEADER_FIELDS = Set.of(StringConstants.ID);
+
     @Getter
-    private static boolean loadingInProgress;
+    private static volatile boolean loadingInProgress;
+
+    private static CompletableFuture<?> previousLoading = CompletableFuture.completedFuture(null);
+
+    private static volatile LoadingPipeline latestPipeline;
+
+    /**
+     * Bounded work-stealing pool for loading actions and per-file parsing.
+     * Tasks joined from within the pool help with pending work instead of blocking a worker.
+     */
+    private static final ForkJoinPool loadingPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
     private FileLoading() {}
 
     /**
      * To be called only after all components and settings have been initialized.
+     * If previous load is still running, it is cancelled and the new one starts after it winds down.
      */
     public static CompletableFuture<List<Runnable>> loadGameData() {
+        Diagnostics.clear();
         EventBus.publish(new LoadingActionFired(true));
         loadingInProgress = true;
 
         List<DataLoadingAction> loadActions = List.of(loadShips, loadHullmods, loadHullStyles,
                 loadEngineStyles, loadShipSystems, loadWings, loadWeapons);
 
-        List<CompletableFuture<Runnable>> futures = new ArrayList<>();
-        for (DataLoadingAction action : loadActions) {
-            CompletableFuture<Runnable> future = CompletableFuture.supplyAsync(action::perform);
-            futures.add(future);
+        if (latestPipeline != null) {
+            latestPipeline.cancel();
         }
 
-        CompletableFuture<Void> allOf = CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
-        CompletableFuture<List<Runnable>> allResults = allOf.thenApply(v ->
-                futures.stream().map(CompletableFuture::join).toList()
-        );
-
-        allResults.thenAccept(runnables -> runnables.forEach(Runnable::run));
-        allResults.thenRun(() -> {
+        LoadingPipeline pipeline = new LoadingPipeline(loadActions, loadingPool);
+        latestPipeline = pipeline;
+        CompletableFuture<List<Runnable>> result = pipeline.start(previousLoading, () -> {
+            if (latestPipeline != pipeline) return;
+            latestPipeline = null;
             EventBus.publish(new LoadingActionFired(false));
             loadingInProgress = false;
+            if (pipeline.isCancelled()) return;
             StaticController.reselectCurrentLayer();
             SettingsManager.updateFileFromRuntime();
+            DataFileWatcher.restart();
+            TextSearchIndex.scheduleRebuild();
         });
+        previousLoading = result;
+        return result;
+    }
 
-        return allResults;
+    /**
+     * @return true if there was a running load to cancel.
+     */
+    public static boolean cancelGameDataLoading() {
+        LoadingPipeline pipeline = latestPipeline;
+        if (pipeline == null || pipeline.isCancelled()) return false;
+        pipeline.cancel();
+        return true;
     }
 
     /**
@@ -127,40 +163,33 @@ public final class FileLoading {
             public void actionPerformed(ActionEvent e) {
                 EventBus.publish(new LoadingActionFired(true));
                 loadingInProgress = true;
-                CompletableFuture<Runnable> loadResult = CompletableFuture.supplyAsync(loadAction::perform);
-                CompletableFuture<Void> publishResult = loadResult.thenAccept(Runnable::run);
-                publishResult.thenRun(() -> {
+                GameDataRepository base = SettingsManager.getGameData();
+                GameDataRepository target = new GameDataRepository(base);
+                CompletableFuture<Runnable> loadResult = CompletableFuture.supplyAsync(() -> {
+                    DataFileIndex.rebuild();
+                    return loadAction.perform(target);
+                }, loadingPool);
+                loadResult.thenAccept(publisher -> SwingUtilities.invokeLater(() -> {
+                    if (SettingsManager.getGameData() == base) {
+                        SettingsManager.publishGameData(target);
+                        publisher.run();
+                        target.resolveWinners();
+                    } else {
+                        log.info("Game data was replaced during partial reload, its results are discarded.");
+                    }
                     EventBus.publish(new LoadingActionFired(false));
                     loadingInProgress = false;
                     SettingsManager.updateFileFromRuntime();
-                });
+                }));
             }
         };
     }
 
-    private static Stream<Path> walk(Path start) throws IOException {
-        return Files.walk(start, FileVisitOption.FOLLOW_LINKS);
-    }
-
-    private static Path searchFileInFolder(Path filePath, Path folderPath) {
-        String fileName = filePath.getFileName().toString();
-
-        try (var stream = FileLoading.walk(folderPath)) {
-            List<Path> foundFiles = stream.filter(file -> {
-                String toString = file.getFileName().toString();
-                return toString.equals(fileName);
-            }).toList();
-            for (Path foundFile : foundFiles) {
-                String toString = foundFile.toString();
-                if (toString.endsWith(filePath.toString())) {
-                    return foundFile;
-                }
-            }
-            return null;
-        } catch (IOException e) {
-            Errors.printToStream(e);
-            return null;
-        }
+    /**
+     * Runs a task on the loading pool outside of full loads, e.g. for parsing of a single package.
+     */
+    static <T> CompletableFuture<T> supplyInPool(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, loadingPool);
     }
 
     @SuppressWarnings("NestedTryStatement")
@@ -207,52 +236,60 @@ public final class FileLoading {
 
     /**
      * Searches for the input file, first in passed package folder, then in core data folder, then in mod folders.
+     * Lookups are served from {@link DataFileIndex}; package folders are only walked when not yet indexed.
      * @param filePath should be, for example, Path.of("graphics/icons/intel/investigation.png").
      * @param packageFolderPath supposed parent package, where search will start. Can be null.
      * @return fetched file if it exists, else NULL.
      */
-    @SuppressWarnings("MethodWithMultipleReturnPoints")
     public static File fetchDataFile(Path filePath, Path packageFolderPath) {
         if (filePath == null) {
             log.error("Failed to fetch data file, input path is null.");
             return null;
         }
-        Path coreDataFolder = SettingsManager.getCoreFolderPath();
-        List<Path> otherModFolders = SettingsManager.getAllModFolders();
-        Path result = null;
-
-        if (packageFolderPath != null) {
-            // Search in parent mod package.
-            result = FileLoading.searchFileInFolder(filePath, packageFolderPath);
-        }
-
-        // If not found, search in core folder.
-        if (result == null) {
-            result = FileLoading.searchFileInFolder(filePath, coreDataFolder);
-        }
-        if (result != null) return result.toFile();
-
-        // If not found, search in other mods.
-        for (Path modFolder : otherModFolders) {
-            result = FileLoading.searchFileInFolder(filePath, modFolder);
-            if (result != null) {
-                break;
-            }
-        }
-
+        Path result = DataFileIndex.resolve(filePath, packageFolderPath);
         if (result != null) {
             return result.toFile();
-        } else {
-            log.error("Failed to fetch data file for {}!", filePath.getFileName());
         }
+        log.error("Failed to fetch data file for {}!", filePath.getFileName());
         return null;
     }
 
+    /**
+     * Submits task to loading pool; intended for independent parts of a loading action that can run side by side.
+     */
+    static <T> ForkJoinTask<T> submitLoadingTask(Callable<T> task) {
+        return loadingPool.submit(task);
+    }
+
+    /**
+     * Parses files concurrently on the loading pool. Result list keeps the order of input files,
+     * so callers merge results exactly as with sequential parsing; files that failed to parse yield NULL.
+     * @param pipeline full load the parsing is part of, which counts parsed files and can cancel parsing;
+     * NULL for partial loads and package toggles, which run independently of any full load.
+     */
+    static <T> List<T> parseFiles(List<File> files, Function<File, T> parser, LoadingPipeline pipeline) {
+        if (files.isEmpty()) return List.of();
+        Function<File, T> tracked = pipeline == null ? parser : pipeline.track(parser, files.size());
+        ForkJoinTask<List<T>> task = loadingPool.submit(() -> files.parallelStream().map(tracked).toList());
+        return task.join();
+    }
+
     static HullSpecFile loadHullFile(File file) {
+        HullSpecFile hullSpecFile = FileLoading.parseHullFile(file);
+        if (hullSpecFile != null) {
+            GameDataRepository gameData = SettingsManager.getGameData();
+            gameData.putSpec(hullSpecFile);
+        }
+        return hullSpecFile;
+    }
+
+    /**
+     * Unlike {@link #loadHullFile(File)}, does not register the spec in repository; safe to call concurrently.
+     */
+    static HullSpecFile parseHullFile(File file) {
         HullSpecFile hullSpecFile = FileLoading.loadDataFile(file, ".ship", HullSpecFile.class);
         if (hullSpecFile != null) {
             hullSpecFile.setFilePath(file.toPath());
-            GameDataRepository.putSpec(hullSpecFile);
         }
         return hullSpecFile;
     }
@@ -270,11 +307,13 @@ public final class FileLoading {
         return weaponSpecFile;
     }
 
-    static SkinSpecFile loadSkinFile(File file) {
+    /**
+     * Does not register the spec in repository; safe to call concurrently.
+     */
+    static SkinSpecFile parseSkinFile(File file) {
         SkinSpecFile skinSpecFile = FileLoading.loadDataFile(file, ".skin", SkinSpecFile.class);
         if (skinSpecFile != null) {
             skinSpecFile.setFilePath(file.toPath());
-            GameDataRepository.putSpec(skinSpecFile);
         }
         return skinSpecFile;
     }
@@ -287,6 +326,36 @@ public final class FileLoading {
         return variantFile;
     }
 
+    /**
+     * Reads only variant and hull IDs; variant is deserialized on first access. Safe to call concurrently.
+     */
+    static LazySpec<VariantFile> scanVariantFile(File file, Path containingPackage) {
+        var header = SpecHeaderScanner.scan(file, VARIANT_HEADER_FIELDS, VARIANT_REFERENCE_FIELDS);
+        if (header == null || header.fields().get(StringConstants.VARIANT_ID) == null) return null;
+        return new LazySpec<>(file.toPath(), containingPackage, header.fields(), header.references(), path -> {
+            VariantFile variantFile = FileLoading.loadVariantFile(path.toFile());
+            if (variantFile != null) {
+                variantFile.setContainingPackage(containingPackage);
+            }
+            return variantFile;
+        });
+    }
+
+    /**
+     * Reads only projectile ID; projectile is deserialized on first access. Safe to call concurrently.
+     */
+    static LazySpec<ProjectileSpecFile> scanProjectileFile(File file, Path containingPackage) {
+        Map<String, String> header = SpecHeaderScanner.scan(file, PROJECTILE_HEADER_FIELDS);
+        if (header == null || header.get(StringConstants.ID) == null) return null;
+        return new LazySpec<>(file.toPath(), containingPackage, header, path -> {
+            ProjectileSpecFile projectileFile = FileLoading.loadProjectileFile(path.toFile());
+            if (projectileFile != null) {
+                projectileFile.setContainingPackage(containingPackage);
+            }
+            return projectileFile;
+        });
+    }
+
     static ProjectileSpecFile loadProjectileFile(File file) {
         ProjectileSpecFile projectileFile = FileLoading.loadDataFile(file, ".proj", ProjectileSpecFile.class);
         if (projectileFile != null) {
@@ -301,109 +370,86 @@ public final class FileLoading {
             throw new IllegalArgumentException("Tried to resolve data file with invalid extension!");
         }
 
-        T dataFile;
-        try {
-            ObjectMapper objectMapper = FileUtilities.getConfigured();
-            log.trace("Opening data file: {}", file.getName());
-            dataFile = objectMapper.readValue(file, dataClass);
-        } catch (IOException e) {
-            log.trace("Data file parsing failed, retrying with correction: {}", file.getName());
-
-            dataFile = FileLoading.parseCorrectableJSON(file, dataClass);
-            if (dataFile == null) {
-                log.error("Data file parsing failed conclusively: {}", file.getName());
-                Errors.printToStream(e);
-                if (SettingsManager.areFileErrorPopupsEnabled()) {
-                    Errors.showFileError("Data file parsing failed, exception thrown at: " + file);
-                }
-            }
+        T dataFile = DataSnapshot.restore(file, dataClass);
+        if (dataFile != null) {
+            return dataFile;
+        }
+        log.trace("Opening data file: {}", file.getName());
+        dataFile = FileLoading.parseCorrectableJSON(file, SpecReaders.forClass(dataClass));
+        if (dataFile == null) {
+            Diagnostics.error(file.toPath(), null, "Data file parsing failed conclusively");
+        }
+        if (dataFile instanceof Serializable serializable) {
+            DataSnapshot.record(file, serializable);
         }
         return dataFile;
     }
 
-    @SuppressWarnings("TypeMayBeWeakened")
-    private static <T> T parseCorrectableJSON(File file, Class<T> target) {
-        ObjectMapper objectMapper = FileUtilities.getConfigured();
-
-        TypeFactory typeFactory = objectMapper.getTypeFactory();
-        JavaType javaType = typeFactory.constructType(target);
-
-        return FileLoading.parseCorrectableJSON(file, javaType);
-    }
-
+    /**
+     * Reads the file through {@link JsonProcessor#createTolerantReader(File)}, so both well-formed and
+     * Starsector-flavoured JSON are parsed in one pass.
+     * @return parsed instance, or NULL if the file could not be read.
+     */
     @SuppressWarnings("AssignmentToNull")
-    static <T> T parseCorrectableJSON(File file, JavaType targetType) {
+    static <T> T parseCorrectableJSON(File file, ObjectReader objectReader) {
         T result;
-        ObjectMapper objectMapper = FileUtilities.getConfigured();
-        objectMapper.configure(JsonReadFeature.ALLOW_LEADING_ZEROS_FOR_NUMBERS.mappedFeature(), true);
-
-        String content = JsonProcessor.straightenMalformed(file);
-        try (JsonParser parser = objectMapper.createParser(content)) {
-            result = objectMapper.readValue(parser, targetType);
+        try (Reader source = JsonProcessor.createTolerantReader(file)) {
+            result = objectReader.readValue(source);
         } catch (IOException e) {
-            log.error("Corrected JSON parsing failed: {}", file.getName());
+            log.error("JSON parsing failed: {}", file.getName());
             result = null;
             Errors.printToStream(e);
         }
         return result;
     }
 
-    @SuppressWarnings("WeakerAccess")
-    public static List<File> fetchFilesWithExtension(Path target, String dotlessExtension) {
-        List<File> files = new ArrayList<>();
-        try (Stream<Path> pathStream = FileLoading.walk(target)) {
-            pathStream.filter(path -> {
-                        String toString = path.getFileName().toString();
-                        return toString.endsWith("." + dotlessExtension);
-                    })
-                    .map(Path::toFile)
-                    .forEach(files::add);
-        } catch (IOException exception) {
-            Errors.printToStream(exception);
-        }
-        return files;
-    }
-
-    static List<Map<String, String>> parseCSVTable(Path path) {
+    static List<CSVRow> parseCSVTable(Path path) {
         return FileLoading.parseCSVTable(path, FileLoading.getNormalValidationPredicate());
     }
 
     /**
      * Target CSV file is expected to have a header row and an ID column designated in said header.
      * @param path address of the target file.
-     * @return List of rows where each row is a Map of string keys and string values.
+     * @return List of row views over a columnar table, in file order; NULL if there is no such file.
      */
-    static List<Map<String, String>> parseCSVTable(Path path, Predicate<Map<String, String>> validationPredicate) {
-        CsvMapper csvMapper = new CsvMapper();
-        csvMapper.configure(CsvParser.Feature.IGNORE_TRAILING_UNMAPPABLE, true);
-
-        CsvSchema csvSchema = CsvSchema.emptySchema().withHeader();
+    static List<CSVRow> parseCSVTable(Path path, Predicate<Map<String, String>> validationPredicate) {
         File csvFile = path.toFile();
 
         if (!csvFile.isFile()) {
             return null;
         }
 
-        List<Map<String, String>> csvData = new ArrayList<>();
-        try (MappingIterator<Map<String, String>> iterator = csvMapper.readerFor(Map.class)
-                .with(csvSchema)
-                .readValues(csvFile)) {
+        CSVTable cachedTable = DataSnapshot.restore(csvFile, CSVTable.class);
+        if (cachedTable != null) {
+            cachedTable.setSourceFile(path);
+            return cachedTable.getRows(validationPredicate);
+        }
+
+        CsvMapper csvMapper = new CsvMapper();
+        csvMapper.enable(CsvParser.Feature.WRAP_AS_ARRAY);
+        csvMapper.enable(CsvParser.Feature.SKIP_EMPTY_LINES);
+
+        long start = System.nanoTime();
+        List<String[]> records = new ArrayList<>();
+        boolean complete = true;
+        try (MappingIterator<String[]> iterator = csvMapper.readerFor(String[].class).readValues(csvFile)) {
             while (iterator.hasNext()) {
-                Map<String, String> row = iterator.next();
-                if (validationPredicate.test(row)) {
-                    csvData.add(row);
-                }
+                records.add(iterator.next());
             }
         } catch (Throwable exception) {
-            log.error("Data CSV loading failed: {}", csvFile.getAbsolutePath());
-            Errors.printToStream(exception);
-            if (SettingsManager.areFileErrorPopupsEnabled()) {
-                Errors.showFileError("Failed to parse CSV table (likely semantic errors), " +
-                        "loading incomplete: " + csvFile);
-            }
-            return csvData;
+            complete = false;
+            Diagnostics.error(csvFile.toPath(), null,
+                    "Failed to parse CSV table (likely semantic errors), loading incomplete", exception);
+        }
+        CSVTable table = CSVTable.fromRecords(records);
+        table.setSourceFile(path);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        log.info("CSV table {} parsed: {} rows in {} ms.", csvFile, table.getRowCount(), elapsed);
+
+        if (complete) {
+            DataSnapshot.record(csvFile, table);
         }
-        return csvData;
+        return table.getRows(validationPredicate);
     }
 
     private static Predicate<Map<String, String>> getNormalValidationPredicate() {
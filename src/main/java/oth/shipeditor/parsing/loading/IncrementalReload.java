@@ -0,0 +1,342 @@
+package oth.shipeditor.parsing.loading;
+
+import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.communication.EventBus;
+import oth.shipeditor.communication.events.files.DataEntryUpdated;
+import oth.shipeditor.components.datafiles.entities.*;
+import oth.shipeditor.persistence.PackageRegistry;
+import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.CSVRow;
+import oth.shipeditor.representation.GameDataRepository;
+import oth.shipeditor.representation.LazySpec;
+import oth.shipeditor.representation.ship.HullSpecFile;
+import oth.shipeditor.representation.ship.SkinSpecFile;
+import oth.shipeditor.representation.weapon.WeaponSpecFile;
+import oth.shipeditor.utility.text.StringConstants;
+
+import javax.swing.*;
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Re-reads single changed data files and patches affected repository entries in place of a full reload.
+ * Files are parsed on the calling thread; on EDT, patches are applied to a copy of the published repository,
+ * which is then published in its stead, so that the previous version is left as it was.
+ * Changed ship entries get their own skin maps for the same reason.
+ * Lazily loaded specs only have their header rescanned on EDT, which is cheap.
+ * New variant files under data/variants of an active package are added, including their usages;
+ * other entries are only replaced, so other added files, table rows and removals still need a full reload.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+final class IncrementalReload {
+
+    private IncrementalReload() {}
+
+    static void apply(Collection<Path> changedFiles) {
+        long start = System.nanoTime();
+        List<Runnable> patches = new ArrayList<>();
+        boolean variantsOnly = true;
+        for (Path file : changedFiles) {
+            if (!Files.isRegularFile(file)) continue;
+            Runnable patch = IncrementalReload.prepare(file);
+            if (patch != null) {
+                patches.add(patch);
+                variantsOnly &= file.toString().endsWith(StringConstants.VARIANT_EXTENSION);
+            }
+        }
+        if (patches.isEmpty()) return;
+        // Variant patches keep usage index up to date by themselves.
+        boolean indexesStale = !variantsOnly;
+        SwingUtilities.invokeLater(() -> {
+            GameDataRepository next = new GameDataRepository(SettingsManager.getGameData());
+            SettingsManager.publishGameData(next);
+            patches.forEach(Runnable::run);
+            if (indexesStale) {
+                next.invalidateIndexes();
+            }
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            log.info("Applied {} changed data files in {} ms.", patches.size(), elapsed);
+        });
+    }
+
+    @SuppressWarnings("IfStatementWithTooManyBranches")
+    private static Runnable prepare(Path changed) {
+        File file = changed.toFile();
+        String fileName = file.getName();
+        if (fileName.endsWith(".ship")) {
+            return IncrementalReload.prepareHull(file);
+        } else if (fileName.endsWith(".skin")) {
+            return IncrementalReload.prepareSkin(file);
+        } else if (fileName.endsWith(".wpn")) {
+            return IncrementalReload.prepareWeapon(file);
+        } else if (fileName.endsWith(StringConstants.VARIANT_EXTENSION)) {
+            return IncrementalReload.prepareVariant(file);
+        } else if (fileName.endsWith(".proj")) {
+            return IncrementalReload.prepareProjectile(file);
+        }
+        return IncrementalReload.prepareTable(changed, fileName);
+    }
+
+    private static Runnable prepareTable(Path table, String fileName) {
+        return switch (fileName) {
+            case StringConstants.SHIP_DATA_CSV -> IncrementalReload.prepareRows(table,
+                    FileLoading.parseCSVTable(table), GameDataRepository::getAllShipEntries,
+                    GameDataRepository::getShipEntriesByPackage, (row, previous) -> {
+                        var hullWithSkins = new AbstractMap.SimpleEntry<>(previous.getHullSpecFile(),
+                                IncrementalReload.copySkins(previous));
+                        return new ShipCSVEntry(row, hullWithSkins, previous.getPackageFolderPath(),
+                                previous.getHullFileName());
+                    });
+            case "weapon_data.csv" -> IncrementalReload.prepareRows(table,
+                    FileLoading.parseCSVTable(table), GameDataRepository::getAllWeaponEntries,
+                    GameDataRepository::getWeaponEntriesByPackage, (row, previous) -> {
+                        var updated = new WeaponCSVEntry(row, previous.getPackageFolderPath(), table);
+                        updated.setSpecFile(previous.getSpecFile());
+                        return updated;
+                    });
+            case "hull_mods.csv" -> IncrementalReload.prepareRows(table,
+                    FileLoading.parseCSVTable(table), GameDataRepository::getAllHullmodEntries,
+                    GameDataRepository::getHullmodEntriesByPackage,
+                    (row, previous) -> new HullmodCSVEntry(row, previous.getPackageFolderPath(), table));
+            case "ship_systems.csv" -> IncrementalReload.prepareRows(table,
+                    FileLoading.parseCSVTable(table), GameDataRepository::getAllShipsystemEntries,
+                    GameDataRepository::getShipSystemEntriesByPackage,
+                    (row, previous) -> new ShipSystemCSVEntry(row, previous.getPackageFolderPath(), table));
+            case "wing_data.csv" -> IncrementalReload.prepareRows(table,
+                    FileLoading.parseCSVTable(table, FileLoading.getWingValidationPredicate()),
+                    GameDataRepository::getAllWingEntries, GameDataRepository::getWingEntriesByPackage,
+                    (row, previous) -> new WingCSVEntry(row, previous.getPackageFolderPath(), table));
+            default -> null;
+        };
+    }
+
+    /**
+     * Only rows whose cells differ from the loaded entry are turned into new entries.
+     */
+    private static <T extends CSVEntry> Runnable prepareRows(Path table, List<CSVRow> rows,
+                                                            Function<GameDataRepository, Map<String, T>> byID,
+                                                            Function<GameDataRepository, Map<Path, List<T>>> byPackage,
+                                                            BiFunction<CSVRow, T, T> factory) {
+        if (rows == null) return null;
+        return () -> {
+            GameDataRepository gameData = SettingsManager.getGameData();
+            Map<String, T> entries = byID.apply(gameData);
+            int unmatched = 0;
+            for (CSVRow row : rows) {
+                T previous = entries.get(row.get(StringConstants.ID));
+                if (previous == null || !IncrementalReload.isSamePath(previous.getTableFilePath(), table)) {
+                    unmatched++;
+                    continue;
+                }
+                if (previous.getRowData().equals(row)) continue;
+                T updated = factory.apply(row, previous);
+                IncrementalReload.replaceEntry(entries, byPackage.apply(gameData), previous, updated);
+            }
+            if (unmatched > 0) {
+                log.info("{} rows of {} are not among loaded entries, full reload needed to add them.",
+                        unmatched, table);
+            }
+        };
+    }
+
+    private static Runnable prepareHull(File file) {
+        HullSpecFile parsed = FileLoading.parseHullFile(file);
+        if (parsed == null) return null;
+        return () -> {
+            GameDataRepository gameData = SettingsManager.getGameData();
+            ShipCSVEntry previous = IncrementalReload.findEntry(gameData.getAllShipEntries(),
+                    entry -> entry.getHullSpecFile().getFilePath(), file);
+            if (previous == null) {
+                log.info("Changed hull file is not among loaded entries: {}", file);
+                return;
+            }
+            parsed.setTableFilePath(previous.getHullSpecFile().getTableFilePath());
+            gameData.putSpec(parsed);
+            var hullWithSkins = new AbstractMap.SimpleEntry<>(parsed, IncrementalReload.copySkins(previous));
+            ShipCSVEntry updated = new ShipCSVEntry(previous.getRowData(), hullWithSkins,
+                    previous.getPackageFolderPath(), previous.getHullFileName());
+            IncrementalReload.replaceEntry(gameData.getAllShipEntries(), gameData.getShipEntriesByPackage(),
+                    previous, updated);
+        };
+    }
+
+    private static Runnable prepareSkin(File file) {
+        SkinSpecFile parsed = FileLoading.parseSkinFile(file);
+        if (parsed == null) return null;
+        return () -> {
+            GameDataRepository gameData = SettingsManager.getGameData();
+            for (ShipCSVEntry entry : gameData.getAllShipEntries().values()) {
+                Map<String, SkinSpecFile> skins = entry.getSkins();
+                if (skins == null) continue;
+                for (Map.Entry<String, SkinSpecFile> skin : skins.entrySet()) {
+                    SkinSpecFile previous = skin.getValue();
+                    if (!IncrementalReload.isSamePath(previous.getFilePath(), file.toPath())) continue;
+                    parsed.setContainingPackage(previous.getContainingPackage());
+                    Map<String, SkinSpecFile> updatedSkins = IncrementalReload.copySkins(entry);
+                    updatedSkins.put(skin.getKey(), parsed);
+                    gameData.putSpec(parsed);
+                    var hullWithSkins = new AbstractMap.SimpleEntry<>(entry.getHullSpecFile(), updatedSkins);
+                    ShipCSVEntry updated = new ShipCSVEntry(entry.getRowData(), hullWithSkins,
+                            entry.getPackageFolderPath(), entry.getHullFileName());
+                    IncrementalReload.replaceEntry(gameData.getAllShipEntries(), gameData.getShipEntriesByPackage(),
+                            entry, updated);
+                    return;
+                }
+            }
+            log.info("Changed skin file is not among loaded entries: {}", file);
+        };
+    }
+
+    private static Runnable prepareWeapon(File file) {
+        WeaponSpecFile parsed = FileLoading.loadWeaponFile(file);
+        if (parsed == null) return null;
+        return () -> {
+            GameDataRepository gameData = SettingsManager.getGameData();
+            WeaponCSVEntry previous = IncrementalReload.findEntry(gameData.getAllWeaponEntries(),
+                    entry -> entry.getSpecFile() == null ? null : entry.getSpecFile().getWeaponSpecFilePath(), file);
+            if (previous == null) {
+                log.info("Changed weapon file is not among loaded entries: {}", file);
+                return;
+            }
+            WeaponSpecFile previousSpec = previous.getSpecFile();
+            parsed.setTableFilePath(previousSpec.getTableFilePath());
+            parsed.setContainingPackage(previousSpec.getContainingPackage());
+            WeaponCSVEntry updated = new WeaponCSVEntry(previous.getRowData(), previous.getPackageFolderPath(),
+                    previous.getTableFilePath());
+            updated.setSpecFile(parsed);
+            IncrementalReload.replaceEntry(gameData.getAllWeaponEntries(), gameData.getWeaponEntriesByPackage(),
+                    previous, updated);
+        };
+    }
+
+    private static Runnable prepareVariant(File file) {
+        return IncrementalReload.prepareLazy(file, () -> SettingsManager.getGameData().getAllVariants(),
+                FileLoading::scanVariantFile, StringConstants.VARIANT_ID, Paths.get("data", "variants"),
+                (previous, updated) -> {
+                    GameDataRepository gameData = SettingsManager.getGameData();
+                    gameData.replaceVariantUsages(previous, updated);
+                });
+    }
+
+    private static Runnable prepareProjectile(File file) {
+        return IncrementalReload.prepareLazy(file, () -> SettingsManager.getGameData().getAllProjectiles(),
+                FileLoading::scanProjectileFile, StringConstants.ID, null, (previous, updated) -> {});
+    }
+
+    /**
+     * Lazily loaded specs are replaced by a fresh header scan; full spec is read again on next access.
+     * @param newFilesFolder folder relative to package where files not loaded before are accepted as new specs;
+     * NULL if new files of the kind are left for a full reload.
+     * @param onReplaced called on EDT with previous and updated spec after the replacement;
+     * previous is NULL if the spec is new and does not shadow a loaded one.
+     */
+    private static <T> Runnable prepareLazy(File file, Supplier<Map<String, LazySpec<T>>> byID,
+                                            BiFunction<File, Path, LazySpec<T>> scanner, String idField,
+                                            Path newFilesFolder, BiConsumer<LazySpec<T>, LazySpec<T>> onReplaced) {
+        return () -> {
+            Map<String, LazySpec<T>> specs = byID.get();
+            if (specs == null) return;
+            LazySpec<T> previous = IncrementalReload.findEntry(specs, LazySpec::getFilePath, file);
+            if (previous == null) {
+                IncrementalReload.addLazy(file, specs, scanner, idField, newFilesFolder, onReplaced);
+                return;
+            }
+            LazySpec<T> updated = scanner.apply(file, previous.getContainingPackage());
+            if (updated == null) return;
+            specs.remove(previous.getHeaderValue(idField));
+            specs.put(updated.getHeaderValue(idField), updated);
+            onReplaced.accept(previous, updated);
+        };
+    }
+
+    /**
+     * New spec only shadows a loaded one of the same ID if it comes from a later package in loading order,
+     * same as in a full load.
+     */
+    private static <T> void addLazy(File file, Map<String, LazySpec<T>> specs,
+                                    BiFunction<File, Path, LazySpec<T>> scanner, String idField,
+                                    Path newFilesFolder, BiConsumer<LazySpec<T>, LazySpec<T>> onAdded) {
+        Path packageFolder = IncrementalReload.findLoadedPackage(file.toPath(), newFilesFolder);
+        if (packageFolder == null) {
+            log.info("Changed data file is not among loaded specs: {}", file);
+            return;
+        }
+        LazySpec<T> added = scanner.apply(file, packageFolder);
+        if (added == null) return;
+        String specID = added.getHeaderValue(idField);
+        LazySpec<T> shadowed = specs.get(specID);
+        if (shadowed != null) {
+            List<Path> packageOrder = PackageDelta.getLoadingOrder();
+            if (PackageDelta.positionOf(shadowed.getContainingPackage(), packageOrder)
+                    > PackageDelta.positionOf(packageFolder, packageOrder)) {
+                log.info("New data file is shadowed by a later package: {}", file);
+                return;
+            }
+        }
+        specs.put(specID, added);
+        onAdded.accept(shadowed, added);
+        log.info("Added new data file: {}", file);
+    }
+
+    /**
+     * @return folder of the active, not disabled package that holds the file under the given folder,
+     * or NULL if such file would not be loaded.
+     */
+    private static Path findLoadedPackage(Path file, Path newFilesFolder) {
+        if (newFilesFolder == null) return null;
+        Path normalized = file.toAbsolutePath().normalize();
+        PackageRegistry.GamePackage gamePackage = PackageRegistry.findContaining(normalized);
+        if (gamePackage == null || !gamePackage.isActive() || gamePackage.isDisabled()) return null;
+        Path folder = gamePackage.folder();
+        Path relative = folder.toAbsolutePath().normalize().relativize(normalized);
+        if (!relative.startsWith(newFilesFolder)) return null;
+        return folder;
+    }
+
+    private static <T> T findEntry(Map<String, T> entries, Function<T, Path> pathGetter, File file) {
+        Path target = file.toPath();
+        for (T entry : entries.values()) {
+            Path entryPath = pathGetter.apply(entry);
+            if (IncrementalReload.isSamePath(entryPath, target)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * New ship entry puts its own default skin into the map, so the map of the previous entry is not reused.
+     */
+    private static Map<String, SkinSpecFile> copySkins(ShipCSVEntry entry) {
+        Map<String, SkinSpecFile> skins = entry.getSkins();
+        if (skins == null) return null;
+        return new LinkedHashMap<>(skins);
+    }
+
+    static <T extends CSVEntry> void replaceEntry(Map<String, T> byID, Map<Path, List<T>> byPackage,
+                                                         T previous, T updated) {
+        byID.remove(previous.getID());
+        byID.put(updated.getID(), updated);
+        if (byPackage != null) {
+            for (List<T> entries : byPackage.values()) {
+                entries.replaceAll(entry -> entry == previous ? updated : entry);
+            }
+        }
+        EventBus.publish(new DataEntryUpdated(previous, updated));
+    }
+
+    static boolean isSamePath(Path first, Path second) {
+        if (first == null || second == null) return false;
+        return first.toAbsolutePath().normalize().equals(second.toAbsolutePath().normalize());
+    }
+
+}
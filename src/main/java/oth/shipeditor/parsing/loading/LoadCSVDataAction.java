@@ -6,6 +6,8 @@ import oth.shipeditor.parsing.FileUtilities;
 import oth.shipeditor.persistence.GameDataPackage;
 import oth.shipeditor.persistence.Settings;
 import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.CSVRow;
+import oth.shipeditor.representation.GameDataRepository;
 
 import java.io.File;
 import java.nio.file.Path;
@@ -28,7 +30,7 @@ abstract class LoadCSVDataAction<T extends CSVEntry> extends DataLoadingAction {
     }
 
     @Override
-    public Runnable perform() {
+    public Runnable perform(GameDataRepository target) {
         log.trace("Commencing CSV data fetching...");
         Map<Path, File> tableWithPackage = FileUtilities.getFileFromPackages(targetFile);
         Map<Path, List<T>> entriesByPackage = new HashMap<>();
@@ -45,21 +47,39 @@ abstract class LoadCSVDataAction<T extends CSVEntry> extends DataLoadingAction {
                 entriesByPackage.putIfAbsent(folder.getKey(), entriesList);
             }
         }
-        return () -> publishResult(entriesByPackage);
+        return () -> publishResult(target, entriesByPackage);
     }
 
-    protected abstract void publishResult(Map<Path, List<T>> entriesByPackage);
+    @Override
+    public void carryOver(GameDataRepository previous, GameDataRepository target) {
+        Map<Path, List<T>> entriesByPackage = this.getEntriesByPackage(previous);
+        if (entriesByPackage == null) return;
+        this.publishResult(target, GameDataRepository.copyByPackage(entriesByPackage));
+    }
+
+    protected abstract void publishResult(GameDataRepository target, Map<Path, List<T>> entriesByPackage);
 
-    protected abstract T instantiateEntry(Map<String, String> row, Path folderPath, Path dataFilePath);
+    protected abstract Map<Path, List<T>> getEntriesByPackage(GameDataRepository repository);
 
-    List<Map<String, String>> parseTable(Path dataFilePath) {
+    protected abstract T instantiateEntry(CSVRow row, Path folderPath, Path dataFilePath);
+
+    List<CSVRow> parseTable(Path dataFilePath) {
         return FileLoading.parseCSVTable(dataFilePath);
     }
 
+    /**
+     * @return entries of the package table, or NULL if the package has no such table.
+     */
+    List<T> loadPackage(Path folderPath) {
+        File table = folderPath.resolve(targetFile).toFile();
+        if (!table.isFile()) return null;
+        return loadPackage(folderPath, table);
+    }
+
     private List<T> loadPackage(Path folderPath, File table) {
         Path dataFilePath = table.toPath();
 
-        List<Map<String, String>> csvData = parseTable(dataFilePath);
+        List<CSVRow> csvData = parseTable(dataFilePath);
 
         if (csvData == null) {
             log.info("Datafiles folder without CSV table at: {}", folderPath.toString());
@@ -67,7 +87,7 @@ abstract class LoadCSVDataAction<T extends CSVEntry> extends DataLoadingAction {
         }
 
         List<T> entryList = new ArrayList<>(csvData.size());
-        for (Map<String, String> row : csvData) {
+        for (CSVRow row : csvData) {
             String rowId = row.get("id");
             if (rowId != null && !rowId.isEmpty()) {
                 T newEntry = instantiateEntry(row, folderPath, dataFilePath);
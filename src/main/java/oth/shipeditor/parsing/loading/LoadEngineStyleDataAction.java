@@ -1,11 +1,9 @@
 package oth.shipeditor.parsing.loading;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.MapType;
-import com.fasterxml.jackson.databind.type.TypeFactory;
 import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.communication.EventBus;
 import oth.shipeditor.communication.events.files.EngineStylesLoaded;
+import oth.shipeditor.components.logging.Diagnostics;
 import oth.shipeditor.parsing.FileUtilities;
 import oth.shipeditor.persistence.GameDataPackage;
 import oth.shipeditor.persistence.Settings;
@@ -13,11 +11,8 @@ import oth.shipeditor.persistence.SettingsManager;
 import oth.shipeditor.representation.ship.EngineStyle;
 import oth.shipeditor.representation.GameDataRepository;
 import oth.shipeditor.utility.text.StringConstants;
-import oth.shipeditor.utility.text.StringValues;
 
-import javax.swing.*;
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
@@ -32,7 +27,7 @@ import java.util.Map;
 public class LoadEngineStyleDataAction extends DataLoadingAction {
 
     @Override
-    public Runnable perform() {
+    public Runnable perform(GameDataRepository target) {
         Path targetFile = Paths.get("data", StringConstants.CONFIG, "engine_styles.json");
 
         Map<Path, File> engineStyleFiles = FileUtilities.getFileFromPackages(targetFile);
@@ -55,32 +50,28 @@ public class LoadEngineStyleDataAction extends DataLoadingAction {
         }
 
         return () -> {
-            GameDataRepository gameData = SettingsManager.getGameData();
-            gameData.setAllEngineStyles(collectedEngineStyles);
+            target.setAllEngineStyles(collectedEngineStyles);
             EventBus.publish(new EngineStylesLoaded(collectedEngineStyles));
         };
     }
 
+    @Override
+    public void carryOver(GameDataRepository previous, GameDataRepository target) {
+        Map<String, EngineStyle> engineStyles = previous.getAllEngineStyles();
+        if (engineStyles == null) return;
+        target.setAllEngineStyles(GameDataRepository.copyOf(engineStyles));
+    }
+
     private static Map<String, EngineStyle> loadEngineStyleFile(File styleFile) {
-        ObjectMapper mapper = FileUtilities.getConfigured();
-        Map<String, EngineStyle> engineStyles;
-        log.trace("Fetching engine style data at: {}..", styleFile.toPath());
-        MapType mapType = null;
-        try {
-            TypeFactory typeFactory = mapper.getTypeFactory();
-            mapType = typeFactory.constructMapType(HashMap.class, String.class, EngineStyle.class);
-            engineStyles = mapper.readValue(styleFile, mapType);
-        } catch (IOException e) {
-            log.trace("Engine styles file loading failed, retrying with correction: {}", styleFile.getName());
-            engineStyles = FileLoading.parseCorrectableJSON(styleFile, mapType);
+        HashMap<String, EngineStyle> engineStyles = DataSnapshot.restore(styleFile, HashMap.class);
+        if (engineStyles == null) {
+            log.trace("Fetching engine style data at: {}..", styleFile.toPath());
+            engineStyles = FileLoading.parseCorrectableJSON(styleFile, SpecReaders.forType(SpecReaders.ENGINE_STYLES));
+            DataSnapshot.record(styleFile, engineStyles);
         }
 
         if (engineStyles == null) {
-            log.error("Engine styles file loading failed conclusively: {}", styleFile.getName());
-            JOptionPane.showMessageDialog(null,
-                    "Engine styles file loading failed, exception thrown at: " + styleFile,
-                    StringValues.FILE_LOADING_ERROR,
-                    JOptionPane.ERROR_MESSAGE);
+            Diagnostics.error(styleFile.toPath(), null, "Engine styles file loading failed conclusively");
             throw new RuntimeException("Engine styles file loading failed conclusively!");
         }
 
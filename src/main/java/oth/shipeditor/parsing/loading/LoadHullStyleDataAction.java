@@ -1,7 +1,5 @@
 package oth.shipeditor.parsing.loading;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.TypeFactory;
 import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.communication.EventBus;
 import oth.shipeditor.communication.events.files.HullStylesLoaded;
@@ -11,11 +9,9 @@ import oth.shipeditor.persistence.Settings;
 import oth.shipeditor.persistence.SettingsManager;
 import oth.shipeditor.representation.GameDataRepository;
 import oth.shipeditor.representation.ship.HullStyle;
-import oth.shipeditor.utility.Errors;
 import oth.shipeditor.utility.text.StringConstants;
 
 import java.io.File;
-import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.HashMap;
@@ -30,7 +26,7 @@ import java.util.Map;
 public class LoadHullStyleDataAction extends DataLoadingAction {
 
     @Override
-    public Runnable perform() {
+    public Runnable perform(GameDataRepository target) {
         Path targetFile = Paths.get("data", StringConstants.CONFIG, "hull_styles.json");
 
         Map<Path, File> hullStyleFiles = FileUtilities.getFileFromPackages(targetFile);
@@ -53,32 +49,41 @@ public class LoadHullStyleDataAction extends DataLoadingAction {
         }
 
         return () -> {
-            GameDataRepository gameData = SettingsManager.getGameData();
-            gameData.setAllHullStyles(collectedHullStyles);
+            target.setAllHullStyles(collectedHullStyles);
             EventBus.publish(new HullStylesLoaded(collectedHullStyles));
         };
     }
 
+    @Override
+    public void carryOver(GameDataRepository previous, GameDataRepository target) {
+        Map<String, HullStyle> hullStyles = previous.getAllHullStyles();
+        if (hullStyles == null) return;
+        target.setAllHullStyles(GameDataRepository.copyOf(hullStyles));
+    }
 
-    private static Map<String, HullStyle> loadHullStyleFile(File styleFile) {
-        ObjectMapper mapper = FileUtilities.getConfigured();
-        Map<String, HullStyle> hullStyles = null;
-        log.trace("Fetching hullstyle data at: {}..", styleFile.toPath());
-        try {
-            TypeFactory typeFactory = mapper.getTypeFactory();
-            hullStyles = mapper.readValue(styleFile,
-                    typeFactory.constructMapType(HashMap.class, String.class, HullStyle.class));
-
-            for (Map.Entry<String, HullStyle> entry : hullStyles.entrySet()) {
-                String hullStyleID = entry.getKey();
-                HullStyle hullStyle = entry.getValue();
-                hullStyle.setHullStyleID(hullStyleID);
-                hullStyle.setFilePath(styleFile.toPath());
-            }
 
-        } catch (IOException e) {
-            Errors.printToStream(e);
+    private static Map<String, HullStyle> loadHullStyleFile(File styleFile) {
+        Map<String, HullStyle> hullStyles = DataSnapshot.restore(styleFile, HashMap.class);
+        if (hullStyles == null) {
+            hullStyles = LoadHullStyleDataAction.parseHullStyleFile(styleFile);
         }
+        if (hullStyles == null) {
+            return null;
+        }
+        for (Map.Entry<String, HullStyle> entry : hullStyles.entrySet()) {
+            String hullStyleID = entry.getKey();
+            HullStyle hullStyle = entry.getValue();
+            hullStyle.setHullStyleID(hullStyleID);
+            hullStyle.setFilePath(styleFile.toPath());
+        }
+        return hullStyles;
+    }
+
+    private static HashMap<String, HullStyle> parseHullStyleFile(File styleFile) {
+        log.trace("Fetching hullstyle data at: {}..", styleFile.toPath());
+        HashMap<String, HullStyle> hullStyles = FileLoading.parseCorrectableJSON(styleFile,
+                SpecReaders.forType(SpecReaders.HULL_STYLES));
+        DataSnapshot.record(styleFile, hullStyles);
         return hullStyles;
     }
 
@@ -4,7 +4,7 @@ import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.communication.EventBus;
 import oth.shipeditor.communication.events.files.HullmodFoldersWalked;
 import oth.shipeditor.components.datafiles.entities.HullmodCSVEntry;
-import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.CSVRow;
 import oth.shipeditor.representation.GameDataRepository;
 
 import java.nio.file.Path;
@@ -24,14 +24,18 @@ public class LoadHullmodDataAction extends LoadCSVDataAction<HullmodCSVEntry> {
     }
 
     @Override
-    protected void publishResult(Map<Path, List<HullmodCSVEntry>> entriesByPackage) {
-        GameDataRepository gameData = SettingsManager.getGameData();
-        gameData.setHullmodEntriesByPackage(entriesByPackage);
+    protected void publishResult(GameDataRepository target, Map<Path, List<HullmodCSVEntry>> entriesByPackage) {
+        target.setHullmodEntriesByPackage(entriesByPackage);
         EventBus.publish(new HullmodFoldersWalked(entriesByPackage));
     }
 
     @Override
-    protected HullmodCSVEntry instantiateEntry(Map<String, String> row, Path folderPath, Path dataFilePath) {
+    protected Map<Path, List<HullmodCSVEntry>> getEntriesByPackage(GameDataRepository repository) {
+        return repository.getHullmodEntriesByPackage();
+    }
+
+    @Override
+    protected HullmodCSVEntry instantiateEntry(CSVRow row, Path folderPath, Path dataFilePath) {
         return new HullmodCSVEntry(row, folderPath, dataFilePath);
     }
 
@@ -14,14 +14,13 @@ import oth.shipeditor.representation.ship.HullSpecFile;
 import oth.shipeditor.representation.ship.ShipSpecFile;
 import oth.shipeditor.representation.ship.SkinSpecFile;
 import oth.shipeditor.representation.ship.VariantFile;
-import oth.shipeditor.utility.objects.Pair;
 import oth.shipeditor.utility.text.StringConstants;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * @author Ontheheavens
@@ -32,22 +31,24 @@ public
 class LoadShipDataAction extends DataLoadingAction {
 
     @Override
-    public Runnable perform() {
-        CompletableFuture<Runnable> shipData = CompletableFuture.supplyAsync(LoadShipDataAction::collectShips);
-        CompletableFuture<Runnable> variantData = CompletableFuture.supplyAsync(LoadShipDataAction::collectVariants);
-
-        CompletableFuture<Runnable> combinedResult = shipData.thenCombine(variantData,
-                (shipRunnable, variantRunnable) ->
-                () -> {
-                    shipRunnable.run();
-                    variantRunnable.run();
-                }
-        );
-
-        return combinedResult.join();
+    public Runnable perform(GameDataRepository target) {
+        return this.perform(target, null);
     }
 
-    private static Runnable collectShips() {
+    @Override
+    Runnable perform(GameDataRepository target, LoadingPipeline pipeline) {
+        ForkJoinTask<Runnable> variantData = FileLoading.submitLoadingTask(() ->
+                LoadShipDataAction.collectVariants(target, pipeline));
+        Runnable shipRunnable = LoadShipDataAction.collectShips(target, pipeline);
+        Runnable variantRunnable = variantData.join();
+
+        return () -> {
+            shipRunnable.run();
+            variantRunnable.run();
+        };
+    }
+
+    private static Runnable collectShips(GameDataRepository target, LoadingPipeline pipeline) {
         Path hullTableTarget = Paths.get("data", StringConstants.HULLS, StringConstants.SHIP_DATA_CSV);
         Map<Path, File> hullsPackages = FileUtilities.getFileFromPackages(hullTableTarget);
         Collection<Path> modsWithShipData = hullsPackages.keySet();
@@ -64,42 +65,54 @@ class LoadShipDataAction extends DataLoadingAction {
                 continue;
             }
             log.trace("Skin folder found in mod directory: {}", directory);
-            Map<String, SkinSpecFile> containedSkins = LoadShipDataAction.walkSkinFolder(directory);
+            Map<String, SkinSpecFile> containedSkins = LoadShipDataAction.walkSkinFolder(directory, pipeline);
             allSkins.putAll(containedSkins);
         }
 
-        GameDataRepository gameData = SettingsManager.getGameData();
-        Map<String, ShipCSVEntry> allShipEntries = gameData.getAllShipEntries();
-        allShipEntries.clear();
-
-        Map<Path, List<ShipCSVEntry>> allEntriesByPackage = new HashMap<>();
-
+        List<HullPackage> hullPackages = new ArrayList<>();
         for (Path folder : modsWithShipData) {
             Settings settings = SettingsManager.getSettings();
             GameDataPackage dataPackage = settings.getPackage(folder);
             if (dataPackage != null && dataPackage.isDisabled()) {
                 continue;
             }
-            Pair<Path, List<ShipCSVEntry>> packageShipData = LoadShipDataAction.walkHullFolder(folder.toString(), allSkins);
-            if (packageShipData != null) {
-                allEntriesByPackage.put(packageShipData.getFirst(), packageShipData.getSecond());
+            HullPackage hullPackage = LoadShipDataAction.walkHullFolder(folder.toString(), pipeline);
+            if (hullPackage != null) {
+                hullPackages.add(hullPackage);
             }
         }
 
+        LoadShipDataAction.registerSpecs(target, null, allSkins);
+        for (HullPackage hullPackage : hullPackages) {
+            LoadShipDataAction.registerSpecs(target, hullPackage, Map.of());
+        }
+        Map<String, ShipCSVEntry> allShipEntries = target.getAllShipEntries();
+        allShipEntries.clear();
+
+        long linkStart = System.nanoTime();
+        Map<String, Map<String, SkinSpecFile>> skinsByBaseHull = LoadShipDataAction.indexSkinsByBaseHull(allSkins);
+        Map<Path, List<ShipCSVEntry>> allEntriesByPackage = new HashMap<>();
+        for (HullPackage hullPackage : hullPackages) {
+            List<ShipCSVEntry> entries = LoadShipDataAction.linkEntries(hullPackage, skinsByBaseHull, allShipEntries);
+            allEntriesByPackage.put(hullPackage.packagePath(), entries);
+        }
+        long linkElapsed = (System.nanoTime() - linkStart) / 1_000_000;
+        log.info("Linked {} ship entries with hulls and skins in {} ms.", allShipEntries.size(), linkElapsed);
+
         return () -> {
-            gameData.setShipEntriesByPackage(allEntriesByPackage);
-            gameData.setShipDataLoaded(true);
+            target.setShipEntriesByPackage(allEntriesByPackage);
+            target.setShipDataLoaded(true);
             EventBus.publish(new HullTreeEntryCleared());
             EventBus.publish(new HullTreeReloadQueued());
         };
     }
 
-    private static Runnable collectVariants() {
+    private static Runnable collectVariants(GameDataRepository target, LoadingPipeline pipeline) {
         Path variantFolderTarget = Paths.get("data", "variants");
         Map<Path, File> packagesWithVariants = FileUtilities.getFileFromPackages(variantFolderTarget);
         Collection<Path> variantFolders = packagesWithVariants.keySet();
 
-        Map<String, VariantFile> allVariants = new HashMap<>();
+        Map<String, LazySpec<VariantFile>> allVariants = new HashMap<>();
         for (Path directory : variantFolders) {
             Settings settings = SettingsManager.getSettings();
             GameDataPackage dataPackage = settings.getPackage(directory);
@@ -108,31 +121,67 @@ class LoadShipDataAction extends DataLoadingAction {
             }
 
             log.trace("Variant folder found in mod directory: {}", directory);
+            allVariants.putAll(LoadShipDataAction.scanVariants(directory, pipeline));
+        }
 
-            List<File> variantFiles = FileLoading.fetchFilesWithExtension(directory, StringConstants.VARIANT);
+        return () -> target.setAllVariants(allVariants);
+    }
+
+    @Override
+    public void carryOver(GameDataRepository previous, GameDataRepository target) {
+        Map<String, ShipSpecFile> specs = target.getAllSpecEntries();
+        specs.clear();
+        specs.putAll(previous.getAllSpecEntries());
+        Map<String, ShipCSVEntry> allShipEntries = target.getAllShipEntries();
+        allShipEntries.clear();
+        allShipEntries.putAll(previous.getAllShipEntries());
+        target.setAllVariants(GameDataRepository.copyOf(previous.getAllVariants()));
+        Map<Path, List<ShipCSVEntry>> entriesByPackage = previous.getShipEntriesByPackage();
+        if (entriesByPackage == null) return;
+        target.setShipEntriesByPackage(GameDataRepository.copyByPackage(entriesByPackage));
+        target.setShipDataLoaded(previous.isShipDataLoaded());
+        EventBus.publish(new HullTreeEntryCleared());
+        EventBus.publish(new HullTreeReloadQueued());
+    }
 
-            for (File variantFile : variantFiles) {
-                VariantFile mapped = FileLoading.loadVariantFile(variantFile);
-                if (mapped != null) {
-                    mapped.setContainingPackage(directory);
-                    allVariants.put(mapped.getVariantId(), mapped);
-                } else {
-                    log.error("Failure to load variant, omitting from result data: {}", variantFile);
-                }
+    /**
+     * @param pipeline full load that counts the scanned files and can cancel the scan; NULL outside of full load.
+     * @return variants of the package by their IDs, with only headers read.
+     */
+    static Map<String, LazySpec<VariantFile>> scanVariants(Path directory, LoadingPipeline pipeline) {
+        PackageManifest manifest = DataFileIndex.getManifest(directory);
+        return LoadShipDataAction.scanVariants(directory, manifest.getFiles(StringConstants.VARIANT), pipeline);
+    }
 
+    /**
+     * @param variantFiles files of the package to scan.
+     */
+    static Map<String, LazySpec<VariantFile>> scanVariants(Path directory, List<File> variantFiles,
+                                                           LoadingPipeline pipeline) {
+        List<LazySpec<VariantFile>> scannedVariants = FileLoading.parseFiles(variantFiles,
+                file -> FileLoading.scanVariantFile(file, directory), pipeline);
+
+        Map<String, LazySpec<VariantFile>> variants = new HashMap<>();
+        for (int i = 0; i < variantFiles.size(); i++) {
+            File variantFile = variantFiles.get(i);
+            LazySpec<VariantFile> mapped = scannedVariants.get(i);
+            if (mapped != null) {
+                variants.put(mapped.getHeaderValue(StringConstants.VARIANT_ID), mapped);
+            } else {
+                log.error("Failure to load variant, omitting from result data: {}", variantFile);
             }
         }
-
-        return () -> {
-            GameDataRepository gameData = SettingsManager.getGameData();
-            gameData.setAllVariants(allVariants);
-        };
+        return variants;
     }
-    private static Pair<Path, List<ShipCSVEntry>> walkHullFolder(String folderPath, Map<String, SkinSpecFile> skins) {
+
+    /**
+     * Parses table and hull files of a package; matching them with each other happens later, in linking.
+     */
+    static HullPackage walkHullFolder(String folderPath, LoadingPipeline pipeline) {
         Path shipTablePath = Paths.get(folderPath, "data", StringConstants.HULLS, StringConstants.SHIP_DATA_CSV);
 
         log.trace("Parsing ship CSV data at: {}..", shipTablePath);
-        List<Map<String, String>> csvData = FileLoading.parseCSVTable(shipTablePath);
+        List<CSVRow> csvData = FileLoading.parseCSVTable(shipTablePath);
 
         if (csvData == null) {
             log.info("Hull folder without CSV table at: {}", folderPath.toString());
@@ -141,71 +190,88 @@ class LoadShipDataAction extends DataLoadingAction {
         log.trace("Ship CSV data at {} retrieved successfully.", shipTablePath);
 
         log.trace("Bulk fetching hull files at: {}...", folderPath);
-        List<File> shipFiles = FileLoading.fetchFilesWithExtension(shipTablePath.getParent(), "ship");
-        Map<String, HullSpecFile> mappedHulls = new HashMap<>();
-
-        for (File hullFile : shipFiles) {
-            HullSpecFile mapped = FileLoading.loadHullFile(hullFile);
+        PackageManifest manifest = DataFileIndex.getManifest(Paths.get(folderPath));
+        List<File> shipFiles = manifest.getFiles(Paths.get("data", StringConstants.HULLS), "ship");
+        List<HullSpecFile> parsedHulls = FileLoading.parseFiles(shipFiles, FileLoading::parseHullFile, pipeline);
+        Map<String, Map.Entry<String, HullSpecFile>> hullsByID = new HashMap<>();
+
+        for (int i = 0; i < shipFiles.size(); i++) {
+            File hullFile = shipFiles.get(i);
+            HullSpecFile mapped = parsedHulls.get(i);
             if (mapped != null) {
                 mapped.setTableFilePath(shipTablePath);
-                mappedHulls.put(hullFile.getName(), mapped);
+                hullsByID.put(mapped.getHullId(), new AbstractMap.SimpleImmutableEntry<>(hullFile.getName(), mapped));
             }  else {
                 log.error("Failure to load hull, omitting from result data: {}", hullFile);
             }
         }
-        log.trace("Fetched and mapped {} hull files.", mappedHulls.size());
+        log.trace("Fetched and mapped {} hull files.", hullsByID.size());
 
-        Path packagePath = Paths.get(folderPath, "");
-        List<ShipCSVEntry> entriesFromPackage = new ArrayList<>();
+        return new HullPackage(Paths.get(folderPath, ""), csvData, hullsByID);
+    }
 
-        GameDataRepository gameData = SettingsManager.getGameData();
-        Map<String, ShipCSVEntry> allShipEntries = gameData.getAllShipEntries();
-
-        for (Map<String, String> row : csvData) {
-            Map.Entry<HullSpecFile, Map<String, SkinSpecFile>> hullWithSkins = null;
-            String fileName = "";
-            String rowId = row.get("id");
-            for (Map.Entry<String, HullSpecFile> entry : mappedHulls.entrySet()) {
-                HullSpecFile shipFile = entry.getValue();
-                String hullId = shipFile.getHullId();
-                if (hullId.equals(rowId)) {
-                    fileName = entry.getKey();
-                    Map<String, SkinSpecFile> skinsOfHull = LoadShipDataAction.fetchSkinsByHull(shipFile, skins);
-                    hullWithSkins = new AbstractMap.SimpleEntry<>(shipFile, skinsOfHull);
-                }
-            }
-            if (hullWithSkins != null && !fileName.isEmpty()) {
-                ShipCSVEntry newEntry = new ShipCSVEntry(row, hullWithSkins, packagePath, fileName);
-                entriesFromPackage.add(newEntry);
-                allShipEntries.put(rowId, newEntry);
+    /**
+     * Joins table rows of the package to its hull files by hull ID, and hulls to their skins by base hull ID.
+     * Rows without a matching hull file are omitted.
+     */
+    static List<ShipCSVEntry> linkEntries(HullPackage hullPackage,
+                                                  Map<String, Map<String, SkinSpecFile>> skinsByBaseHull,
+                                                  Map<String, ShipCSVEntry> allShipEntries) {
+        List<ShipCSVEntry> entriesFromPackage = new ArrayList<>();
+        for (CSVRow row : hullPackage.rows()) {
+            String rowId = row.get(StringConstants.ID);
+            Map.Entry<String, HullSpecFile> hullFile = hullPackage.hullsByID().get(rowId);
+            if (hullFile == null) continue;
+
+            String fileName = hullFile.getKey();
+            HullSpecFile shipFile = hullFile.getValue();
+            Map<String, SkinSpecFile> skinsOfHull = skinsByBaseHull.get(shipFile.getHullId());
+            if (skinsOfHull != null) {
+                skinsOfHull = new HashMap<>(skinsOfHull);
             }
+            var hullWithSkins = new AbstractMap.SimpleEntry<>(shipFile, skinsOfHull);
+            ShipCSVEntry newEntry = new ShipCSVEntry(row, hullWithSkins, hullPackage.packagePath(), fileName);
+            entriesFromPackage.add(newEntry);
+            allShipEntries.put(rowId, newEntry);
         }
+        return entriesFromPackage;
+    }
 
-        return new Pair<>(packagePath, entriesFromPackage);
+    /**
+     * Walking of hull and skin folders leaves repository untouched; parsed specs are put into it here.
+     */
+    static void registerSpecs(GameDataRepository target, HullPackage hullPackage, Map<String, SkinSpecFile> skins) {
+        for (SkinSpecFile skin : skins.values()) {
+            target.putSpec(skin);
+        }
+        if (hullPackage == null) return;
+        for (Map.Entry<String, HullSpecFile> hull : hullPackage.hullsByID().values()) {
+            target.putSpec(hull.getValue());
+        }
     }
 
-    private static Map<String, SkinSpecFile> fetchSkinsByHull(ShipSpecFile hullSpecFile, Map<String, SkinSpecFile> skins) {
-        if (skins == null) return null;
-        String hullId = hullSpecFile.getHullId();
-        Map<String, SkinSpecFile> associated = new HashMap<>();
+    /**
+     * @return skins by file names, grouped by base hull ID.
+     */
+    static Map<String, Map<String, SkinSpecFile>> indexSkinsByBaseHull(Map<String, SkinSpecFile> skins) {
+        Map<String, Map<String, SkinSpecFile>> index = new HashMap<>();
         for (Map.Entry<String, SkinSpecFile> skin : skins.entrySet()) {
-            SkinSpecFile value = skin.getValue();
-            if (Objects.equals(value.getBaseHullId(), hullId)) {
-                associated.put(skin.getKey(), skin.getValue());
-            }
+            String baseHullId = skin.getValue().getBaseHullId();
+            if (baseHullId == null) continue;
+            index.computeIfAbsent(baseHullId, id -> new HashMap<>()).put(skin.getKey(), skin.getValue());
         }
-        if (!associated.isEmpty()) {
-            return associated;
-        }
-        return null;
+        return index;
     }
 
-    private static Map<String, SkinSpecFile> walkSkinFolder(Path skinFolder) {
+    static Map<String, SkinSpecFile> walkSkinFolder(Path skinFolder, LoadingPipeline pipeline) {
         log.trace("Bulk fetching skin files at: {}...", skinFolder);
-        List<File> skinFiles = FileLoading.fetchFilesWithExtension(skinFolder, "skin");
+        PackageManifest manifest = DataFileIndex.getManifest(skinFolder);
+        List<File> skinFiles = manifest.getFiles("skin");
+        List<SkinSpecFile> parsedSkins = FileLoading.parseFiles(skinFiles, FileLoading::parseSkinFile, pipeline);
         Map<String, SkinSpecFile> mappedSkins = new HashMap<>();
-        for (File skinFile : skinFiles) {
-            SkinSpecFile mapped = FileLoading.loadSkinFile(skinFile);
+        for (int i = 0; i < skinFiles.size(); i++) {
+            File skinFile = skinFiles.get(i);
+            SkinSpecFile mapped = parsedSkins.get(i);
             if (mapped != null) {
                 mapped.setContainingPackage(skinFolder);
                 mappedSkins.put(skinFile.getName(), mapped);
@@ -218,4 +284,10 @@ class LoadShipDataAction extends DataLoadingAction {
         return mappedSkins;
     }
 
+    /**
+     * Parsed contents of a single package's hull folder, awaiting linking.
+     */
+    record HullPackage(Path packagePath, List<CSVRow> rows,
+                               Map<String, Map.Entry<String, HullSpecFile>> hullsByID) {}
+
 }
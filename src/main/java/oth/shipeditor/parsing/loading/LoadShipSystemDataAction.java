@@ -4,7 +4,7 @@ import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.communication.EventBus;
 import oth.shipeditor.communication.events.files.ShipSystemsLoaded;
 import oth.shipeditor.components.datafiles.entities.ShipSystemCSVEntry;
-import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.CSVRow;
 import oth.shipeditor.representation.GameDataRepository;
 
 import java.nio.file.Path;
@@ -24,14 +24,18 @@ public class LoadShipSystemDataAction extends LoadCSVDataAction<ShipSystemCSVEnt
     }
 
     @Override
-    protected void publishResult(Map<Path, List<ShipSystemCSVEntry>> entriesByPackage) {
-        GameDataRepository gameData = SettingsManager.getGameData();
-        gameData.setShipSystemEntriesByPackage(entriesByPackage);
+    protected void publishResult(GameDataRepository target, Map<Path, List<ShipSystemCSVEntry>> entriesByPackage) {
+        target.setShipSystemEntriesByPackage(entriesByPackage);
         EventBus.publish(new ShipSystemsLoaded(entriesByPackage));
     }
 
     @Override
-    protected ShipSystemCSVEntry instantiateEntry(Map<String, String> row, Path folderPath, Path dataFilePath) {
+    protected Map<Path, List<ShipSystemCSVEntry>> getEntriesByPackage(GameDataRepository repository) {
+        return repository.getShipSystemEntriesByPackage();
+    }
+
+    @Override
+    protected ShipSystemCSVEntry instantiateEntry(CSVRow row, Path folderPath, Path dataFilePath) {
         return new ShipSystemCSVEntry(row, folderPath, dataFilePath);
     }
 
@@ -8,7 +8,9 @@ import oth.shipeditor.parsing.FileUtilities;
 import oth.shipeditor.persistence.GameDataPackage;
 import oth.shipeditor.persistence.Settings;
 import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.CSVRow;
 import oth.shipeditor.representation.GameDataRepository;
+import oth.shipeditor.representation.LazySpec;
 import oth.shipeditor.representation.weapon.ProjectileSpecFile;
 import oth.shipeditor.representation.weapon.WeaponSpecFile;
 import oth.shipeditor.utility.text.StringConstants;
@@ -17,7 +19,7 @@ import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinTask;
 
 /**
  * @author Ontheheavens
@@ -27,28 +29,29 @@ import java.util.concurrent.CompletableFuture;
 public class LoadWeaponsDataAction extends DataLoadingAction {
 
     @Override
-    public Runnable perform() {
-        CompletableFuture<Runnable> weaponData = CompletableFuture.supplyAsync(LoadWeaponsDataAction::collectWeapons);
-        CompletableFuture<Runnable> projectileData = CompletableFuture.supplyAsync(LoadWeaponsDataAction::collectProjectiles);
-
-        CompletableFuture<Runnable> combinedResult = weaponData.thenCombine(projectileData,
-                (weaponsRunnable, projectilesRunnable) ->
-                        () -> {
-                            weaponsRunnable.run();
-                            projectilesRunnable.run();
-                        }
-        );
-
-        return combinedResult.join();
+    public Runnable perform(GameDataRepository target) {
+        return this.perform(target, null);
     }
 
-    private static Runnable collectWeapons() {
+    @Override
+    Runnable perform(GameDataRepository target, LoadingPipeline pipeline) {
+        ForkJoinTask<Runnable> projectileData = FileLoading.submitLoadingTask(() ->
+                LoadWeaponsDataAction.collectProjectiles(target, pipeline));
+        Runnable weaponsRunnable = LoadWeaponsDataAction.collectWeapons(target, pipeline);
+        Runnable projectilesRunnable = projectileData.join();
+
+        return () -> {
+            weaponsRunnable.run();
+            projectilesRunnable.run();
+        };
+    }
+
+    private static Runnable collectWeapons(GameDataRepository target, LoadingPipeline pipeline) {
         Path weaponsFolderTarget = Paths.get("data", StringConstants.WEAPONS);
         Map<Path, File> weaponsPackages = FileUtilities.getFileFromPackages(weaponsFolderTarget);
         Collection<Path> modsWithWeaponFolder = weaponsPackages.keySet();
 
-        GameDataRepository gameData = SettingsManager.getGameData();
-        Map<String, WeaponCSVEntry> allWeapons = gameData.getAllWeaponEntries();
+        Map<String, WeaponCSVEntry> allWeapons = target.getAllWeaponEntries();
         Map<Path, List<WeaponCSVEntry>> entryListsByPackage = new HashMap<>();
 
         for (Path folder : modsWithWeaponFolder) {
@@ -58,7 +61,7 @@ public class LoadWeaponsDataAction extends DataLoadingAction {
                 continue;
             }
 
-            Map<String, WeaponCSVEntry> weaponsFromPackage = LoadWeaponsDataAction.walkWeaponsFolder(folder);
+            Map<String, WeaponCSVEntry> weaponsFromPackage = LoadWeaponsDataAction.walkWeaponsFolder(folder, pipeline);
 
             if (weaponsFromPackage != null) {
                 allWeapons.putAll(weaponsFromPackage);
@@ -68,18 +71,18 @@ public class LoadWeaponsDataAction extends DataLoadingAction {
         }
 
         return () -> {
-            gameData.setWeaponsDataLoaded(true);
-            gameData.setWeaponEntriesByPackage(entryListsByPackage);
+            target.setWeaponsDataLoaded(true);
+            target.setWeaponEntriesByPackage(entryListsByPackage);
         };
     }
 
-    private static Runnable collectProjectiles() {
+    private static Runnable collectProjectiles(GameDataRepository target, LoadingPipeline pipeline) {
         String proj = "proj";
         Path projectileFolderTarget = Paths.get("data", StringConstants.WEAPONS, proj);
         Map<Path, File> packagesWithProjectiles = FileUtilities.getFileFromPackages(projectileFolderTarget);
         Collection<Path> projectileFolders = packagesWithProjectiles.keySet();
 
-        Map<String, ProjectileSpecFile> allProjectiles = new HashMap<>();
+        Map<String, LazySpec<ProjectileSpecFile>> allProjectiles = new HashMap<>();
         for (Path directory : projectileFolders) {
             Settings settings = SettingsManager.getSettings();
             GameDataPackage dataPackage = settings.getPackage(directory);
@@ -88,34 +91,64 @@ public class LoadWeaponsDataAction extends DataLoadingAction {
             }
 
             log.trace("Projectile folder found in mod directory: {}", directory);
-
-            List<File> projectileFiles = FileLoading.fetchFilesWithExtension(directory, proj);
-
-            for (File projectileFile : projectileFiles) {
-                ProjectileSpecFile mapped = FileLoading.loadProjectileFile(projectileFile);
-                if (mapped != null) {
-                    mapped.setContainingPackage(directory);
-                    allProjectiles.put(mapped.getId(), mapped);
-                } else {
-                    log.error("Failure to load spec, omitting from result data: {}", projectileFile);
-                }
-
-            }
+            allProjectiles.putAll(LoadWeaponsDataAction.scanProjectiles(directory, pipeline));
         }
 
         return () -> {
-            GameDataRepository gameData = SettingsManager.getGameData();
-            gameData.setAllProjectiles(allProjectiles);
+            target.setAllProjectiles(allProjectiles);
 
             EventBus.publish(new WeaponTreeReloadQueued());
         };
     }
 
-    private static Map<String, WeaponCSVEntry> walkWeaponsFolder(Path folder) {
+    @Override
+    public void carryOver(GameDataRepository previous, GameDataRepository target) {
+        Map<String, WeaponCSVEntry> allWeapons = target.getAllWeaponEntries();
+        allWeapons.clear();
+        allWeapons.putAll(previous.getAllWeaponEntries());
+        target.setAllProjectiles(GameDataRepository.copyOf(previous.getAllProjectiles()));
+        Map<Path, List<WeaponCSVEntry>> entriesByPackage = previous.getWeaponEntriesByPackage();
+        if (entriesByPackage == null) return;
+        target.setWeaponsDataLoaded(previous.isWeaponsDataLoaded());
+        target.setWeaponEntriesByPackage(GameDataRepository.copyByPackage(entriesByPackage));
+        EventBus.publish(new WeaponTreeReloadQueued());
+    }
+
+    /**
+     * @param pipeline full load that counts the scanned files and can cancel the scan; NULL outside of full load.
+     * @return projectiles of the package by their IDs, with only headers read.
+     */
+    static Map<String, LazySpec<ProjectileSpecFile>> scanProjectiles(Path directory, LoadingPipeline pipeline) {
+        PackageManifest manifest = DataFileIndex.getManifest(directory);
+        return LoadWeaponsDataAction.scanProjectiles(directory, manifest.getFiles("proj"), pipeline);
+    }
+
+    /**
+     * @param projectileFiles files of the package to scan.
+     */
+    static Map<String, LazySpec<ProjectileSpecFile>> scanProjectiles(Path directory, List<File> projectileFiles,
+                                                                     LoadingPipeline pipeline) {
+        List<LazySpec<ProjectileSpecFile>> scannedProjectiles = FileLoading.parseFiles(projectileFiles,
+                file -> FileLoading.scanProjectileFile(file, directory), pipeline);
+
+        Map<String, LazySpec<ProjectileSpecFile>> projectiles = new HashMap<>();
+        for (int i = 0; i < projectileFiles.size(); i++) {
+            File projectileFile = projectileFiles.get(i);
+            LazySpec<ProjectileSpecFile> mapped = scannedProjectiles.get(i);
+            if (mapped != null) {
+                projectiles.put(mapped.getHeaderValue(StringConstants.ID), mapped);
+            } else {
+                log.error("Failure to load spec, omitting from result data: {}", projectileFile);
+            }
+        }
+        return projectiles;
+    }
+
+    static Map<String, WeaponCSVEntry> walkWeaponsFolder(Path folder, LoadingPipeline pipeline) {
         Path weaponTablePath = Paths.get(folder.toString(), "data", StringConstants.WEAPONS, "weapon_data.csv");
 
         log.trace("Parsing weapon CSV data at: {}..", weaponTablePath);
-        List<Map<String, String>> csvData = FileLoading.parseCSVTable(weaponTablePath);
+        List<CSVRow> csvData = FileLoading.parseCSVTable(weaponTablePath);
         log.trace("Weapon CSV data at {} retrieved successfully.", weaponTablePath);
 
         if (csvData == null) {
@@ -123,11 +156,12 @@ public class LoadWeaponsDataAction extends DataLoadingAction {
             return null;
         }
 
-        List<File> weaponFiles = FileLoading.fetchFilesWithExtension(weaponTablePath.getParent(), "wpn");
+        PackageManifest manifest = DataFileIndex.getManifest(folder);
+        List<File> weaponFiles = manifest.getFiles(Paths.get("data", StringConstants.WEAPONS), "wpn");
+        List<WeaponSpecFile> parsedWeapons = FileLoading.parseFiles(weaponFiles, FileLoading::loadWeaponFile, pipeline);
         Map<String, WeaponSpecFile> mappedWeaponSpecs = new HashMap<>();
 
-        for (File weaponFile : weaponFiles) {
-            WeaponSpecFile mapped = FileLoading.loadWeaponFile(weaponFile);
+        for (WeaponSpecFile mapped : parsedWeapons) {
             if (mapped != null) {
                 mapped.setTableFilePath(weaponTablePath);
                 mapped.setContainingPackage(folder);
@@ -137,7 +171,7 @@ public class LoadWeaponsDataAction extends DataLoadingAction {
         log.trace("Fetched and mapped {} weapon files.", mappedWeaponSpecs.size());
 
         Map<String, WeaponCSVEntry> weaponEntries = new HashMap<>();
-        for (Map<String, String> row : csvData) {
+        for (CSVRow row : csvData) {
             String rowId = row.get("id");
             if (rowId != null && !rowId.isEmpty()) {
                 WeaponCSVEntry newEntry = new WeaponCSVEntry(row, folder, weaponTablePath);
@@ -3,12 +3,11 @@ package oth.shipeditor.parsing.loading;
 import oth.shipeditor.communication.EventBus;
 import oth.shipeditor.communication.events.files.WingDataLoaded;
 import oth.shipeditor.components.datafiles.entities.WingCSVEntry;
-import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.components.logging.Diagnostics;
+import oth.shipeditor.representation.CSVRow;
 import oth.shipeditor.representation.GameDataRepository;
 import oth.shipeditor.utility.text.StringConstants;
-import oth.shipeditor.utility.text.StringValues;
 
-import javax.swing.*;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
@@ -25,25 +24,26 @@ public class LoadWingDataAction extends LoadCSVDataAction<WingCSVEntry>{
     }
 
     @Override
-    protected void publishResult(Map<Path, List<WingCSVEntry>> entriesByPackage) {
-        GameDataRepository data = SettingsManager.getGameData();
-        if (!data.isShipDataLoaded()) {
-            JOptionPane.showMessageDialog(null,
-                    "Ship data is not loaded, wings unavailable for display.",
-                    StringValues.FILE_LOADING_ERROR,
-                    JOptionPane.ERROR_MESSAGE);
+    protected void publishResult(GameDataRepository target, Map<Path, List<WingCSVEntry>> entriesByPackage) {
+        if (!target.isShipDataLoaded()) {
+            Diagnostics.warning(null, null, "Ship data is not loaded, wings unavailable for display");
         }
-        data.setWingEntriesByPackage(entriesByPackage);
+        target.setWingEntriesByPackage(entriesByPackage);
         EventBus.publish(new WingDataLoaded(entriesByPackage));
     }
 
     @Override
-    protected WingCSVEntry instantiateEntry(Map<String, String> row, Path folderPath, Path dataFilePath) {
+    protected Map<Path, List<WingCSVEntry>> getEntriesByPackage(GameDataRepository repository) {
+        return repository.getWingEntriesByPackage();
+    }
+
+    @Override
+    protected WingCSVEntry instantiateEntry(CSVRow row, Path folderPath, Path dataFilePath) {
         return new WingCSVEntry(row, folderPath, dataFilePath);
     }
 
     @Override
-    protected List<Map<String, String>> parseTable(Path dataFilePath) {
+    protected List<CSVRow> parseTable(Path dataFilePath) {
         return FileLoading.parseCSVTable(dataFilePath, FileLoading.getWingValidationPredicate());
     }
 
@@ -0,0 +1,252 @@
+package oth.shipeditor.parsing.loading;
+
+import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.communication.EventBus;
+import oth.shipeditor.communication.events.components.LoadingProgressed;
+import oth.shipeditor.parsing.deserialize.StringPool;
+import oth.shipeditor.persistence.PackageRegistry;
+import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.GameDataRepository;
+import oth.shipeditor.utility.Errors;
+
+import javax.swing.*;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+
+/**
+ * Single run of full game data load, split into stages with explicit dependencies:
+ * WALK indexes all packages on dedicated I/O threads; then every loading action runs on the work pool,
+ * parsing its files (PARSE) and matching them into entries (LINK); FINALIZE closes data snapshot and string pool
+ * once all actions are done; PUBLISH hands results to repository and components on EDT, in action order.
+ * <p>
+ * Lookup indexes of the repository are not built by the pipeline: entry lists only reach the target during PUBLISH,
+ * and each index is built lazily on first query of the published version.
+ * <p>
+ * Actions write into a new repository version owned by the run; until PUBLISH swaps it in,
+ * readers keep the previous version, so the editor stays usable during the whole load.
+ * <p>
+ * Progress of each stage is published as {@link LoadingProgressed}. A run can be cancelled at any point;
+ * cancelled run stops at next file and publishes nothing. Finished run logs time spent in its stages,
+ * which together with snapshot counts of {@link DataSnapshot} shows how much a warm start saves.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+public final class LoadingPipeline {
+
+    private static final int WALK_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+    private static final ExecutorService walkExecutor = Executors.newFixedThreadPool(WALK_THREADS, runnable -> {
+        Thread thread = new Thread(runnable, "Data package walker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<DataLoadingAction> actions;
+
+    private final Executor workPool;
+
+    private final GameDataRepository target = new GameDataRepository();
+
+    private final AtomicIntegerArray done = new AtomicIntegerArray(LoadingStage.values().length);
+
+    private final AtomicIntegerArray total = new AtomicIntegerArray(LoadingStage.values().length);
+
+    private final AtomicBoolean progressPosted = new AtomicBoolean();
+
+    private final CompletableFuture<List<Runnable>> completion = new CompletableFuture<>();
+
+    private volatile LoadingStage currentStage = LoadingStage.WALK;
+
+    private volatile boolean cancelled;
+
+    private volatile long startTime;
+
+    private volatile long walkedTime;
+
+    private volatile long finalizedTime;
+
+    LoadingPipeline(List<DataLoadingAction> actions, Executor workPool) {
+        this.actions = List.copyOf(actions);
+        this.workPool = workPool;
+    }
+
+    void cancel() {
+        if (cancelled) return;
+        cancelled = true;
+        log.info("Game data loading cancelled during stage: {}", currentStage);
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * @param previousRun completion of a run this one has to wait for, since stages share static caches.
+     * @param onFinished called on EDT after run ends in any way.
+     * @return future with publishing runnables, completed after they were run; cancelled if run was cancelled.
+     */
+    CompletableFuture<List<Runnable>> start(CompletableFuture<?> previousRun, Runnable onFinished) {
+        startTime = System.nanoTime();
+        CompletableFuture<Void> walk = previousRun.handle((result, throwable) -> null)
+                .thenRunAsync(this::walk, workPool);
+
+        List<CompletableFuture<Runnable>> performed = new ArrayList<>(actions.size());
+        total.set(LoadingStage.LINK.ordinal(), actions.size());
+        for (DataLoadingAction action : actions) {
+            performed.add(walk.thenApplyAsync(unused -> this.perform(action), workPool));
+        }
+
+        CompletableFuture.allOf(performed.toArray(CompletableFuture<?>[]::new))
+                .handle((unused, throwable) -> {
+                    this.finalizeCaches();
+                    return null;
+                })
+                .thenRun(() -> SwingUtilities.invokeLater(() -> {
+                    try {
+                        this.publish(performed);
+                    } finally {
+                        onFinished.run();
+                    }
+                }));
+        return completion;
+    }
+
+    private void walk() {
+        this.checkCancelled();
+        this.enterStage(LoadingStage.WALK);
+        PackageRegistry.refresh();
+        total.set(LoadingStage.WALK.ordinal(), DataFileIndex.getPackageFolders().size());
+        DataFileIndex.rebuild(walkExecutor, manifest -> this.advance(LoadingStage.WALK));
+        DataSnapshot.open();
+        StringPool.open();
+        walkedTime = System.nanoTime();
+        this.enterStage(LoadingStage.PARSE);
+    }
+
+    private Runnable perform(DataLoadingAction action) {
+        this.checkCancelled();
+        Runnable result = action.perform(target, this);
+        this.advance(LoadingStage.LINK);
+        if (done.get(LoadingStage.PARSE.ordinal()) >= total.get(LoadingStage.PARSE.ordinal())) {
+            this.enterStage(LoadingStage.LINK);
+        }
+        return result;
+    }
+
+    private void finalizeCaches() {
+        this.enterStage(LoadingStage.FINALIZE);
+        total.set(LoadingStage.FINALIZE.ordinal(), 1);
+        if (cancelled) {
+            DataSnapshot.discard();
+        } else {
+            DataSnapshot.close();
+        }
+        StringPool.close();
+        finalizedTime = System.nanoTime();
+        this.advance(LoadingStage.FINALIZE);
+    }
+
+    /**
+     * Runs on EDT. Results are published in action order; each action that failed carries over the collections
+     * it fills from the previous version instead. If all actions failed, previous version stays published.
+     * Effective entry of each ID is resolved once all results are in.
+     */
+    private void publish(List<CompletableFuture<Runnable>> performed) {
+        if (cancelled) {
+            completion.cancel(false);
+            return;
+        }
+        this.enterStage(LoadingStage.PUBLISH);
+        total.set(LoadingStage.PUBLISH.ordinal(), performed.size());
+        GameDataRepository previous = SettingsManager.getGameData();
+        List<Runnable> results = new ArrayList<>(performed.size());
+        int failed = 0;
+        for (int i = 0; i < performed.size(); i++) {
+            DataLoadingAction action = actions.get(i);
+            try {
+                results.add(performed.get(i).join());
+            } catch (CompletionException | CancellationException exception) {
+                log.error("Loading action failed, its data is kept from previous version: {}",
+                        action.getClass().getSimpleName());
+                Errors.printToStream(exception);
+                results.add(() -> action.carryOver(previous, target));
+                failed++;
+            }
+        }
+        if (failed == performed.size()) {
+            log.error("All loading actions failed, game data version {} is kept.", previous.getVersion());
+            completion.complete(List.of());
+            return;
+        }
+        SettingsManager.publishGameData(target);
+        for (Runnable result : results) {
+            result.run();
+            this.advance(LoadingStage.PUBLISH);
+        }
+        target.resolveWinners();
+        long publishedTime = System.nanoTime();
+        log.info("Game data version {} loaded in {} ms: walk {} ms, parse to finalize {} ms, publish {} ms.",
+                target.getVersion(), LoadingPipeline.millisBetween(startTime, publishedTime),
+                LoadingPipeline.millisBetween(startTime, walkedTime),
+                LoadingPipeline.millisBetween(walkedTime, finalizedTime),
+                LoadingPipeline.millisBetween(finalizedTime, publishedTime));
+        completion.complete(results);
+    }
+
+    private static long millisBetween(long from, long to) {
+        return (to - from) / 1_000_000;
+    }
+
+    /**
+     * Wraps per-file parser so that parsed files are counted for PARSE stage and cancellation is honored.
+     */
+    <T> Function<File, T> track(Function<File, T> parser, int fileCount) {
+        total.addAndGet(LoadingStage.PARSE.ordinal(), fileCount);
+        this.postProgress();
+        return file -> {
+            this.checkCancelled();
+            T result = parser.apply(file);
+            this.advance(LoadingStage.PARSE);
+            return result;
+        };
+    }
+
+    private void checkCancelled() {
+        if (cancelled) {
+            throw new CancellationException("Game data loading cancelled.");
+        }
+    }
+
+    private void enterStage(LoadingStage stage) {
+        currentStage = stage;
+        log.trace("Game data loading stage: {}", stage);
+        this.postProgress();
+    }
+
+    private void advance(LoadingStage stage) {
+        done.incrementAndGet(stage.ordinal());
+        this.postProgress();
+    }
+
+    /**
+     * Coalesces progress updates: at most one event is pending on EDT at any time.
+     */
+    private void postProgress() {
+        if (!progressPosted.compareAndSet(false, true)) return;
+        SwingUtilities.invokeLater(() -> {
+            progressPosted.set(false);
+            if (cancelled) return;
+            LoadingStage stage = Objects.requireNonNull(currentStage);
+            int ordinal = stage.ordinal();
+            EventBus.publish(new LoadingProgressed(stage, done.get(ordinal), total.get(ordinal)));
+        });
+    }
+
+}
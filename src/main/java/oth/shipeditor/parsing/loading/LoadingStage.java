@@ -0,0 +1,29 @@
+package oth.shipeditor.parsing.loading;
+
+import lombok.Getter;
+
+/**
+ * Stages of full game data load, in dependency order.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Getter
+public enum LoadingStage {
+
+    WALK("Walking packages"),
+
+    PARSE("Parsing files"),
+
+    LINK("Linking entries"),
+
+    FINALIZE("Finalizing caches"),
+
+    PUBLISH("Publishing data");
+
+    private final String displayedName;
+
+    LoadingStage(String name) {
+        this.displayedName = name;
+    }
+
+}
@@ -0,0 +1,394 @@
+package oth.shipeditor.parsing.loading;
+
+import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.communication.EventBus;
+import oth.shipeditor.communication.events.files.DataPackageChanged;
+import oth.shipeditor.components.datafiles.entities.*;
+import oth.shipeditor.persistence.GameDataPackage;
+import oth.shipeditor.persistence.PackageRegistry;
+import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.representation.GameDataRepository;
+import oth.shipeditor.representation.LazySpec;
+import oth.shipeditor.representation.ship.ShipSpecFile;
+import oth.shipeditor.representation.ship.SkinSpecFile;
+import oth.shipeditor.representation.ship.VariantFile;
+import oth.shipeditor.representation.weapon.ProjectileSpecFile;
+import oth.shipeditor.utility.Errors;
+
+import javax.swing.*;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * Applies enabling, disabling and pinning of a single data package to the loaded repository without a full reload.
+ * Disabling drops entries of the package and brings back entries of other packages that it was shadowing;
+ * enabling parses only the package itself. Either way, effective entry of each ID is then resolved anew
+ * in package loading order, and {@link DataPackageChanged} is published once the repository is patched,
+ * so that data trees refresh just the subtree of the package.
+ * <p>
+ * Hull and engine styles are a single small file per package and are simply re-read from all enabled packages.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+public final class PackageDelta {
+
+    private static final LoadHullmodDataAction hullmods = new LoadHullmodDataAction();
+
+    private static final LoadShipSystemDataAction shipSystems = new LoadShipSystemDataAction();
+
+    private static final LoadWingDataAction wings = new LoadWingDataAction();
+
+    private PackageDelta() {}
+
+    public static void setPinned(GameDataPackage dataPackage, boolean pinned) {
+        dataPackage.setPinned(pinned);
+        SettingsManager.updateFileFromRuntime();
+        EventBus.publish(new DataPackageChanged(dataPackage));
+    }
+
+    /**
+     * Expected to be called from EDT. If a full load is running, it is restarted instead, as it may have
+     * already passed the package.
+     */
+    public static void setDisabled(GameDataPackage dataPackage, boolean disabled) {
+        if (dataPackage.isDisabled() == disabled) return;
+        dataPackage.setDisabled(disabled);
+        Path folder = SettingsManager.getPackageFolderPath(dataPackage);
+        DataFileIndex.invalidate(folder);
+        SettingsManager.updateFileFromRuntime();
+
+        if (FileLoading.isLoadingInProgress()) {
+            log.info("Package toggled during game data loading, restarting the load: {}", dataPackage.getFolderName());
+            FileLoading.loadGameData();
+            return;
+        }
+
+        long start = System.nanoTime();
+        GameDataRepository published = SettingsManager.getGameData();
+        ProvidedSpecs variants = ProvidedSpecs.of(folder, published.getAllVariants());
+        ProvidedSpecs projectiles = ProvidedSpecs.of(folder, published.getAllProjectiles());
+        FileLoading.supplyInPool(() -> PackageDelta.prepare(folder, disabled, variants, projectiles))
+                .thenAccept(patches -> SwingUtilities.invokeLater(() -> {
+                    patches.forEach(Runnable::run);
+                    GameDataRepository gameData = SettingsManager.getGameData();
+                    gameData.invalidateIndexes();
+                    gameData.resolveWinners();
+                    EventBus.publish(new DataPackageChanged(dataPackage));
+                    long elapsed = (System.nanoTime() - start) / 1_000_000;
+                    log.info("Package {} {} in {} ms.", dataPackage.getFolderName(),
+                            disabled ? "disabled" : "enabled", elapsed);
+                }))
+                .exceptionally(throwable -> {
+                    log.error("Failed to apply package toggle, full reload needed: {}", dataPackage.getFolderName());
+                    Errors.printToStream(throwable);
+                    return null;
+                });
+    }
+
+    /**
+     * Runs on loading pool; returned patches are applied on EDT in order.
+     * @param variants variants the package provided, taken on EDT before the task was submitted.
+     * @param projectiles projectiles the package provided, taken on EDT before the task was submitted.
+     */
+    private static List<Runnable> prepare(Path folder, boolean disabled,
+                                          ProvidedSpecs variants, ProvidedSpecs projectiles) {
+        List<Runnable> patches = new ArrayList<>();
+        if (disabled) {
+            Map<String, LazySpec<VariantFile>> shadowedVariants = PackageDelta.findShadowed(folder,
+                    variants, (otherPackage, files) ->
+                            LoadShipDataAction.scanVariants(otherPackage, files, null));
+            Map<String, LazySpec<ProjectileSpecFile>> shadowedProjectiles = PackageDelta.findShadowed(folder,
+                    projectiles, (otherPackage, files) ->
+                            LoadWeaponsDataAction.scanProjectiles(otherPackage, files, null));
+            patches.add(() -> PackageDelta.removePackage(folder, shadowedVariants, shadowedProjectiles));
+        } else {
+            patches.add(PackageDelta.parsePackage(folder));
+        }
+        // Style actions only touch repository in their publishing code, which runs on EDT.
+        GameDataRepository gameData = SettingsManager.getGameData();
+        patches.add(FileLoading.getLoadHullStyles().perform(gameData));
+        patches.add(FileLoading.getLoadEngineStyles().perform(gameData));
+        return patches;
+    }
+
+    private static Runnable parsePackage(Path folder) {
+        Map<String, SkinSpecFile> packageSkins = LoadShipDataAction.walkSkinFolder(folder, null);
+        LoadShipDataAction.HullPackage hullPackage = LoadShipDataAction.walkHullFolder(folder.toString(), null);
+        Map<String, LazySpec<VariantFile>> variants = LoadShipDataAction.scanVariants(folder, null);
+        Map<String, WeaponCSVEntry> weapons = LoadWeaponsDataAction.walkWeaponsFolder(folder, null);
+        Map<String, LazySpec<ProjectileSpecFile>> projectiles = LoadWeaponsDataAction.scanProjectiles(folder, null);
+        List<HullmodCSVEntry> hullmodEntries = hullmods.loadPackage(folder);
+        List<ShipSystemCSVEntry> systemEntries = shipSystems.loadPackage(folder);
+        List<WingCSVEntry> wingEntries = wings.loadPackage(folder);
+
+        return () -> {
+            GameDataRepository gameData = SettingsManager.getGameData();
+            PackageDelta.mergeShips(folder, hullPackage, packageSkins);
+            PackageDelta.mergeLazySpecs(folder, gameData.getAllVariants(), variants);
+            PackageDelta.mergeLazySpecs(folder, gameData.getAllProjectiles(), projectiles);
+            if (weapons != null) {
+                PackageDelta.mergeEntries(folder, new ArrayList<>(weapons.values()),
+                        gameData.getWeaponEntriesByPackage(), gameData.getAllWeaponEntries());
+            }
+            PackageDelta.mergeEntries(folder, hullmodEntries,
+                    gameData.getHullmodEntriesByPackage(), gameData.getAllHullmodEntries());
+            PackageDelta.mergeEntries(folder, systemEntries,
+                    gameData.getShipSystemEntriesByPackage(), gameData.getAllShipsystemEntries());
+            PackageDelta.mergeEntries(folder, wingEntries,
+                    gameData.getWingEntriesByPackage(), gameData.getAllWingEntries());
+        };
+    }
+
+    /**
+     * New skins of the package are also attached to already loaded hulls of other packages.
+     */
+    private static void mergeShips(Path folder, LoadShipDataAction.HullPackage hullPackage,
+                                   Map<String, SkinSpecFile> packageSkins) {
+        GameDataRepository gameData = SettingsManager.getGameData();
+        Map<Path, List<ShipCSVEntry>> byPackage = gameData.getShipEntriesByPackage();
+        if (byPackage == null) return;
+        Map<String, ShipCSVEntry> allShipEntries = gameData.getAllShipEntries();
+        LoadShipDataAction.registerSpecs(gameData, hullPackage, packageSkins);
+
+        Map<String, SkinSpecFile> allSkins = new HashMap<>();
+        for (ShipCSVEntry entry : allShipEntries.values()) {
+            allSkins.putAll(PackageDelta.getSkinFiles(entry));
+        }
+        allSkins.putAll(packageSkins);
+        Map<String, Map<String, SkinSpecFile>> skinsByBaseHull = LoadShipDataAction.indexSkinsByBaseHull(allSkins);
+
+        Map<String, Map<String, SkinSpecFile>> newSkinsByBaseHull =
+                LoadShipDataAction.indexSkinsByBaseHull(packageSkins);
+        for (ShipCSVEntry entry : List.copyOf(allShipEntries.values())) {
+            Map<String, SkinSpecFile> added = newSkinsByBaseHull.get(entry.getHullID());
+            if (added == null) continue;
+            Map<String, SkinSpecFile> merged = PackageDelta.getSkinFiles(entry);
+            merged.putAll(added);
+            PackageDelta.replaceSkins(entry, merged);
+        }
+
+        if (hullPackage != null) {
+            List<ShipCSVEntry> entries = LoadShipDataAction.linkEntries(hullPackage, skinsByBaseHull, allShipEntries);
+            byPackage.put(folder, entries);
+        }
+    }
+
+    private static <T extends CSVEntry> void mergeEntries(Path folder, List<T> entries,
+                                                          Map<Path, List<T>> byPackage, Map<String, T> byID) {
+        if (entries == null || byPackage == null) return;
+        byPackage.put(folder, entries);
+        for (T entry : entries) {
+            byID.put(entry.getID(), entry);
+        }
+    }
+
+    /**
+     * Added spec only replaces a loaded one of the same ID if the loaded one comes from an earlier package
+     * in loading order, same as in a full load.
+     */
+    private static <T> void mergeLazySpecs(Path folder, Map<String, LazySpec<T>> loaded,
+                                           Map<String, LazySpec<T>> added) {
+        if (loaded == null) return;
+        List<Path> packageOrder = PackageDelta.getLoadingOrder();
+        int addedPosition = PackageDelta.positionOf(folder, packageOrder);
+        added.forEach((specID, spec) -> {
+            LazySpec<T> existing = loaded.get(specID);
+            if (existing != null
+                    && PackageDelta.positionOf(existing.getContainingPackage(), packageOrder) > addedPosition) {
+                return;
+            }
+            loaded.put(specID, spec);
+        });
+    }
+
+    /**
+     * @return normalized folders of active packages, in loading order.
+     */
+    static List<Path> getLoadingOrder() {
+        List<Path> packageOrder = new ArrayList<>();
+        for (PackageRegistry.GamePackage gamePackage : PackageRegistry.getActivePackages()) {
+            packageOrder.add(gamePackage.folder().toAbsolutePath().normalize());
+        }
+        return packageOrder;
+    }
+
+    /**
+     * @return position of the package in loading order; packages missing from it come last.
+     */
+    static int positionOf(Path folder, List<Path> packageOrder) {
+        if (folder == null) return Integer.MAX_VALUE;
+        int position = packageOrder.indexOf(folder.toAbsolutePath().normalize());
+        return position < 0 ? Integer.MAX_VALUE : position;
+    }
+
+    private static void removePackage(Path folder, Map<String, LazySpec<VariantFile>> shadowedVariants,
+                                      Map<String, LazySpec<ProjectileSpecFile>> shadowedProjectiles) {
+        GameDataRepository gameData = SettingsManager.getGameData();
+        PackageDelta.removeShips(folder);
+        PackageDelta.removeLazySpecs(folder, gameData.getAllVariants(), shadowedVariants);
+        PackageDelta.removeLazySpecs(folder, gameData.getAllProjectiles(), shadowedProjectiles);
+        PackageDelta.removeEntries(folder, gameData.getWeaponEntriesByPackage(), gameData.getAllWeaponEntries());
+        PackageDelta.removeEntries(folder, gameData.getHullmodEntriesByPackage(), gameData.getAllHullmodEntries());
+        PackageDelta.removeEntries(folder, gameData.getShipSystemEntriesByPackage(),
+                gameData.getAllShipsystemEntries());
+        PackageDelta.removeEntries(folder, gameData.getWingEntriesByPackage(), gameData.getAllWingEntries());
+    }
+
+    /**
+     * Besides dropping hull entries of the package, detaches its skins from hulls of other packages.
+     */
+    private static void removeShips(Path folder) {
+        GameDataRepository gameData = SettingsManager.getGameData();
+        Map<String, ShipCSVEntry> allShipEntries = gameData.getAllShipEntries();
+        Map<String, ShipSpecFile> allSpecs = gameData.getAllSpecEntries();
+        List<ShipCSVEntry> removed = PackageDelta.removeEntries(folder, gameData.getShipEntriesByPackage(),
+                allShipEntries);
+        for (ShipCSVEntry entry : removed) {
+            allSpecs.remove(entry.getHullID(), entry.getHullSpecFile());
+            PackageDelta.getSkinFiles(entry).values().forEach(skin -> allSpecs.remove(skin.getHullId(), skin));
+            ShipCSVEntry restored = allShipEntries.get(entry.getHullID());
+            if (restored != null) {
+                gameData.putSpec(restored.getHullSpecFile());
+                PackageDelta.getSkinFiles(restored).values().forEach(gameData::putSpec);
+            }
+        }
+
+        for (ShipCSVEntry entry : List.copyOf(allShipEntries.values())) {
+            Map<String, SkinSpecFile> skins = PackageDelta.getSkinFiles(entry);
+            boolean changed = skins.values().removeIf(skin -> {
+                boolean ofPackage = IncrementalReload.isSamePath(skin.getContainingPackage(), folder);
+                if (ofPackage) {
+                    allSpecs.remove(skin.getHullId(), skin);
+                }
+                return ofPackage;
+            });
+            if (changed) {
+                PackageDelta.replaceSkins(entry, skins);
+            }
+        }
+    }
+
+    /**
+     * @return removed entries; IDs they were providing fall back to same-ID entries of other packages, if any.
+     */
+    private static <T extends CSVEntry> List<T> removeEntries(Path folder, Map<Path, List<T>> byPackage,
+                                                              Map<String, T> byID) {
+        if (byPackage == null) return List.of();
+        List<T> removed = null;
+        Iterator<Map.Entry<Path, List<T>>> packages = byPackage.entrySet().iterator();
+        while (packages.hasNext()) {
+            Map.Entry<Path, List<T>> entryPackage = packages.next();
+            if (IncrementalReload.isSamePath(entryPackage.getKey(), folder)) {
+                removed = entryPackage.getValue();
+                packages.remove();
+                break;
+            }
+        }
+        if (removed == null) return List.of();
+
+        for (T entry : removed) {
+            String entryID = entry.getID();
+            if (byID.get(entryID) != entry) continue;
+            byID.remove(entryID);
+            T shadowed = PackageDelta.findByID(byPackage, entryID);
+            if (shadowed != null) {
+                byID.put(entryID, shadowed);
+            }
+        }
+        return removed;
+    }
+
+    private static <T extends CSVEntry> T findByID(Map<Path, List<T>> byPackage, String entryID) {
+        for (List<T> entries : byPackage.values()) {
+            for (T candidate : entries) {
+                if (entryID.equals(candidate.getID())) return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static <T> void removeLazySpecs(Path folder, Map<String, LazySpec<T>> loaded,
+                                            Map<String, LazySpec<T>> shadowed) {
+        if (loaded == null) return;
+        loaded.values().removeIf(spec -> IncrementalReload.isSamePath(spec.getContainingPackage(), folder));
+        shadowed.forEach(loaded::putIfAbsent);
+    }
+
+    /**
+     * Lazily loaded specs do not keep the same-ID specs they replaced, so headers of other enabled packages
+     * are scanned for IDs that the removed package was providing. Only files named same as the removed ones
+     * are scanned, which is how mods override specs; a same-ID spec under another file name is only brought
+     * back by a full reload. Runs off EDT.
+     */
+    private static <T> Map<String, LazySpec<T>> findShadowed(Path folder, ProvidedSpecs provided,
+                                                             BiFunction<Path, List<File>,
+                                                                     Map<String, LazySpec<T>>> scanner) {
+        if (provided.specIDs().isEmpty()) return Map.of();
+
+        Map<String, LazySpec<T>> result = new HashMap<>();
+        for (PackageRegistry.GamePackage gamePackage : PackageRegistry.getActivePackages()) {
+            Path otherPackage = gamePackage.folder();
+            if (gamePackage.isDisabled() || IncrementalReload.isSamePath(otherPackage, folder)) continue;
+            PackageManifest manifest = DataFileIndex.getManifest(otherPackage);
+            List<File> candidates = manifest.getFilesNamed(provided.fileNames());
+            if (candidates.isEmpty()) continue;
+            scanner.apply(otherPackage, candidates).forEach((id, spec) -> {
+                if (provided.specIDs().contains(id)) {
+                    result.put(id, spec);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * @return modifiable copy of skin files of the entry, without the default placeholder skin.
+     */
+    private static Map<String, SkinSpecFile> getSkinFiles(ShipCSVEntry entry) {
+        Map<String, SkinSpecFile> skins = entry.getSkins();
+        if (skins == null) return new HashMap<>();
+        Map<String, SkinSpecFile> result = new HashMap<>(skins);
+        result.remove(SkinSpecFile.DEFAULT);
+        return result;
+    }
+
+    /**
+     * IDs and file names of lazily loaded specs that a package provides in the published version.
+     */
+    private record ProvidedSpecs(Set<String> specIDs, Set<String> fileNames) {
+
+        /**
+         * Expected to be called on EDT, where loaded specs are patched.
+         */
+        static <T> ProvidedSpecs of(Path folder, Map<String, LazySpec<T>> loaded) {
+            Set<String> specIDs = new HashSet<>();
+            Set<String> fileNames = new HashSet<>();
+            if (loaded != null) {
+                loaded.forEach((specID, spec) -> {
+                    if (!IncrementalReload.isSamePath(spec.getContainingPackage(), folder)) return;
+                    specIDs.add(specID);
+                    Path file = spec.getFilePath();
+                    if (file != null) {
+                        fileNames.add(file.getFileName().toString());
+                    }
+                });
+            }
+            return new ProvidedSpecs(specIDs, fileNames);
+        }
+
+    }
+
+    private static void replaceSkins(ShipCSVEntry entry, Map<String, SkinSpecFile> skins) {
+        GameDataRepository gameData = SettingsManager.getGameData();
+        Map<String, SkinSpecFile> updatedSkins = skins.isEmpty() ? null : skins;
+        var hullWithSkins = new AbstractMap.SimpleEntry<>(entry.getHullSpecFile(), updatedSkins);
+        ShipCSVEntry updated = new ShipCSVEntry(entry.getRowData(), hullWithSkins,
+                entry.getPackageFolderPath(), entry.getHullFileName());
+        IncrementalReload.replaceEntry(gameData.getAllShipEntries(), gameData.getShipEntriesByPackage(),
+                entry, updated);
+    }
+
+}
@@ -0,0 +1,203 @@
+package oth.shipeditor.parsing.loading;
+
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.*;
+
+/**
+ * Result of a single traversal of a game data package: every regular file, bucketed by extension and data subfolder.
+ * Loaders query the manifest instead of walking the package again for each file type.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+public final class PackageManifest {
+
+    private static final int SUBFOLDER_DEPTH = 2;
+
+    @Getter
+    private final Path packageFolder;
+
+    private final Map<String, Path> byRelativePath = new HashMap<>();
+
+    private final Map<String, List<Path>> byFileName = new HashMap<>();
+
+    /**
+     * Extension without dot, then data subfolder such as "data/hulls", then files in visitation order.
+     */
+    private final Map<String, Map<String, List<Path>>> byExtension = new HashMap<>();
+
+    private final Map<String, List<Path>> allByExtension = new HashMap<>();
+
+    @Getter
+    private int fileCount;
+
+    @Getter
+    private long walkTimeMillis;
+
+    private PackageManifest(Path packageFolder) {
+        this.packageFolder = packageFolder;
+    }
+
+    static PackageManifest walk(Path packageFolder) {
+        PackageManifest manifest = new PackageManifest(packageFolder);
+        long start = System.nanoTime();
+        if (Files.isDirectory(packageFolder)) {
+            try {
+                Files.walkFileTree(packageFolder, EnumSet.of(FileVisitOption.FOLLOW_LINKS),
+                        Integer.MAX_VALUE, manifest.new Visitor());
+            } catch (IOException exception) {
+                log.error("Failed to walk data package: {}", packageFolder, exception);
+            }
+        }
+        manifest.walkTimeMillis = (System.nanoTime() - start) / 1_000_000;
+        log.trace("Package {} walked: {} files in {} ms.", packageFolder.getFileName(),
+                manifest.fileCount, manifest.walkTimeMillis);
+        return manifest;
+    }
+
+    /**
+     * @return all files with passed extension anywhere in the package, in traversal order.
+     */
+    public List<File> getFiles(String dotlessExtension) {
+        List<Path> files = allByExtension.get(dotlessExtension);
+        if (files == null) return new ArrayList<>();
+        List<File> result = new ArrayList<>(files.size());
+        files.forEach(path -> result.add(path.toFile()));
+        return result;
+    }
+
+    /**
+     * @param subfolder relative to package folder, for example Path.of("data/weapons/proj").
+     * @return files with passed extension within subfolder and its children, in traversal order.
+     */
+    public List<File> getFiles(Path subfolder, String dotlessExtension) {
+        Map<String, List<Path>> bySubfolder = byExtension.get(dotlessExtension);
+        if (bySubfolder == null) return new ArrayList<>();
+        String query = PackageManifest.normalize(subfolder.toString());
+        String queryKey = PackageManifest.toSubfolderKey(query);
+        String prefix = query + "/";
+
+        List<File> result = new ArrayList<>();
+        for (Map.Entry<String, List<Path>> bucket : bySubfolder.entrySet()) {
+            String key = bucket.getKey();
+            if (!key.equals(queryKey) && !key.startsWith(prefix)) continue;
+            for (Path file : bucket.getValue()) {
+                String relative = PackageManifest.normalize(packageFolder.relativize(file).toString());
+                if (relative.startsWith(prefix)) {
+                    result.add(file.toFile());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param fileNames plain names with extension, such as "onslaught_standard.variant".
+     * @return files of the package with any of the names, wherever they are in the package.
+     */
+    List<File> getFilesNamed(Collection<String> fileNames) {
+        List<File> result = new ArrayList<>();
+        for (String fileName : fileNames) {
+            List<Path> files = byFileName.get(fileName);
+            if (files != null) {
+                files.forEach(path -> result.add(path.toFile()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Exact relative path is the common case; suffix match on same-named files
+     * keeps the semantics of former walk-based search for nested references.
+     */
+    Path find(Path filePath) {
+        String query = filePath.toString();
+        Path exact = byRelativePath.get(PackageManifest.normalize(query));
+        if (exact != null) {
+            return exact;
+        }
+        Path fileName = filePath.getFileName();
+        if (fileName == null) return null;
+        List<Path> candidates = byFileName.get(fileName.toString());
+        if (candidates == null) return null;
+        for (Path candidate : candidates) {
+            if (candidate.toString().endsWith(query)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void add(Path file) {
+        String relative = PackageManifest.normalize(packageFolder.relativize(file).toString());
+        byRelativePath.putIfAbsent(relative, file);
+
+        String fileName = file.getFileName().toString();
+        byFileName.computeIfAbsent(fileName, name -> new ArrayList<>(1)).add(file);
+
+        int dot = fileName.lastIndexOf('.');
+        if (dot >= 0 && dot < fileName.length() - 1) {
+            String extension = fileName.substring(dot + 1);
+            Map<String, List<Path>> bySubfolder = byExtension.computeIfAbsent(extension,
+                    key -> new LinkedHashMap<>());
+            int separator = relative.lastIndexOf('/');
+            String directory = separator < 0 ? "" : relative.substring(0, separator);
+            bySubfolder.computeIfAbsent(PackageManifest.toSubfolderKey(directory),
+                    key -> new ArrayList<>()).add(file);
+            allByExtension.computeIfAbsent(extension, key -> new ArrayList<>()).add(file);
+        }
+        fileCount++;
+    }
+
+    /**
+     * @param directory relative directory path, normalized.
+     * @return first segments of the directory up to subfolder depth, such as "data/hulls".
+     */
+    private static String toSubfolderKey(String directory) {
+        int index = -1;
+        for (int i = 0; i < SUBFOLDER_DEPTH; i++) {
+            int next = directory.indexOf('/', index + 1);
+            if (next < 0) {
+                return directory;
+            }
+            index = next;
+        }
+        return directory.substring(0, index);
+    }
+
+    static String normalize(String path) {
+        String result = path.replace('\\', '/');
+        while (result.startsWith("/")) {
+            result = result.substring(1);
+        }
+        while (result.endsWith("/")) {
+            result = result.substring(0, result.length() - 1);
+        }
+        return result;
+    }
+
+    private class Visitor extends SimpleFileVisitor<Path> {
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+            if (attributes.isRegularFile()) {
+                add(file);
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException exception) {
+            log.warn("Skipping unreadable path in data package: {}", file);
+            return FileVisitResult.CONTINUE;
+        }
+
+    }
+
+}
@@ -0,0 +1,113 @@
+package oth.shipeditor.parsing.loading;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.parsing.FileUtilities;
+import oth.shipeditor.parsing.JsonProcessor;
+import oth.shipeditor.parsing.deserialize.StringPool;
+import oth.shipeditor.utility.Errors;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Serializable;
+import java.util.*;
+
+/**
+ * Cheap first pass over JSON data files: streams top-level object and captures only requested scalar fields,
+ * skipping nested values without building them. Stops reading as soon as all requested fields are found,
+ * unless reference fields are requested too; string values of those are collected from the whole file.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+final class SpecHeaderScanner {
+
+    private SpecHeaderScanner() {}
+
+    /**
+     * @return captured fields by name, or NULL if the file could not be read as JSON object.
+     */
+    static Map<String, String> scan(File file, Set<String> fields) {
+        Header header = SpecHeaderScanner.scan(file, fields, Map.of());
+        if (header == null) return null;
+        return header.fields();
+    }
+
+    /**
+     * @param referenceFields top-level fields to collect string values from, mapped to nested field name
+     *                        that values are taken from; empty name means all string values within the field.
+     * @return captured fields and references, or NULL if the file could not be read as JSON object.
+     */
+    static Header scan(File file, Set<String> fields, Map<String, String> referenceFields) {
+        Header cached = DataSnapshot.restore(file, Header.class);
+        if (cached != null) {
+            return cached;
+        }
+        HashMap<String, String> found = new HashMap<>(fields.size() * 2);
+        HashMap<String, ArrayList<String>> references = new HashMap<>(referenceFields.size() * 2);
+        boolean scanWhole = !referenceFields.isEmpty();
+        try (Reader reader = JsonProcessor.createTolerantReader(file);
+             JsonParser parser = FileUtilities.getConfigured().createParser(reader)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                log.error("Data file is not a JSON object: {}", file);
+                return null;
+            }
+            while ((scanWhole || found.size() < fields.size()) && parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                String nestedField = referenceFields.get(name);
+                if (value.isScalarValue() && fields.contains(name)) {
+                    found.put(name, StringPool.intern(parser.getText()));
+                } else if (nestedField != null && value.isStructStart()) {
+                    ArrayList<String> collected = new ArrayList<>();
+                    SpecHeaderScanner.collectStrings(parser, nestedField, nestedField.isEmpty(), collected);
+                    references.put(name, collected);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException exception) {
+            log.error("Header scan failed for data file: {}", file);
+            Errors.printToStream(exception);
+            return null;
+        }
+        Header result = new Header(found, references);
+        DataSnapshot.record(file, result);
+        return result;
+    }
+
+    /**
+     * Reads the structure the parser currently points at, up to its end token.
+     */
+    private static void collectStrings(JsonParser parser, String nestedField, boolean inside,
+                                       List<String> collected) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_STRING) {
+            if (inside) {
+                collected.add(StringPool.intern(parser.getText()));
+            }
+            return;
+        }
+        if (!token.isStructStart()) return;
+        boolean isObject = token == JsonToken.START_OBJECT;
+        while (true) {
+            JsonToken next = parser.nextToken();
+            if (next == null || next.isStructEnd()) return;
+            boolean childInside = inside;
+            if (isObject) {
+                childInside = inside || nestedField.equals(parser.currentName());
+                parser.nextToken();
+            }
+            SpecHeaderScanner.collectStrings(parser, nestedField, childInside, collected);
+        }
+    }
+
+    /**
+     * Snapshot payload of a scan; fields absent from the file are absent from the maps.
+     */
+    record Header(HashMap<String, String> fields, HashMap<String, ArrayList<String>> references)
+            implements Serializable {}
+
+}
@@ -0,0 +1,67 @@
+package oth.shipeditor.parsing.loading;
+
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import oth.shipeditor.parsing.FileUtilities;
+import oth.shipeditor.representation.ship.*;
+import oth.shipeditor.representation.weapon.ProjectileSpecFile;
+import oth.shipeditor.representation.weapon.WeaponSpecFile;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of readers pre-bound to data file types, with leniency features of game data fixed at construction.
+ * Readers are immutable and safe to share between loading threads; their root deserializers are resolved
+ * once here instead of on every file.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+final class SpecReaders {
+
+    private static final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    static final JavaType HULL_STYLES;
+
+    static final JavaType ENGINE_STYLES;
+
+    static {
+        TypeFactory typeFactory = FileUtilities.getConfigured().getTypeFactory();
+        HULL_STYLES = typeFactory.constructMapType(HashMap.class, String.class, HullStyle.class);
+        ENGINE_STYLES = typeFactory.constructMapType(HashMap.class, String.class, EngineStyle.class);
+
+        List<Class<?>> specClasses = List.of(HullSpecFile.class, SkinSpecFile.class, VariantFile.class,
+                WeaponSpecFile.class, ProjectileSpecFile.class);
+        for (Class<?> specClass : specClasses) {
+            SpecReaders.forType(typeFactory.constructType(specClass));
+        }
+        SpecReaders.forType(HULL_STYLES);
+        SpecReaders.forType(ENGINE_STYLES);
+    }
+
+    private SpecReaders() {}
+
+    static ObjectReader forClass(Class<?> dataClass) {
+        TypeFactory typeFactory = FileUtilities.getConfigured().getTypeFactory();
+        return SpecReaders.forType(typeFactory.constructType(dataClass));
+    }
+
+    /**
+     * Types outside the pre-built set get their reader created on first request and kept afterwards.
+     */
+    static ObjectReader forType(JavaType targetType) {
+        return readers.computeIfAbsent(targetType, SpecReaders::createReader);
+    }
+
+    private static ObjectReader createReader(JavaType targetType) {
+        ObjectMapper objectMapper = FileUtilities.getConfigured();
+        return objectMapper.readerFor(targetType)
+                .with(JsonReadFeature.ALLOW_LEADING_ZEROS_FOR_NUMBERS);
+    }
+
+}
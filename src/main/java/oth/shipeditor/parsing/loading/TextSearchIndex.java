@@ -0,0 +1,454 @@
+package oth.shipeditor.parsing.loading;
+
+import lombok.extern.log4j.Log4j2;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index over raw text of hull, skin, variant, weapon, projectile and table files of all loaded packages.
+ * Words are runs of letters and digits, lower-cased; each word maps to the lines of every file it occurs on.
+ * Words are kept sorted and indexed by their trigrams, so that partial words at the ends of a query are found too.
+ * <p>
+ * Built on a single low-priority thread after every full load, file by file, so partial results are searchable
+ * while it runs; files unchanged since their last indexing are skipped. Files reported by data file watcher
+ * are re-indexed one by one. Indexing pass yields to a full load that starts meanwhile.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+public final class TextSearchIndex {
+
+    private static final List<String> INDEXED_EXTENSIONS = List.of("ship", "skin", "variant", "wpn", "proj", "csv");
+
+    private static final int MAX_HITS = 1000;
+
+    private static final Pattern ENTITY_ID = Pattern.compile(
+            "\"(?:id|hullId|skinHullId|variantId)\"\\s*:\\s*\"([^\"]+)\"");
+
+    private static final ExecutorService indexer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Text search indexer");
+        thread.setDaemon(true);
+        thread.setPriority(Thread.MIN_PRIORITY);
+        return thread;
+    });
+
+    private static final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    private static final Object lock = new Object();
+
+    private static final Map<Path, IndexedFile> files = new HashMap<>();
+
+    /**
+     * Word, then lines of the word in every file that contains it, in ascending order.
+     */
+    private static final NavigableMap<String, Map<IndexedFile, int[]>> postings = new TreeMap<>();
+
+    /**
+     * Trigrams to indexed words that contain them; words shorter than a trigram are not listed.
+     */
+    private static final Map<String, Set<String>> wordGrams = new HashMap<>();
+
+    private static final int GRAM_LENGTH = 3;
+
+    private static volatile boolean building;
+
+    private TextSearchIndex() {}
+
+    public static boolean isBuilding() {
+        return building;
+    }
+
+    public static int getIndexedFileCount() {
+        synchronized (lock) {
+            return files.size();
+        }
+    }
+
+    /**
+     * Queues an indexing pass over all packages; a pass that is already queued absorbs the request.
+     */
+    static void scheduleRebuild() {
+        if (!rebuildQueued.compareAndSet(false, true)) return;
+        indexer.execute(() -> {
+            rebuildQueued.set(false);
+            TextSearchIndex.rebuild();
+        });
+    }
+
+    /**
+     * @param changed files that were modified, created or deleted.
+     */
+    static void scheduleUpdate(Collection<Path> changed) {
+        List<Path> copy = List.copyOf(changed);
+        indexer.execute(() -> {
+            for (Path file : copy) {
+                if (Files.isRegularFile(file)) {
+                    if (TextSearchIndex.isIndexed(file)) {
+                        TextSearchIndex.indexFile(file.toAbsolutePath().normalize());
+                    }
+                } else {
+                    TextSearchIndex.removeFile(file.toAbsolutePath().normalize());
+                }
+            }
+        });
+    }
+
+    private static boolean isIndexed(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot >= 0 && INDEXED_EXTENSIONS.contains(name.substring(dot + 1));
+    }
+
+    private static void rebuild() {
+        building = true;
+        long start = System.nanoTime();
+        try {
+            Set<Path> listed = new HashSet<>();
+            for (Path packageFolder : DataFileIndex.getPackageFolders()) {
+                PackageManifest manifest = DataFileIndex.getManifest(packageFolder);
+                for (String extension : INDEXED_EXTENSIONS) {
+                    for (File file : manifest.getFiles(extension)) {
+                        listed.add(file.toPath().toAbsolutePath().normalize());
+                    }
+                }
+            }
+            List<Path> stale;
+            synchronized (lock) {
+                stale = files.keySet().stream().filter(path -> !listed.contains(path)).toList();
+            }
+            stale.forEach(TextSearchIndex::removeFile);
+
+            int indexed = 0;
+            for (Path file : listed) {
+                if (FileLoading.isLoadingInProgress()) {
+                    log.trace("Text search indexing interrupted by data loading.");
+                    return;
+                }
+                if (TextSearchIndex.indexFile(file)) {
+                    indexed++;
+                }
+            }
+            long elapsed = (System.nanoTime() - start) / 1_000_000;
+            log.info("Text search index updated: {} of {} files indexed anew in {} ms.",
+                    indexed, listed.size(), elapsed);
+        } finally {
+            building = false;
+        }
+    }
+
+    /**
+     * @return false if the file was indexed already and did not change since.
+     */
+    private static boolean indexFile(Path file) {
+        long size;
+        long modified;
+        List<String> lines;
+        try {
+            size = Files.size(file);
+            modified = Files.getLastModifiedTime(file).toMillis();
+            synchronized (lock) {
+                IndexedFile existing = files.get(file);
+                if (existing != null && existing.size == size && existing.modified == modified) return false;
+            }
+            lines = TextSearchIndex.readLines(file);
+        } catch (IOException exception) {
+            log.trace("Text search indexing skipped unreadable file: {}", file);
+            TextSearchIndex.removeFile(file);
+            return false;
+        }
+
+        Map<String, List<Integer>> wordLines = new HashMap<>();
+        String entityID = null;
+        boolean isTable = file.getFileName().toString().endsWith(".csv");
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (entityID == null && !isTable) {
+                Matcher matcher = ENTITY_ID.matcher(line);
+                if (matcher.find()) {
+                    entityID = matcher.group(1);
+                }
+            }
+            int lineNumber = i + 1;
+            for (String word : TextSearchIndex.tokenize(line)) {
+                List<Integer> occurrences = wordLines.computeIfAbsent(word, key -> new ArrayList<>());
+                if (occurrences.isEmpty() || occurrences.getLast() != lineNumber) {
+                    occurrences.add(lineNumber);
+                }
+            }
+        }
+
+        IndexedFile indexed = new IndexedFile(file, size, modified, entityID, isTable,
+                wordLines.keySet().toArray(new String[0]));
+        synchronized (lock) {
+            TextSearchIndex.removeFile(file);
+            files.put(file, indexed);
+            wordLines.forEach((word, occurrences) -> {
+                int[] lineNumbers = occurrences.stream().mapToInt(Integer::intValue).toArray();
+                postings.computeIfAbsent(word, key -> {
+                    TextSearchIndex.updateWordGrams(key, true);
+                    return new HashMap<>();
+                }).put(indexed, lineNumbers);
+            });
+        }
+        return true;
+    }
+
+    private static void removeFile(Path file) {
+        synchronized (lock) {
+            IndexedFile removed = files.remove(file);
+            if (removed == null) return;
+            for (String word : removed.words) {
+                Map<IndexedFile, int[]> byFile = postings.get(word);
+                if (byFile == null) continue;
+                byFile.remove(removed);
+                if (byFile.isEmpty()) {
+                    postings.remove(word);
+                    TextSearchIndex.updateWordGrams(word, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * Expected to be called while holding lock.
+     */
+    private static void updateWordGrams(String word, boolean added) {
+        for (int start = 0; start + GRAM_LENGTH <= word.length(); start++) {
+            String gram = word.substring(start, start + GRAM_LENGTH);
+            if (added) {
+                wordGrams.computeIfAbsent(gram, key -> new HashSet<>()).add(word);
+            } else {
+                Set<String> words = wordGrams.get(gram);
+                if (words == null) continue;
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordGrams.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds lines that contain the query text, case-insensitive. Candidate lines are taken from the index
+     * by words of the query; then only candidate files are read to confirm the exact text.
+     * Words inside the query must be whole, while the first and last ones may be cut off where the query is,
+     * e.g. "onsl" or "hull_i" find "onslaught" and "hull_id".
+     * @return at most a thousand hits, by file and line.
+     */
+    public static List<SearchHit> search(String query) {
+        String needle = query.strip().toLowerCase(Locale.ROOT);
+        List<String> words = TextSearchIndex.tokenize(needle);
+        if (words.isEmpty()) return List.of();
+        boolean openStart = Character.isLetterOrDigit(needle.charAt(0));
+        boolean openEnd = Character.isLetterOrDigit(needle.charAt(needle.length() - 1));
+
+        Map<IndexedFile, int[]> candidates = new HashMap<>();
+        synchronized (lock) {
+            List<Map<IndexedFile, int[]>> wordPostings = new ArrayList<>(words.size());
+            for (int i = 0; i < words.size(); i++) {
+                boolean cutAtStart = i == 0 && openStart;
+                boolean cutAtEnd = i == words.size() - 1 && openEnd;
+                Map<IndexedFile, int[]> byFile = TextSearchIndex.collectPostings(words.get(i), cutAtStart, cutAtEnd);
+                if (byFile.isEmpty()) return List.of();
+                wordPostings.add(byFile);
+            }
+            wordPostings.sort(Comparator.comparingInt(Map::size));
+            Map<IndexedFile, int[]> rarest = wordPostings.getFirst();
+            int candidateLines = 0;
+            for (Map.Entry<IndexedFile, int[]> entry : rarest.entrySet()) {
+                int[] lines = entry.getValue();
+                for (int i = 1; i < wordPostings.size() && lines.length > 0; i++) {
+                    lines = TextSearchIndex.intersect(lines, wordPostings.get(i).get(entry.getKey()));
+                }
+                if (lines.length == 0) continue;
+                candidates.put(entry.getKey(), lines);
+                candidateLines += lines.length;
+                if (candidateLines >= MAX_HITS * 4) break;
+            }
+        }
+
+        List<SearchHit> hits = new ArrayList<>();
+        List<IndexedFile> ordered = new ArrayList<>(candidates.keySet());
+        ordered.sort(Comparator.comparing(file -> file.path));
+        for (IndexedFile file : ordered) {
+            if (hits.size() >= MAX_HITS) break;
+            TextSearchIndex.confirmHits(file, candidates.get(file), needle, hits);
+        }
+        return hits;
+    }
+
+    /**
+     * Expected to be called while holding lock.
+     * @param cutAtStart if true, the word may be the end of a longer indexed word.
+     * @param cutAtEnd if true, the word may be the start of a longer indexed word.
+     * @return lines by file of all indexed words that the word can be part of; empty if there are none.
+     */
+    private static Map<IndexedFile, int[]> collectPostings(String word, boolean cutAtStart, boolean cutAtEnd) {
+        if (!cutAtStart && !cutAtEnd) {
+            return postings.getOrDefault(word, Map.of());
+        }
+        Collection<String> matching;
+        if (!cutAtStart) {
+            matching = postings.subMap(word, true, word + Character.MAX_VALUE, true).keySet();
+        } else {
+            matching = new ArrayList<>();
+            for (String candidate : TextSearchIndex.getWordsContaining(word)) {
+                if (cutAtEnd ? candidate.contains(word) : candidate.endsWith(word)) {
+                    matching.add(candidate);
+                }
+            }
+        }
+        Map<IndexedFile, int[]> result = new HashMap<>();
+        for (String matched : matching) {
+            postings.get(matched).forEach((file, lines) -> result.merge(file, lines, TextSearchIndex::union));
+        }
+        return result;
+    }
+
+    /**
+     * @return words that have all trigrams of the fragment; every indexed word if fragment is shorter than that.
+     */
+    private static Collection<String> getWordsContaining(String fragment) {
+        if (fragment.length() < GRAM_LENGTH) return postings.keySet();
+        Set<String> smallest = null;
+        for (int start = 0; start + GRAM_LENGTH <= fragment.length(); start++) {
+            Set<String> words = wordGrams.get(fragment.substring(start, start + GRAM_LENGTH));
+            if (words == null) return List.of();
+            if (smallest == null || words.size() < smallest.size()) {
+                smallest = words;
+            }
+        }
+        return smallest;
+    }
+
+    private static void confirmHits(IndexedFile file, int[] lineNumbers, String needle, List<SearchHit> hits) {
+        List<String> lines;
+        try {
+            lines = TextSearchIndex.readLines(file.path);
+        } catch (IOException exception) {
+            return;
+        }
+        for (int lineNumber : lineNumbers) {
+            if (lineNumber > lines.size() || hits.size() >= MAX_HITS) return;
+            String line = lines.get(lineNumber - 1);
+            if (!line.toLowerCase(Locale.ROOT).contains(needle)) continue;
+            String entityID = file.entityID;
+            if (file.table) {
+                int comma = line.indexOf(',');
+                entityID = comma >= 0 ? line.substring(0, comma).strip() : line.strip();
+            }
+            hits.add(new SearchHit(file.path, lineNumber, line.strip(), entityID));
+        }
+    }
+
+    private static int[] intersect(int[] first, int[] second) {
+        if (second == null) return new int[0];
+        int[] result = new int[Math.min(first.length, second.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] == second[j]) {
+                result[count++] = first[i];
+                i++;
+                j++;
+            } else if (first[i] < second[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] union(int[] first, int[] second) {
+        int[] result = new int[first.length + second.length];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length || j < second.length) {
+            if (j >= second.length || (i < first.length && first[i] < second[j])) {
+                result[count++] = first[i++];
+            } else if (i >= first.length || second[j] < first[i]) {
+                result[count++] = second[j++];
+            } else {
+                result[count++] = first[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        int length = text.length();
+        int start = -1;
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Malformed bytes are replaced rather than failing the read; several mods ship tables in legacy encodings.
+     */
+    private static List<String> readLines(Path file) throws IOException {
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        return content.lines().toList();
+    }
+
+    /**
+     * Compared by identity, as postings of a re-indexed file must not match its previous instance.
+     */
+    private static final class IndexedFile {
+
+        private final Path path;
+
+        private final long size;
+
+        private final long modified;
+
+        private final String entityID;
+
+        private final boolean table;
+
+        /**
+         * Distinct words of the file, kept so that its postings can be removed on re-indexing.
+         */
+        private final String[] words;
+
+        private IndexedFile(Path path, long size, long modified, String entityID, boolean table, String[] words) {
+            this.path = path;
+            this.size = size;
+            this.modified = modified;
+            this.entityID = entityID;
+            this.table = table;
+            this.words = words;
+        }
+
+    }
+
+    /**
+     * @param line number of the line in file, starting from one.
+     * @param entityID ID of the spec defined by the file, or of the table row; NULL if not recognized.
+     */
+    public record SearchHit(Path file, int line, String text, String entityID) {}
+
+}
@@ -0,0 +1,79 @@
+package oth.shipeditor.persistence;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.components.logging.Diagnostics;
+import oth.shipeditor.parsing.FileUtilities;
+import oth.shipeditor.parsing.JsonProcessor;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Reads the game launcher's own mod configuration: "mod_info.json" of each mod and "enabled_mods.json" of mods folder.
+ * Both files are written by hand as often as by the launcher, so they are read through tolerant reader.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+final class ModInfoReader {
+
+    private static final String MOD_INFO = "mod_info.json";
+
+    private static final String ENABLED_MODS = "enabled_mods.json";
+
+    private ModInfoReader() {}
+
+    /**
+     * @return ID and dependencies declared by the mod, or NULL if the folder has no readable mod info.
+     */
+    static ModInfo readModInfo(Path modFolder) {
+        Path infoFile = modFolder.resolve(MOD_INFO);
+        JsonNode root = ModInfoReader.readTree(infoFile);
+        if (root == null) return null;
+        String modID = root.path("id").asText(null);
+        if (modID == null) {
+            Diagnostics.warning(infoFile, null, "Mod info does not declare mod ID");
+            return null;
+        }
+        List<String> dependencies = new ArrayList<>();
+        for (JsonNode dependency : root.path("dependencies")) {
+            String dependencyID = dependency.path("id").asText(null);
+            if (dependencyID != null) {
+                dependencies.add(dependencyID);
+            }
+        }
+        return new ModInfo(modID, List.copyOf(dependencies));
+    }
+
+    /**
+     * @return IDs of mods enabled in launcher, or NULL if the launcher list is absent or unreadable.
+     */
+    static Set<String> readEnabledMods(Path modsFolder) {
+        JsonNode root = ModInfoReader.readTree(modsFolder.resolve(ENABLED_MODS));
+        if (root == null) return null;
+        Set<String> enabled = new HashSet<>();
+        for (JsonNode modID : root.path("enabledMods")) {
+            enabled.add(modID.asText());
+        }
+        return enabled;
+    }
+
+    private static JsonNode readTree(Path file) {
+        if (!Files.isRegularFile(file)) return null;
+        ObjectMapper mapper = FileUtilities.getConfigured();
+        try (Reader reader = JsonProcessor.createTolerantReader(file.toFile())) {
+            return mapper.readTree(reader);
+        } catch (IOException exception) {
+            Diagnostics.error(file, null, "Failed to read mod configuration file", exception);
+            return null;
+        }
+    }
+
+    record ModInfo(String modID, List<String> dependencies) {}
+
+}
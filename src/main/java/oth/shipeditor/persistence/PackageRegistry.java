@@ -0,0 +1,237 @@
+package oth.shipeditor.persistence;
+
+import lombok.extern.log4j.Log4j2;
+import oth.shipeditor.components.logging.Diagnostics;
+import oth.shipeditor.utility.Errors;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * In-memory list of game packages: core folder and every folder in "mods", with top-level data entries of each.
+ * Filesystem is listed only on {@link #refresh()}; path lookups of loaders and sprites are served from the snapshot.
+ * Refreshed at the start of every data load, when mod folder setting changes, and by data file watcher
+ * when folders appear or vanish in "mods".
+ * <p>
+ * With launcher mode enabled in settings, only mods listed in game's "enabled_mods.json" are active,
+ * and mods are ordered so that each comes after its dependencies. Editor's own disabled state applies on top.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@Log4j2
+public final class PackageRegistry {
+
+    private static final String DATA_FOLDER = "data";
+
+    private static volatile List<GamePackage> packages;
+
+    private PackageRegistry() {}
+
+    /**
+     * Lists core and mod folders anew. Safe to call from any thread.
+     */
+    public static synchronized void refresh() {
+        long start = System.nanoTime();
+        List<GamePackage> listed = new ArrayList<>();
+        Path coreFolder = SettingsManager.getCoreFolderPath();
+        listed.add(PackageRegistry.createEntry(coreFolder, true));
+
+        Settings settings = SettingsManager.getSettings();
+        Path modsFolder = Paths.get(settings.getModFolderPath());
+        Set<String> enabledMods = ModInfoReader.readEnabledMods(modsFolder);
+        List<GamePackage> mods = new ArrayList<>();
+        try (Stream<Path> childDirectories = Files.list(modsFolder)) {
+            childDirectories.filter(Files::isDirectory)
+                    .sorted()
+                    .forEach(modFolder -> mods.add(PackageRegistry.createModEntry(modFolder, enabledMods)));
+        } catch (IOException exception) {
+            log.error("Failed to list mod folders: {}", modsFolder);
+            Errors.printToStream(exception);
+        }
+        if (settings.isLauncherModsOnly()) {
+            listed.addAll(PackageRegistry.sortByDependencies(mods));
+            long active = mods.stream().filter(GamePackage::launcherEnabled).count();
+            log.info("Launcher mode: {} of {} mods enabled in launcher.", active, mods.size());
+        } else {
+            listed.addAll(mods);
+        }
+        packages = List.copyOf(listed);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+        log.trace("Package registry refreshed: {} packages in {} ms.", listed.size(), elapsed);
+    }
+
+    /**
+     * Drops the snapshot; next lookup lists the folders again.
+     */
+    static void invalidate() {
+        packages = null;
+    }
+
+    /**
+     * @return core package followed by all mod packages, regardless of their enabled state.
+     */
+    public static List<GamePackage> getPackages() {
+        List<GamePackage> snapshot = packages;
+        if (snapshot == null) {
+            PackageRegistry.refresh();
+            snapshot = packages;
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return packages that take part in loading, in loading order; editor's disabled state is not considered.
+     */
+    public static List<GamePackage> getActivePackages() {
+        List<GamePackage> result = new ArrayList<>();
+        for (GamePackage gamePackage : PackageRegistry.getPackages()) {
+            if (gamePackage.isActive()) {
+                result.add(gamePackage);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return mod folders that take part in loading, in loading order.
+     */
+    public static List<Path> getActiveModFolders() {
+        List<Path> result = new ArrayList<>();
+        for (GamePackage gamePackage : PackageRegistry.getActivePackages()) {
+            if (!gamePackage.core()) {
+                result.add(gamePackage.folder());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return package whose folder contains the path, or NULL if the path is outside of all packages.
+     */
+    public static GamePackage findContaining(Path path) {
+        for (GamePackage gamePackage : PackageRegistry.getPackages()) {
+            if (path.startsWith(gamePackage.folder())) {
+                return gamePackage;
+            }
+        }
+        return null;
+    }
+
+    private static GamePackage createModEntry(Path folder, Set<String> enabledMods) {
+        ModInfoReader.ModInfo modInfo = ModInfoReader.readModInfo(folder);
+        GamePackage entry = PackageRegistry.createEntry(folder, false);
+        if (modInfo == null) {
+            return entry.withModInfo(null, List.of(), enabledMods == null);
+        }
+        boolean launcherEnabled = enabledMods == null || enabledMods.contains(modInfo.modID());
+        return entry.withModInfo(modInfo.modID(), modInfo.dependencies(), launcherEnabled);
+    }
+
+    /**
+     * Orders mods so that dependencies come first; otherwise name order is kept.
+     * Missing dependencies of launcher-enabled mods are reported, cycles are broken at the first revisit.
+     */
+    static List<GamePackage> sortByDependencies(List<GamePackage> mods) {
+        Map<String, GamePackage> byModID = new HashMap<>();
+        for (GamePackage mod : mods) {
+            if (mod.modID() != null) {
+                byModID.putIfAbsent(mod.modID(), mod);
+            }
+        }
+        Set<GamePackage> visited = new LinkedHashSet<>();
+        for (GamePackage mod : mods) {
+            PackageRegistry.visit(mod, byModID, visited, new HashSet<>());
+        }
+        return new ArrayList<>(visited);
+    }
+
+    private static void visit(GamePackage mod, Map<String, GamePackage> byModID,
+                              Set<GamePackage> visited, Set<GamePackage> inProgress) {
+        if (visited.contains(mod) || !inProgress.add(mod)) return;
+        for (String dependencyID : mod.dependencies()) {
+            GamePackage dependency = byModID.get(dependencyID);
+            if (dependency != null) {
+                PackageRegistry.visit(dependency, byModID, visited, inProgress);
+            } else if (mod.launcherEnabled()) {
+                Diagnostics.warning(mod.folder(), mod.modID(), "Required mod is not installed: " + dependencyID);
+            }
+        }
+        visited.add(mod);
+    }
+
+    private static GamePackage createEntry(Path folder, boolean core) {
+        Set<String> entries = new HashSet<>();
+        Path dataFolder = folder.resolve(DATA_FOLDER);
+        if (Files.isDirectory(dataFolder)) {
+            try (Stream<Path> children = Files.list(dataFolder)) {
+                children.forEach(child -> entries.add(child.getFileName().toString()));
+            } catch (IOException exception) {
+                log.error("Failed to list data folder of package: {}", folder);
+                Errors.printToStream(exception);
+            }
+        }
+        return new GamePackage(folder, core, Set.copyOf(entries), null, List.of(), true);
+    }
+
+    /**
+     * @param dataEntries names of subfolders and files directly under "data" folder of the package.
+     * @param modID ID from "mod_info.json"; NULL for core package and for folders without readable mod info.
+     * @param launcherEnabled true if listed in game's enabled mods, or if there is no launcher list to consult.
+     */
+    public record GamePackage(Path folder, boolean core, Set<String> dataEntries,
+                              String modID, List<String> dependencies, boolean launcherEnabled) {
+
+        GamePackage withModInfo(String id, List<String> required, boolean enabled) {
+            return new GamePackage(folder, core, dataEntries, id, required, enabled);
+        }
+
+        public String getFolderName() {
+            return folder.getFileName().toString();
+        }
+
+        /**
+         * @return settings entry holding enabled and pinned state, or NULL if package was not announced yet.
+         */
+        public GameDataPackage getDataPackage() {
+            Settings settings = SettingsManager.getSettings();
+            return settings.getPackage(folder);
+        }
+
+        public boolean isDisabled() {
+            GameDataPackage dataPackage = this.getDataPackage();
+            return dataPackage != null && dataPackage.isDisabled();
+        }
+
+        public boolean isPinned() {
+            GameDataPackage dataPackage = this.getDataPackage();
+            return dataPackage != null && dataPackage.isPinned();
+        }
+
+        /**
+         * @return false if launcher mode is on and the mod is not enabled in launcher.
+         */
+        public boolean isActive() {
+            if (core || launcherEnabled) return true;
+            Settings settings = SettingsManager.getSettings();
+            return !settings.isLauncherModsOnly();
+        }
+
+        /**
+         * @param relativePath path from package folder, such as "data/hulls/ship_data.csv".
+         * @return false if the path certainly does not exist in package, judged by its top-level data entry;
+         * true means the path may exist and needs to be checked.
+         */
+        public boolean mayContain(Path relativePath) {
+            if (relativePath.getNameCount() < 2 || !DATA_FOLDER.equals(relativePath.getName(0).toString())) {
+                return true;
+            }
+            return dataEntries.contains(relativePath.getName(1).toString());
+        }
+
+    }
+
+}
@@ -8,6 +8,7 @@ import lombok.Getter;
 import oth.shipeditor.parsing.deserialize.ColorArrayRGBADeserializer;
 import oth.shipeditor.parsing.serialize.ColorArrayRGBASerializer;
 import oth.shipeditor.utility.objects.SimpleRectangle;
+import oth.shipeditor.utility.overseers.ImageCache;
 import oth.shipeditor.utility.themes.Theme;
 
 import java.awt.*;
@@ -22,6 +23,8 @@ import java.util.List;
 @Getter
 public class Settings {
 
+    static final int DEFAULT_SPRITE_CACHE_MEGABYTES = 512;
+
     Settings() {}
 
     @JsonProperty("backgroundColor")
@@ -45,6 +48,9 @@ public class Settings {
     @JsonProperty("loadDataAtStart")
     boolean loadDataAtStart = true;
 
+    @JsonProperty("launcherModsOnly")
+    boolean launcherModsOnly;
+
     @JsonProperty("theme")
     Theme theme = Theme.FLAT_INTELLIJ;
 
@@ -54,6 +60,9 @@ public class Settings {
     @JsonProperty("windowMaximized")
     boolean windowMaximized;
 
+    @JsonProperty("spriteCacheMegabytes")
+    int spriteCacheMegabytes = DEFAULT_SPRITE_CACHE_MEGABYTES;
+
     @JsonProperty("dataPackages")
     private List<GameDataPackage> dataPackages = new ArrayList<>();
 
@@ -86,11 +95,13 @@ public class Settings {
 
     void setCoreFolderPath(String path) {
         this.coreFolderPath = path;
+        PackageRegistry.invalidate();
         SettingsManager.updateFileFromRuntime();
     }
 
     void setModFolderPath(String path) {
         this.modFolderPath = path;
+        PackageRegistry.invalidate();
         SettingsManager.updateFileFromRuntime();
     }
 
@@ -104,6 +115,24 @@ public class Settings {
         SettingsManager.updateFileFromRuntime();
     }
 
+    /**
+     * @param launcherOnly if true, only mods enabled in game launcher are loaded, in their dependency order.
+     */
+    public void setLauncherModsOnly(boolean launcherOnly) {
+        this.launcherModsOnly = launcherOnly;
+        PackageRegistry.invalidate();
+        SettingsManager.updateFileFromRuntime();
+    }
+
+    /**
+     * @param megabytes budget of decoded sprites kept in memory; sprites over it are evicted right away.
+     */
+    public void setSpriteCacheMegabytes(int megabytes) {
+        this.spriteCacheMegabytes = megabytes;
+        ImageCache.trimToBudget();
+        SettingsManager.updateFileFromRuntime();
+    }
+
     void addDataPackage(Path folder) {
         String folderName = folder.getFileName().toString();
         addDataPackage(folderName);
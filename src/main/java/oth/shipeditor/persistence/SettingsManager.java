@@ -5,20 +5,17 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.PrimaryWindow;
-import oth.shipeditor.components.datafiles.entities.CSVEntry;
+import oth.shipeditor.communication.EventBus;
+import oth.shipeditor.communication.events.files.EntryPackagesSet;
 import oth.shipeditor.parsing.FileUtilities;
 import oth.shipeditor.representation.GameDataRepository;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Stream;
 
 /**
  * @author Ontheheavens
@@ -30,8 +27,11 @@ public final class SettingsManager {
     @Getter @Setter
     private static Settings settings;
 
+    /**
+     * Latest published repository version; loads build the next one aside and swap it in as a whole.
+     */
     @Getter
-    private static final GameDataRepository gameData = new GameDataRepository();
+    private static volatile GameDataRepository gameData = new GameDataRepository();
 
     @Getter
     private static Path applicationDirectory;
@@ -46,8 +46,21 @@ public final class SettingsManager {
 
     private static GameDataPackage corePackage;
 
+    public static final int MIN_SPRITE_CACHE_MEGABYTES = 32;
+
+    private static final long BYTES_IN_MEGABYTE = 1024L * 1024L;
+
     private SettingsManager() {}
 
+    /**
+     * Expected to be called on EDT, with a repository that is not written to from other threads anymore.
+     */
+    public static void publishGameData(GameDataRepository next) {
+        GameDataRepository previous = gameData;
+        gameData = next;
+        log.info("Game data version {} published, replacing version {}.", next.getVersion(), previous.getVersion());
+    }
+
     static Settings createDefault() {
         Settings empty = new Settings();
         empty.setBackgroundColor(null);
@@ -65,23 +78,18 @@ public final class SettingsManager {
         return FileUtilities.getConfigured();
     }
 
+    public static Path getCoreFolderPath() {
+        return Path.of(settings.getCoreFolderPath());
+    }
+
     /**
-     * @return all directories in "mods" folder.
-     * Caller is expected to do the filtering.
+     * @return folder of the package on disk; core package resolves to core folder path.
      */
-    @SuppressWarnings("CallToPrintStackTrace")
-    public static List<Path> getAllModFolders() {
-        List<Path> dataFolders = new ArrayList<>();
-        try (Stream<Path> childDirectories = Files.list(Paths.get(settings.getModFolderPath()))) {
-            childDirectories.filter(Files::isDirectory).forEach(dataFolders::add);
-        } catch (IOException exception) {
-            exception.printStackTrace();
+    public static Path getPackageFolderPath(GameDataPackage dataPackage) {
+        if (SettingsManager.isCoreFolder(dataPackage)) {
+            return SettingsManager.getCoreFolderPath();
         }
-        return dataFolders;
-    }
-
-    public static Path getCoreFolderPath() {
-        return Path.of(settings.getCoreFolderPath());
+        return Paths.get(settings.getModFolderPath(), dataPackage.getFolderName());
     }
 
     public static boolean areFileErrorPopupsEnabled() {
@@ -92,6 +100,15 @@ public final class SettingsManager {
         return settings.loadDataAtStart;
     }
 
+    /**
+     * @return byte budget of sprite cache; default one applies until settings are loaded.
+     */
+    public static long getSpriteCacheBudget() {
+        Settings current = settings;
+        int megabytes = current == null ? Settings.DEFAULT_SPRITE_CACHE_MEGABYTES : current.spriteCacheMegabytes;
+        return Math.max(MIN_SPRITE_CACHE_MEGABYTES, megabytes) * BYTES_IN_MEGABYTE;
+    }
+
     static File getSettingsPath() {
         if (settingsFilePath != null) {
             return settingsFilePath.toFile();
@@ -150,9 +167,19 @@ public final class SettingsManager {
         return corePackage;
     }
 
-    public static <T extends CSVEntry> void announcePackages(Map<Path, List<T>> packages) {
-        for (Map.Entry<Path, List<T>> entry : packages.entrySet()) {
-            Path path = entry.getKey();
+    /**
+     * Expected to be called once on EDT during startup.
+     */
+    public static void initListening() {
+        EventBus.subscribe(event -> {
+            if (event instanceof EntryPackagesSet checked) {
+                SettingsManager.announcePackages(checked.packageFolders());
+            }
+        });
+    }
+
+    private static void announcePackages(List<Path> packageFolders) {
+        for (Path path : packageFolders) {
             if (!SettingsManager.isCoreFolder(path)) {
                 settings.addDataPackage(path);
             }
@@ -0,0 +1,96 @@
+package oth.shipeditor.representation;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Read-only view of a single {@link CSVTable} row, keyed by header names in column order.
+ * Holds no cell data of its own; cells missing from a short row are absent from the view.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public final class CSVRow extends AbstractMap<String, String> {
+
+    private final CSVTable table;
+
+    private final int rowIndex;
+
+    CSVRow(CSVTable table, int rowIndex) {
+        this.table = table;
+        this.rowIndex = rowIndex;
+    }
+
+    @Override
+    public String get(Object key) {
+        int column = table.getColumnIndex(key);
+        if (column < 0) return null;
+        return table.getCell(rowIndex, column);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return this.get(key) != null;
+    }
+
+    /**
+     * @return integer value of the cell, or fallback if the cell is absent, empty or not an integer;
+     * cells that are not an integer are also recorded as diagnostics warnings with file and row ID.
+     */
+    public int getInt(String column, int fallback) {
+        return table.getInteger(rowIndex, column, fallback);
+    }
+
+    @Override
+    public Set<Entry<String, String>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, String>> iterator() {
+                return new CellIterator();
+            }
+
+            @Override
+            public int size() {
+                int count = 0;
+                for (int column = 0; column < table.getColumnCount(); column++) {
+                    if (isPresent(column)) count++;
+                }
+                return count;
+            }
+        };
+    }
+
+    private boolean isPresent(int column) {
+        return table.isEffectiveColumn(column) && table.getCell(rowIndex, column) != null;
+    }
+
+    private final class CellIterator implements Iterator<Entry<String, String>> {
+
+        private int nextColumn = this.advance(0);
+
+        private int advance(int from) {
+            int column = from;
+            while (column < table.getColumnCount() && !isPresent(column)) {
+                column++;
+            }
+            return column;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextColumn < table.getColumnCount();
+        }
+
+        @Override
+        public Entry<String, String> next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            int column = nextColumn;
+            nextColumn = this.advance(column + 1);
+            return new SimpleImmutableEntry<>(table.getColumnName(column), table.getCell(rowIndex, column));
+        }
+
+    }
+
+}
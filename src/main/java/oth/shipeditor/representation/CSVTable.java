@@ -0,0 +1,198 @@
+package oth.shipeditor.representation;
+
+import lombok.Getter;
+import lombok.Setter;
+import oth.shipeditor.components.logging.Diagnostics;
+import oth.shipeditor.parsing.deserialize.StringPool;
+import oth.shipeditor.utility.text.StringConstants;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Column-oriented storage of a parsed CSV data table.
+ * Header is stored once, cells are kept per column with equal values of a column sharing one String instance.
+ * Entries reference their row through lightweight {@link CSVRow} views instead of holding a map per row.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+@SuppressWarnings("serial")
+public final class CSVTable implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Marks numeric cells that are absent, empty or not an integer.
+     */
+    private static final int NOT_A_NUMBER = Integer.MIN_VALUE;
+
+    private static final String MALFORMED_INTEGER = "Cell of column '%s' is not an integer: '%s'";
+
+    private final String[] header;
+
+    /**
+     * Header name to column index; for duplicate names the last column wins, same as with former map rows.
+     */
+    private final Map<String, Integer> columnIndices;
+
+    /**
+     * Cells in column-major order; NULL where a row was shorter than the header.
+     */
+    private final String[][] columns;
+
+    @Getter
+    private final int rowCount;
+
+    private transient int[][] integerColumns;
+
+    /**
+     * File the table was read from; only used to report malformed cells, so it is not part of snapshots.
+     */
+    @Setter
+    private transient Path sourceFile;
+
+    private CSVTable(String[] header, String[][] columns, int rowCount) {
+        this.header = header;
+        this.columns = columns;
+        this.rowCount = rowCount;
+        this.columnIndices = new HashMap<>(header.length * 2);
+        for (int i = 0; i < header.length; i++) {
+            columnIndices.put(header[i], i);
+        }
+    }
+
+    /**
+     * @param rows raw records of the file; first one is treated as header. Header cells are interned,
+     * trailing cells beyond header width are ignored.
+     */
+    public static CSVTable fromRecords(List<String[]> rows) {
+        if (rows.isEmpty()) {
+            return new CSVTable(new String[0], new String[0][], 0);
+        }
+        String[] headerRow = rows.get(0);
+        String[] header = new String[headerRow.length];
+        for (int i = 0; i < headerRow.length; i++) {
+            header[i] = headerRow[i].intern();
+        }
+
+        int rowCount = rows.size() - 1;
+        String[][] columns = new String[header.length][rowCount];
+        for (int column = 0; column < header.length; column++) {
+            Map<String, String> distinct = new HashMap<>();
+            String[] cells = columns[column];
+            for (int row = 0; row < rowCount; row++) {
+                String[] record = rows.get(row + 1);
+                if (column < record.length) {
+                    String value = record[column];
+                    cells[row] = distinct.computeIfAbsent(value, StringPool::intern);
+                }
+            }
+        }
+        return new CSVTable(header, columns, rowCount);
+    }
+
+    public List<String> getHeader() {
+        return List.of(header);
+    }
+
+    public CSVRow getRow(int index) {
+        Objects.checkIndex(index, rowCount);
+        return new CSVRow(this, index);
+    }
+
+    /**
+     * @return views of rows that pass the predicate, in file order.
+     */
+    public List<CSVRow> getRows(Predicate<? super CSVRow> filter) {
+        List<CSVRow> result = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            CSVRow row = new CSVRow(this, i);
+            if (filter.test(row)) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
+    int getColumnCount() {
+        return header.length;
+    }
+
+    String getColumnName(int column) {
+        return header[column];
+    }
+
+    /**
+     * @return index of the column, or -1 if header has no such name.
+     */
+    int getColumnIndex(Object columnName) {
+        Integer index = columnIndices.get(columnName);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return true if the column is the one a row view should expose under its name.
+     */
+    boolean isEffectiveColumn(int column) {
+        return columnIndices.get(header[column]) == column;
+    }
+
+    String getCell(int row, int column) {
+        return columns[column][row];
+    }
+
+    /**
+     * Integer columns are parsed on first access and then served from a cache.
+     * Cells that are present but not an integer are reported to {@link Diagnostics} once, when the column is parsed.
+     */
+    int getInteger(int row, String columnName, int fallback) {
+        int column = this.getColumnIndex(columnName);
+        if (column < 0) return fallback;
+        int value = this.getIntegerColumn(column)[row];
+        return value == NOT_A_NUMBER ? fallback : value;
+    }
+
+    private synchronized int[] getIntegerColumn(int column) {
+        if (integerColumns == null) {
+            integerColumns = new int[header.length][];
+        }
+        int[] parsed = integerColumns[column];
+        if (parsed == null) {
+            parsed = new int[rowCount];
+            String[] cells = columns[column];
+            for (int i = 0; i < rowCount; i++) {
+                parsed[i] = CSVTable.parseInteger(cells[i]);
+                if (parsed[i] == NOT_A_NUMBER && !CSVTable.isBlank(cells[i])) {
+                    this.reportMalformed(i, column);
+                }
+            }
+            integerColumns[column] = parsed;
+        }
+        return parsed;
+    }
+
+    private void reportMalformed(int row, int column) {
+        int idColumn = this.getColumnIndex(StringConstants.ID);
+        String rowID = idColumn < 0 ? null : this.getCell(row, idColumn);
+        Diagnostics.warning(sourceFile, rowID, String.format(MALFORMED_INTEGER, header[column], columns[column][row]));
+    }
+
+    private static boolean isBlank(String cell) {
+        return cell == null || cell.isBlank();
+    }
+
+    private static int parseInteger(String cell) {
+        if (CSVTable.isBlank(cell)) return NOT_A_NUMBER;
+        String trimmed = cell.trim();
+        try {
+            return Integer.parseInt(trimmed);
+        } catch (NumberFormatException exception) {
+            return NOT_A_NUMBER;
+        }
+    }
+
+}
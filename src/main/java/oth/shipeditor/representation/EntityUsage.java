@@ -0,0 +1,36 @@
+package oth.shipeditor.representation;
+
+import java.nio.file.Path;
+
+/**
+ * Single place where a hull, weapon, hullmod or wing is referenced by other game data.
+ * @param entityID ID of the referring hull, skin, variant or wing.
+ * @param file data file of the referring entity; NULL if not known.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public record EntityUsage(Kind kind, String entityID, Path file) {
+
+    public enum Kind {
+
+        SKIN("Skin"),
+        VARIANT("Variant"),
+        MODULE("Variant with module"),
+        WING("Wing"),
+        FITTED("Variant fitting"),
+        BUILT_IN("Built into hull");
+
+        private final String displayedName;
+
+        Kind(String name) {
+            this.displayedName = name;
+        }
+
+        @Override
+        public String toString() {
+            return displayedName;
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+package oth.shipeditor.representation;
+
+import oth.shipeditor.components.datafiles.entities.CSVEntry;
+
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Trigram index over display names and IDs of hull, weapon, hullmod, wing and ship system entries.
+ * Built once per repository version; entries are matched by case-insensitive substring, never by regex.
+ * Last result is kept, so that a query which extends the previous one only narrows it down.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+final class EntrySearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    /**
+     * Separates name and ID in search key, so that no trigram spans both.
+     */
+    private static final char KEY_SEPARATOR = '\n';
+
+    private final CSVEntry[] entries;
+
+    private final String[] keys;
+
+    /**
+     * Trigrams to ascending indices of entries whose key contains them.
+     */
+    private final Map<String, int[]> postings;
+
+    private volatile Search lastSearch;
+
+    EntrySearchIndex(GameDataRepository repository) {
+        this(EntrySearchIndex.collectAll(repository));
+    }
+
+    EntrySearchIndex(List<? extends CSVEntry> indexed) {
+        this.entries = indexed.toArray(new CSVEntry[0]);
+        this.keys = new String[entries.length];
+
+        Map<String, List<Integer>> grams = new HashMap<>();
+        for (int i = 0; i < entries.length; i++) {
+            CSVEntry entry = entries[i];
+            String key = (entry + String.valueOf(KEY_SEPARATOR) + entry.getID()).toLowerCase(Locale.ROOT);
+            keys[i] = key;
+            Set<String> seen = new HashSet<>();
+            for (int start = 0; start + GRAM_LENGTH <= key.length(); start++) {
+                String gram = key.substring(start, start + GRAM_LENGTH);
+                if (gram.indexOf(KEY_SEPARATOR) < 0 && seen.add(gram)) {
+                    grams.computeIfAbsent(gram, k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+        this.postings = new HashMap<>(grams.size() * 2);
+        grams.forEach((gram, indices) -> postings.put(gram,
+                indices.stream().mapToInt(Integer::intValue).toArray()));
+    }
+
+    private static List<CSVEntry> collectAll(GameDataRepository repository) {
+        List<CSVEntry> collected = new ArrayList<>();
+        EntrySearchIndex.collect(repository.getShipEntriesByPackage(), collected);
+        EntrySearchIndex.collect(repository.getWeaponEntriesByPackage(), collected);
+        EntrySearchIndex.collect(repository.getHullmodEntriesByPackage(), collected);
+        EntrySearchIndex.collect(repository.getWingEntriesByPackage(), collected);
+        EntrySearchIndex.collect(repository.getShipSystemEntriesByPackage(), collected);
+        return collected;
+    }
+
+    private static <T extends CSVEntry> void collect(Map<Path, List<T>> entriesByPackage, List<CSVEntry> result) {
+        if (entriesByPackage == null) return;
+        for (List<T> packageEntries : entriesByPackage.values()) {
+            result.addAll(packageEntries);
+        }
+    }
+
+    int size() {
+        return entries.length;
+    }
+
+    /**
+     * @return entries whose display name or ID contains the query, in index order; unmodifiable.
+     */
+    Set<CSVEntry> search(String query) {
+        String normalized = query.toLowerCase(Locale.ROOT);
+        Search previous = lastSearch;
+        if (previous != null && previous.query().equals(normalized)) {
+            return previous.matches();
+        }
+        int[] candidates;
+        if (previous != null && normalized.contains(previous.query())) {
+            candidates = previous.indices();
+        } else {
+            candidates = this.lookupCandidates(normalized);
+        }
+        int[] matched = new int[candidates.length];
+        int count = 0;
+        for (int index : candidates) {
+            if (keys[index].contains(normalized)) {
+                matched[count] = index;
+                count++;
+            }
+        }
+        matched = Arrays.copyOf(matched, count);
+        Set<CSVEntry> matches = new LinkedHashSet<>(count * 2);
+        for (int index : matched) {
+            matches.add(entries[index]);
+        }
+        Set<CSVEntry> result = Collections.unmodifiableSet(matches);
+        lastSearch = new Search(normalized, matched, result);
+        return result;
+    }
+
+    /**
+     * @return indices of entries containing every trigram of the query; all entries if query is too short.
+     */
+    private int[] lookupCandidates(String query) {
+        if (query.length() < GRAM_LENGTH) {
+            int[] all = new int[entries.length];
+            Arrays.setAll(all, index -> index);
+            return all;
+        }
+        List<int[]> lists = new ArrayList<>();
+        for (int start = 0; start + GRAM_LENGTH <= query.length(); start++) {
+            int[] posting = postings.get(query.substring(start, start + GRAM_LENGTH));
+            if (posting == null) return new int[0];
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = EntrySearchIndex.intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private static int[] intersect(int[] first, int[] second) {
+        int[] result = new int[Math.min(first.length, second.length)];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < first.length && j < second.length) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (first[i] > second[j]) {
+                j++;
+            } else {
+                result[count] = first[i];
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private record Search(String query, int[] indices, Set<CSVEntry> matches) {}
+
+}
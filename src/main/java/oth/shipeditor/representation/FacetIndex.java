@@ -0,0 +1,166 @@
+package oth.shipeditor.representation;
+
+import oth.shipeditor.components.datafiles.entities.CSVEntry;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Entries of one kind with a bitset per value of each facet: package, type, size, tag.
+ * Filtering is done with bitwise operations over entry positions instead of testing entries one by one.
+ * Immutable once built; every query returns a new bitset that callers are free to modify.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public final class FacetIndex<T extends CSVEntry> {
+
+    /**
+     * Facet of package folder paths; present in every index, values come in package order.
+     */
+    public static final String PACKAGE = "package";
+
+    public static final String TYPE = "type";
+
+    public static final String SIZE = "size";
+
+    public static final String TAG = "tag";
+
+    private final List<T> entries;
+
+    private final Map<T, Integer> positions;
+
+    private final Map<String, Map<Object, BitSet>> facets;
+
+    /**
+     * @param extractors facet names to values of the entry; entry with no values is left out of the facet.
+     */
+    FacetIndex(Map<Path, List<T>> entriesByPackage, Map<String, Function<? super T, Collection<?>>> extractors) {
+        this.entries = new ArrayList<>();
+        this.positions = new IdentityHashMap<>();
+        this.facets = new HashMap<>();
+        Map<Object, BitSet> packages = new LinkedHashMap<>();
+        facets.put(PACKAGE, packages);
+        extractors.keySet().forEach(facet -> facets.put(facet, new HashMap<>()));
+        if (entriesByPackage == null) return;
+
+        entriesByPackage.forEach((packageFolder, packageEntries) -> {
+            BitSet packageBits = packages.computeIfAbsent(packageFolder, key -> new BitSet());
+            for (T entry : packageEntries) {
+                int position = entries.size();
+                entries.add(entry);
+                positions.put(entry, position);
+                packageBits.set(position);
+                extractors.forEach((facet, extractor) -> {
+                    Map<Object, BitSet> values = facets.get(facet);
+                    for (Object value : extractor.apply(entry)) {
+                        values.computeIfAbsent(value, key -> new BitSet()).set(position);
+                    }
+                });
+            }
+        });
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public BitSet selectAll() {
+        BitSet result = new BitSet(entries.size());
+        result.set(0, entries.size());
+        return result;
+    }
+
+    public BitSet select(String facet, Object value) {
+        BitSet bits = facets.getOrDefault(facet, Map.of()).get(value);
+        return bits == null ? new BitSet() : (BitSet) bits.clone();
+    }
+
+    /**
+     * @return entries having at least one value of the facet that passes the test.
+     */
+    public BitSet selectAny(String facet, Predicate<Object> enabled) {
+        BitSet result = new BitSet(entries.size());
+        facets.getOrDefault(facet, Map.of()).forEach((value, bits) -> {
+            if (enabled.test(value)) {
+                result.or(bits);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return positions of given entry instances; entries not in the index are skipped.
+     */
+    public BitSet selectEntries(Collection<? extends CSVEntry> selected) {
+        BitSet result = new BitSet(entries.size());
+        for (CSVEntry entry : selected) {
+            Integer position = positions.get(entry);
+            if (position != null) {
+                result.set(position);
+            }
+        }
+        return result;
+    }
+
+    public boolean isSelected(BitSet selection, T entry) {
+        Integer position = positions.get(entry);
+        return position != null && selection.get(position);
+    }
+
+    /**
+     * Intersects the base with every facet; within a facet, entries pass if any of their values is enabled.
+     * @param enabled facet names to tests of their values.
+     * @param counts receives, per facet and value, the number of entries the value would show given base
+     *               and all other facets; values with no entries there are counted as zero.
+     * @return entries passing base and all facets.
+     */
+    public BitSet filter(BitSet base, Map<String, Predicate<Object>> enabled,
+                         Map<String, Map<Object, Integer>> counts) {
+        Map<String, BitSet> passing = new LinkedHashMap<>();
+        enabled.forEach((facet, test) -> passing.put(facet, this.selectAny(facet, test)));
+        BitSet result = (BitSet) base.clone();
+        passing.values().forEach(result::and);
+
+        for (String facet : passing.keySet()) {
+            BitSet others = (BitSet) base.clone();
+            passing.forEach((other, bits) -> {
+                if (!other.equals(facet)) {
+                    others.and(bits);
+                }
+            });
+            Map<Object, Integer> facetCounts = new HashMap<>();
+            facets.getOrDefault(facet, Map.of()).forEach((value, bits) -> {
+                BitSet shown = (BitSet) bits.clone();
+                shown.and(others);
+                facetCounts.put(value, shown.cardinality());
+            });
+            counts.put(facet, facetCounts);
+        }
+        return result;
+    }
+
+    public List<T> list(BitSet selection) {
+        List<T> result = new ArrayList<>(selection.cardinality());
+        selection.stream().forEach(position -> result.add(entries.get(position)));
+        return result;
+    }
+
+    /**
+     * @return selected entries grouped by package folder in package order; packages with no selected entries
+     * are left out.
+     */
+    public Map<Path, List<T>> groupByPackage(BitSet selection) {
+        Map<Path, List<T>> result = new LinkedHashMap<>();
+        facets.get(PACKAGE).forEach((packageFolder, bits) -> {
+            BitSet packageSelection = (BitSet) bits.clone();
+            packageSelection.and(selection);
+            if (!packageSelection.isEmpty()) {
+                result.put((Path) packageFolder, this.list(packageSelection));
+            }
+        });
+        return result;
+    }
+
+}
@@ -1,36 +1,52 @@
 package oth.shipeditor.representation;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.communication.EventBus;
+import oth.shipeditor.communication.events.files.EntryPackagesSet;
 import oth.shipeditor.communication.events.files.HullmodDataSet;
 import oth.shipeditor.communication.events.files.WingDataSet;
 import oth.shipeditor.components.datafiles.entities.*;
-import oth.shipeditor.components.datafiles.trees.WeaponFilterPanel;
 import oth.shipeditor.components.viewer.layers.ship.ShipLayer;
 import oth.shipeditor.components.viewer.layers.ship.ShipPainter;
 import oth.shipeditor.components.viewer.layers.ship.data.ActiveShipSpec;
 import oth.shipeditor.components.viewer.layers.ship.data.ShipSkin;
 import oth.shipeditor.components.viewer.layers.ship.data.Variant;
+import oth.shipeditor.components.viewer.entities.weapon.SlotData;
 import oth.shipeditor.components.viewer.painters.points.ship.features.InstalledFeature;
 import oth.shipeditor.persistence.SettingsManager;
 import oth.shipeditor.representation.ship.*;
 import oth.shipeditor.representation.weapon.ProjectileSpecFile;
+import oth.shipeditor.representation.weapon.WeaponType;
+import oth.shipeditor.utility.text.StringConstants;
 
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * One version of loaded game data. Full loads fill a new instance off EDT, partial loads and
+ * reloads of changed files fill a copy of the current one;
+ * either is then published with {@link SettingsManager#publishGameData(GameDataRepository)}.
+ * Entry instances are shared between versions. Toggling of a data package still patches the published version
+ * in place; this is only done on EDT, so readers there never see a half-built state.
  * @author Ontheheavens
  * @since 08.07.2023
  */
 @SuppressWarnings({"ClassWithTooManyFields", "ClassWithTooManyMethods", "StaticMethodOnlyUsedInOneClass", "unused"})
+@Log4j2
 @Getter
 public class GameDataRepository {
 
+    private static final AtomicLong versionCounter = new AtomicLong();
+
+    /**
+     * Increases with every created instance; lets components tell whether their cached data came from this version.
+     */
+    private final long version;
+
     /**
      * All ship entries by their hull IDs.
      */
@@ -82,16 +98,15 @@ public class GameDataRepository {
     private Map<String, EngineStyle> allEngineStyles;
 
     /**
-     * All variant files by variant IDs.
+     * All variant files by variant IDs; files are deserialized on first access.
      */
-    @Setter
-    private Map<String, VariantFile> allVariants;
+    private Map<String, LazySpec<VariantFile>> allVariants;
 
     /**
-     * All projectile files by variant IDs.
+     * All projectile files by projectile IDs; files are deserialized on first access.
      */
     @Setter
-    private Map<String, ProjectileSpecFile> allProjectiles;
+    private Map<String, LazySpec<ProjectileSpecFile>> allProjectiles;
 
     @Setter
     private boolean shipDataLoaded;
@@ -106,7 +121,33 @@ public class GameDataRepository {
     @Setter
     private boolean weaponsDataLoaded;
 
+    /**
+     * Variants by hull, weapons by type and size, hullmods and wings by tag.
+     * Built on first query after being dropped by {@link #invalidateIndexes()}.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile SecondaryIndexes indexes;
+
+    /**
+     * Reverse references for usage search; built on first query, patched in place for re-scanned variants.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile UsageIndex usages;
+
+    /**
+     * Type-ahead index over names and IDs of data tree entries; built on first query.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile EntrySearchIndex searchIndex;
+
+    /**
+     * Defining packages of every entry ID and the effective definition; built on first query.
+     */
+    @Getter(AccessLevel.NONE)
+    private volatile PackageOverlay overlay;
+
     public GameDataRepository() {
+        this.version = versionCounter.incrementAndGet();
         this.allSpecEntries = new HashMap<>();
         this.allShipEntries = new HashMap<>();
         this.allHullmodEntries = new HashMap<>();
@@ -115,52 +156,242 @@ public class GameDataRepository {
         this.allWeaponEntries = new HashMap<>();
     }
 
+    /**
+     * Copies collections of the base version, sharing entry instances; expected to be called on EDT.
+     * Package lists are copied too, as patches change them in place.
+     */
+    public GameDataRepository(GameDataRepository base) {
+        this.version = versionCounter.incrementAndGet();
+        this.allSpecEntries = new HashMap<>(base.allSpecEntries);
+        this.allShipEntries = new HashMap<>(base.allShipEntries);
+        this.allHullmodEntries = new HashMap<>(base.allHullmodEntries);
+        this.allShipsystemEntries = new HashMap<>(base.allShipsystemEntries);
+        this.allWingEntries = new HashMap<>(base.allWingEntries);
+        this.allWeaponEntries = new HashMap<>(base.allWeaponEntries);
+
+        this.shipEntriesByPackage = GameDataRepository.copyByPackage(base.shipEntriesByPackage);
+        this.weaponEntriesByPackage = GameDataRepository.copyByPackage(base.weaponEntriesByPackage);
+        this.hullmodEntriesByPackage = GameDataRepository.copyByPackage(base.hullmodEntriesByPackage);
+        this.shipSystemEntriesByPackage = GameDataRepository.copyByPackage(base.shipSystemEntriesByPackage);
+        this.wingEntriesByPackage = GameDataRepository.copyByPackage(base.wingEntriesByPackage);
+        this.allHullStyles = GameDataRepository.copyOf(base.allHullStyles);
+        this.allEngineStyles = GameDataRepository.copyOf(base.allEngineStyles);
+        this.allVariants = GameDataRepository.copyOf(base.allVariants);
+        this.allProjectiles = GameDataRepository.copyOf(base.allProjectiles);
+
+        this.shipDataLoaded = base.shipDataLoaded;
+        this.hullmodDataLoaded = base.hullmodDataLoaded;
+        this.shipsystemDataLoaded = base.shipsystemDataLoaded;
+        this.wingDataLoaded = base.wingDataLoaded;
+        this.weaponsDataLoaded = base.weaponsDataLoaded;
+    }
+
+    /**
+     * @return modifiable copy in the same order, or NULL if the map is NULL.
+     */
+    public static <K, V> Map<K, V> copyOf(Map<K, V> map) {
+        if (map == null) return null;
+        return new LinkedHashMap<>(map);
+    }
+
+    /**
+     * @return copy of the map with each package list copied as well, or NULL if the map is NULL.
+     */
+    public static <T> Map<Path, List<T>> copyByPackage(Map<Path, List<T>> byPackage) {
+        if (byPackage == null) return null;
+        Map<Path, List<T>> result = new LinkedHashMap<>();
+        byPackage.forEach((folder, entries) -> result.put(folder, new ArrayList<>(entries)));
+        return result;
+    }
+
+
+    /**
+     * Expected to be called after every change of variant, weapon, hullmod, wing or ship spec collections.
+     */
+    public void invalidateIndexes() {
+        this.indexes = null;
+        this.usages = null;
+        this.searchIndex = null;
+        this.overlay = null;
+    }
+
+    /**
+     * Points ID maps of hulls, weapons, hullmods, wings and ship systems at the definitions that win
+     * in package loading order, dropping IDs that no package defines anymore. Expected to be called once
+     * package lists of entries are all set, after a load publishes or a package is toggled;
+     * kinds whose package lists are not set yet are left as they are.
+     */
+    public void resolveWinners() {
+        PackageOverlay current = this.getOverlay();
+        if (shipEntriesByPackage != null) {
+            Map<String, CSVEntry> winners = current.getWinners(PackageOverlay.Kind.HULL);
+            allShipEntries.keySet().retainAll(winners.keySet());
+            winners.forEach((hullID, winner) -> {
+                ShipCSVEntry shipEntry = (ShipCSVEntry) winner;
+                if (allShipEntries.put(hullID, shipEntry) != shipEntry) {
+                    this.putSpec(shipEntry.getHullSpecFile());
+                }
+            });
+        }
+        GameDataRepository.resolve(weaponEntriesByPackage, allWeaponEntries, current,
+                PackageOverlay.Kind.WEAPON, WeaponCSVEntry.class);
+        GameDataRepository.resolve(hullmodEntriesByPackage, allHullmodEntries, current,
+                PackageOverlay.Kind.HULLMOD, HullmodCSVEntry.class);
+        GameDataRepository.resolve(wingEntriesByPackage, allWingEntries, current,
+                PackageOverlay.Kind.WING, WingCSVEntry.class);
+        GameDataRepository.resolve(shipSystemEntriesByPackage, allShipsystemEntries, current,
+                PackageOverlay.Kind.SHIP_SYSTEM, ShipSystemCSVEntry.class);
+    }
+
+    private static <T extends CSVEntry> void resolve(Map<Path, List<T>> byPackage, Map<String, T> byID,
+                                                     PackageOverlay overlay, PackageOverlay.Kind kind,
+                                                     Class<T> type) {
+        if (byPackage == null) return;
+        Map<String, CSVEntry> winners = overlay.getWinners(kind);
+        byID.keySet().retainAll(winners.keySet());
+        winners.forEach((entityID, winner) -> byID.put(entityID, type.cast(winner)));
+    }
+
+    PackageOverlay getOverlay() {
+        PackageOverlay current = overlay;
+        if (current == null) {
+            synchronized (this) {
+                current = overlay;
+                if (current == null) {
+                    current = new PackageOverlay(this);
+                    overlay = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Expected to be called on EDT after a variant was replaced by its re-scanned version, or added.
+     * Usages of the variant are patched in place; other indexes are dropped and rebuilt on next query.
+     * @param previous NULL if the variant is new and did not replace a loaded one.
+     */
+    public void replaceVariantUsages(LazySpec<VariantFile> previous, LazySpec<VariantFile> updated) {
+        this.indexes = null;
+        UsageIndex current = usages;
+        if (current == null) return;
+        if (previous != null) {
+            current.removeVariant(previous.getHeaderValue(StringConstants.VARIANT_ID), previous);
+        }
+        current.addVariant(updated.getHeaderValue(StringConstants.VARIANT_ID), updated);
+    }
+
+    private UsageIndex getUsages() {
+        UsageIndex current = usages;
+        if (current == null) {
+            synchronized (this) {
+                current = usages;
+                if (current == null) {
+                    long start = System.nanoTime();
+                    current = new UsageIndex(this);
+                    usages = current;
+                    long elapsed = (System.nanoTime() - start) / 1_000_000;
+                    log.info("Usage index built in {} ms.", elapsed);
+                }
+            }
+        }
+        return current;
+    }
+
+    private SecondaryIndexes getIndexes() {
+        SecondaryIndexes current = indexes;
+        if (current == null) {
+            synchronized (this) {
+                current = indexes;
+                if (current == null) {
+                    current = new SecondaryIndexes(this);
+                    indexes = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private EntrySearchIndex getSearchIndex() {
+        EntrySearchIndex current = searchIndex;
+        if (current == null) {
+            synchronized (this) {
+                current = searchIndex;
+                if (current == null) {
+                    long start = System.nanoTime();
+                    current = new EntrySearchIndex(this);
+                    searchIndex = current;
+                    long elapsed = (System.nanoTime() - start) / 1_000_000;
+                    log.info("Entry search index built in {} ms: {} entries.", elapsed, current.size());
+                }
+            }
+        }
+        return current;
+    }
+
+    public void setAllVariants(Map<String, LazySpec<VariantFile>> variants) {
+        this.allVariants = variants;
+        this.invalidateIndexes();
+    }
 
     public void setShipEntriesByPackage(Map<Path, List<ShipCSVEntry>> shipEntries) {
         this.shipEntriesByPackage = shipEntries;
-        SettingsManager.announcePackages(shipEntries);
+        this.invalidateIndexes();
+        GameDataRepository.announcePackages(ShipCSVEntry.class, shipEntries);
     }
 
     public void setWeaponEntriesByPackage(Map<Path, List<WeaponCSVEntry>> weaponEntries) {
         this.weaponEntriesByPackage = weaponEntries;
-        Map<Path, Boolean> filterEntries = new LinkedHashMap<>();
-        weaponEntries.forEach((path, weaponCSVEntries) -> filterEntries.put(path, true));
-
-        SettingsManager.announcePackages(weaponEntries);
-        WeaponFilterPanel.setPackageFilters(filterEntries);
+        this.invalidateIndexes();
+        GameDataRepository.announcePackages(WeaponCSVEntry.class, weaponEntries);
     }
 
     public void setHullmodEntriesByPackage(Map<Path, List<HullmodCSVEntry>> hullmodEntries) {
         this.hullmodEntriesByPackage = hullmodEntries;
-        SettingsManager.announcePackages(hullmodEntries);
+        this.invalidateIndexes();
+        GameDataRepository.announcePackages(HullmodCSVEntry.class, hullmodEntries);
     }
 
     public void setShipSystemEntriesByPackage(Map<Path, List<ShipSystemCSVEntry>> shipSystemEntries) {
         this.shipSystemEntriesByPackage = shipSystemEntries;
-        SettingsManager.announcePackages(shipSystemEntries);
+        this.invalidateIndexes();
+        GameDataRepository.announcePackages(ShipSystemCSVEntry.class, shipSystemEntries);
     }
 
     public void setWingEntriesByPackage(Map<Path, List<WingCSVEntry>> wingEntries) {
         this.wingEntriesByPackage = wingEntries;
-        SettingsManager.announcePackages(wingEntries);
+        this.invalidateIndexes();
+        GameDataRepository.announcePackages(WingCSVEntry.class, wingEntries);
+    }
+
+    private static <T extends CSVEntry> void announcePackages(Class<T> entryType, Map<Path, List<T>> entries) {
+        EventBus.publish(new EntryPackagesSet(entryType, List.copyOf(entries.keySet())));
     }
 
     public static ShipCSVEntry retrieveShipCSVEntryByID(String baseHullID) {
         GameDataRepository dataRepository = SettingsManager.getGameData();
-        var shipEntries = dataRepository.getAllShipEntries();
-        return shipEntries.get(baseHullID);
+        var overlay = dataRepository.getOverlay();
+        return (ShipCSVEntry) overlay.getWinner(PackageOverlay.Kind.HULL, baseHullID);
     }
 
     public static HullmodCSVEntry retrieveHullmodCSVEntryByID(String hullmodID) {
         GameDataRepository dataRepository = SettingsManager.getGameData();
-        var hullmodEntries = dataRepository.getAllHullmodEntries();
-        return hullmodEntries.get(hullmodID);
+        var overlay = dataRepository.getOverlay();
+        return (HullmodCSVEntry) overlay.getWinner(PackageOverlay.Kind.HULLMOD, hullmodID);
     }
 
     public static WeaponCSVEntry retrieveWeaponCSVEntryByID(String weaponID) {
         GameDataRepository dataRepository = SettingsManager.getGameData();
-        var weaponEntries = dataRepository.getAllWeaponEntries();
-        return weaponEntries.get(weaponID);
+        var overlay = dataRepository.getOverlay();
+        return (WeaponCSVEntry) overlay.getWinner(PackageOverlay.Kind.WEAPON, weaponID);
+    }
+
+    /**
+     * @return definitions of every entity ID, in package loading order, for current version.
+     */
+    public static PackageOverlay getPackageOverlay() {
+        GameDataRepository dataRepository = SettingsManager.getGameData();
+        return dataRepository.getOverlay();
     }
 
     public static ShipSpecFile retrieveSpecByID(String hullID) {
@@ -238,10 +469,9 @@ public class GameDataRepository {
         return InstalledFeature.of(slotID, variant.getVariantId(), modulePainter, csvEntry);
     }
 
-    public static void putSpec(ShipSpecFile specFile) {
-        GameDataRepository dataRepository = SettingsManager.getGameData();
-        var allSpecs = dataRepository.getAllSpecEntries();
-        allSpecs.put(specFile.getHullId(), specFile);
+    public void putSpec(ShipSpecFile specFile) {
+        allSpecEntries.put(specFile.getHullId(), specFile);
+        this.usages = null;
     }
 
     public void setHullmodDataLoaded(boolean hullmodsLoaded) {
@@ -266,12 +496,19 @@ public class GameDataRepository {
 
     public static VariantFile getVariantByID(String variantID) {
         var dataRepository = SettingsManager.getGameData();
-        return dataRepository.allVariants.get(variantID);
+        return GameDataRepository.materialize(dataRepository.allVariants, variantID);
     }
 
     public static ProjectileSpecFile getProjectileByID(String projectileID) {
         var dataRepository = SettingsManager.getGameData();
-        return dataRepository.allProjectiles.get(projectileID);
+        return GameDataRepository.materialize(dataRepository.allProjectiles, projectileID);
+    }
+
+    private static <T> T materialize(Map<String, LazySpec<T>> specs, String id) {
+        if (specs == null) return null;
+        LazySpec<T> spec = specs.get(id);
+        if (spec == null) return null;
+        return spec.get();
     }
 
     public static WeaponCSVEntry getWeaponByID(String weaponID) {
@@ -281,16 +518,150 @@ public class GameDataRepository {
 
     public static Map<String, VariantFile> getMatchingForHullID(String shipHullID) {
         var dataRepository = SettingsManager.getGameData();
-        var allVariants = dataRepository.getAllVariants();
+        var matching = dataRepository.getIndexes().getVariantsForHull(shipHullID);
         Map<String, VariantFile> result = new HashMap<>();
-        for (Map.Entry<String, VariantFile> variantFileEntry : allVariants.entrySet()) {
-            VariantFile variantFile = variantFileEntry.getValue();
-            String variantHullId = variantFile.getHullId();
-            if (variantHullId.equals(shipHullID)) {
-                result.put(variantFileEntry.getKey(), variantFileEntry.getValue());
+        matching.forEach((variantID, lazyVariant) -> {
+            VariantFile variantFile = lazyVariant.get();
+            if (variantFile != null) {
+                result.put(variantID, variantFile);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * @return weapons that can be installed into the slot; mount type override of weapons is accounted for.
+     */
+    public static List<WeaponCSVEntry> getWeaponsFittingSlot(SlotData slot) {
+        if (slot.getWeaponType() == null || slot.getWeaponSize() == null) return List.of();
+        var dataRepository = SettingsManager.getGameData();
+        var weaponsByType = dataRepository.getIndexes().getWeaponsByTypeAndSize();
+        List<WeaponCSVEntry> result = new ArrayList<>();
+        weaponsByType.forEach((weaponType, weaponsBySize) -> weaponsBySize.forEach((weaponSize, bucket) -> {
+            if (WeaponType.isFitting(slot.getWeaponType(), slot.getWeaponSize(), weaponType, weaponSize)) {
+                result.addAll(bucket);
             }
+        }));
+        return result;
+    }
+
+    /**
+     * @return places in loaded data that refer to the entry, grouped by kind; empty for unsupported entry types.
+     */
+    public static List<EntityUsage> findUsages(CSVEntry entry) {
+        var dataRepository = SettingsManager.getGameData();
+        UsageIndex index = dataRepository.getUsages();
+        String entryID = entry.getID();
+        List<EntityUsage> result = new ArrayList<>();
+        if (entry instanceof ShipCSVEntry shipEntry) {
+            dataRepository.collectHullUsages(shipEntry, index, result);
+            return result;
         }
+        Set<String> variants;
+        if (entry instanceof WeaponCSVEntry) {
+            variants = index.getVariantsByWeapon(entryID);
+        } else if (entry instanceof HullmodCSVEntry) {
+            variants = index.getVariantsByHullmod(entryID);
+        } else if (entry instanceof WingCSVEntry) {
+            variants = index.getVariantsByWing(entryID);
+        } else {
+            return result;
+        }
+        dataRepository.addVariantUsages(variants, EntityUsage.Kind.FITTED, result);
+        dataRepository.addSpecUsages(index.getSpecsByBuiltIn(entryID), result);
         return result;
     }
 
+    /**
+     * Hull is used by its skins, by variants of hull and skins, by wings and ships that take those variants.
+     */
+    private void collectHullUsages(ShipCSVEntry shipEntry, UsageIndex index, List<EntityUsage> result) {
+        Set<String> hullIDs = new LinkedHashSet<>();
+        hullIDs.add(shipEntry.getHullID());
+        Map<String, SkinSpecFile> skins = shipEntry.getSkins();
+        if (skins != null) {
+            for (SkinSpecFile skin : skins.values()) {
+                hullIDs.add(skin.getHullId());
+                result.add(new EntityUsage(EntityUsage.Kind.SKIN, skin.getHullId(), skin.getFilePath()));
+            }
+        }
+
+        SecondaryIndexes lookups = this.getIndexes();
+        Set<String> variantIDs = new HashSet<>();
+        for (String hullID : hullIDs) {
+            variantIDs.addAll(lookups.getVariantsForHull(hullID).keySet());
+        }
+        this.addVariantUsages(variantIDs, EntityUsage.Kind.VARIANT, result);
+
+        Set<String> moduleUsers = new HashSet<>();
+        Set<String> moduleSpecs = new HashSet<>();
+        for (String variantID : variantIDs) {
+            moduleUsers.addAll(index.getVariantsByModule(variantID));
+            moduleSpecs.addAll(index.getSpecsByBuiltIn(variantID));
+        }
+        this.addVariantUsages(moduleUsers, EntityUsage.Kind.MODULE, result);
+        this.addSpecUsages(moduleSpecs, result);
+
+        List<EntityUsage> wings = new ArrayList<>();
+        for (WingCSVEntry wing : allWingEntries.values()) {
+            String wingVariant = wing.getRowData().get(StringConstants.VARIANT);
+            if (variantIDs.contains(wingVariant)) {
+                wings.add(new EntityUsage(EntityUsage.Kind.WING, wing.getWingID(), wing.getTableFilePath()));
+            }
+        }
+        wings.sort(Comparator.comparing(EntityUsage::entityID));
+        result.addAll(wings);
+    }
+
+    private void addVariantUsages(Collection<String> variantIDs, EntityUsage.Kind kind, List<EntityUsage> result) {
+        for (String variantID : new TreeSet<>(variantIDs)) {
+            LazySpec<VariantFile> variant = allVariants == null ? null : allVariants.get(variantID);
+            Path file = variant == null ? null : variant.getFilePath();
+            result.add(new EntityUsage(kind, variantID, file));
+        }
+    }
+
+    private void addSpecUsages(Collection<String> hullIDs, List<EntityUsage> result) {
+        for (String hullID : new TreeSet<>(hullIDs)) {
+            ShipSpecFile spec = allSpecEntries.get(hullID);
+            Path file = spec == null ? null : spec.getFilePath();
+            result.add(new EntityUsage(EntityUsage.Kind.BUILT_IN, hullID, file));
+        }
+    }
+
+    /**
+     * @param query matched as case-insensitive substring of entry display name or ID.
+     * @return hull, weapon, hullmod, wing and ship system entries of current version that match, in package order.
+     */
+    public static Set<CSVEntry> searchEntries(String query) {
+        var dataRepository = SettingsManager.getGameData();
+        return dataRepository.getSearchIndex().search(query);
+    }
+
+    /**
+     * @return weapon entries of all packages with package, type and size facets.
+     */
+    public static FacetIndex<WeaponCSVEntry> getWeaponFacets() {
+        var dataRepository = SettingsManager.getGameData();
+        return dataRepository.getIndexes().getWeaponFacets();
+    }
+
+    /**
+     * @return ship entries of all packages with package and hull size facets.
+     */
+    public static FacetIndex<ShipCSVEntry> getHullFacets() {
+        var dataRepository = SettingsManager.getGameData();
+        return dataRepository.getIndexes().getHullFacets();
+    }
+
+    public static List<HullmodCSVEntry> getHullmodsByTag(String tag) {
+        var dataRepository = SettingsManager.getGameData();
+        return Collections.unmodifiableList(dataRepository.getIndexes().getHullmodsByTag(tag));
+    }
+
+    public static List<WingCSVEntry> getWingsByTag(String tag) {
+        var dataRepository = SettingsManager.getGameData();
+        return Collections.unmodifiableList(dataRepository.getIndexes().getWingsByTag(tag));
+    }
+
 }
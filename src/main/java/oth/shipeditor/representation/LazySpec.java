@@ -0,0 +1,103 @@
+package oth.shipeditor.representation;
+
+import lombok.Getter;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Data file spec known only by a few header fields until its full contents are requested.
+ * Header is read by a streaming scan during load; file is deserialized on first {@link #get()},
+ * and the result is kept for later calls.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public final class LazySpec<T> {
+
+    private static final AtomicInteger materializedCount = new AtomicInteger();
+
+    @Getter
+    private final Path filePath;
+
+    @Getter
+    private final Path containingPackage;
+
+    private final Map<String, String> header;
+
+    private final Map<String, List<String>> references;
+
+    private final Function<Path, T> materializer;
+
+    private volatile T spec;
+
+    private volatile boolean materialized;
+
+    /**
+     * @param materializer fully deserializes the file; may return NULL if the file cannot be parsed.
+     */
+    public LazySpec(Path filePath, Path containingPackage, Map<String, String> header,
+                    Function<Path, T> materializer) {
+        this(filePath, containingPackage, header, Map.of(), materializer);
+    }
+
+    /**
+     * @param references IDs of other entities that the file refers to, by the field they were found in.
+     */
+    public LazySpec(Path filePath, Path containingPackage, Map<String, String> header,
+                    Map<String, ? extends List<String>> references, Function<Path, T> materializer) {
+        this.filePath = filePath;
+        this.containingPackage = containingPackage;
+        this.header = Map.copyOf(header);
+        Map<String, List<String>> copied = new HashMap<>(references.size() * 2);
+        references.forEach((field, values) -> copied.put(field, List.copyOf(values)));
+        this.references = copied;
+        this.materializer = materializer;
+    }
+
+    /**
+     * @return value of a top-level field captured by the header scan, or NULL if it was not captured.
+     */
+    public String getHeaderValue(String field) {
+        return header.get(field);
+    }
+
+    /**
+     * @return IDs captured by the header scan from given field, or empty list if the field was not scanned.
+     */
+    public List<String> getReferences(String field) {
+        return references.getOrDefault(field, List.of());
+    }
+
+    public boolean isMaterialized() {
+        return materialized;
+    }
+
+    /**
+     * Deserializes the file on first call; failed parse is not retried until the file is loaded anew.
+     * @return full spec, or NULL if the file could not be parsed.
+     */
+    public T get() {
+        if (!materialized) {
+            synchronized (this) {
+                if (!materialized) {
+                    spec = materializer.apply(filePath);
+                    materialized = true;
+                    materializedCount.incrementAndGet();
+                }
+            }
+        }
+        return spec;
+    }
+
+    /**
+     * @return number of specs deserialized on demand during this session.
+     */
+    public static int getMaterializedCount() {
+        return materializedCount.get();
+    }
+
+}
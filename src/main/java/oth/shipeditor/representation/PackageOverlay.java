@@ -0,0 +1,159 @@
+package oth.shipeditor.representation;
+
+import oth.shipeditor.components.datafiles.entities.CSVEntry;
+import oth.shipeditor.persistence.PackageRegistry;
+
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Resolves which package provides each hull, weapon, hullmod, wing and ship system ID.
+ * Definitions of an ID are chained in package loading order, same as the game applies them:
+ * core first, then mods in launcher order; the last definition wins, the earlier ones are shadowed.
+ * Built from package lists of the repository, so it does not depend on the order loaders ran in.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+public final class PackageOverlay {
+
+    private final Map<Kind, Map<String, List<CSVEntry>>> chains;
+
+    PackageOverlay(GameDataRepository repository) {
+        this(PackageOverlay.entriesByKind(repository), PackageOverlay.activePackageOrder());
+    }
+
+    /**
+     * @param packageOrder package folders in loading order.
+     */
+    PackageOverlay(Map<Kind, ? extends Map<Path, ? extends List<? extends CSVEntry>>> entriesByKind,
+                   List<Path> packageOrder) {
+        List<Path> normalizedOrder = new ArrayList<>(packageOrder.size());
+        for (Path folder : packageOrder) {
+            normalizedOrder.add(PackageOverlay.normalize(folder));
+        }
+        this.chains = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) {
+            chains.put(kind, PackageOverlay.chain(entriesByKind.get(kind), normalizedOrder));
+        }
+    }
+
+    private static Map<Kind, Map<Path, ? extends List<? extends CSVEntry>>> entriesByKind(
+            GameDataRepository repository) {
+        Map<Kind, Map<Path, ? extends List<? extends CSVEntry>>> result = new EnumMap<>(Kind.class);
+        result.put(Kind.HULL, repository.getShipEntriesByPackage());
+        result.put(Kind.WEAPON, repository.getWeaponEntriesByPackage());
+        result.put(Kind.HULLMOD, repository.getHullmodEntriesByPackage());
+        result.put(Kind.WING, repository.getWingEntriesByPackage());
+        result.put(Kind.SHIP_SYSTEM, repository.getShipSystemEntriesByPackage());
+        return result;
+    }
+
+    private static List<Path> activePackageOrder() {
+        List<Path> packageOrder = new ArrayList<>();
+        for (PackageRegistry.GamePackage gamePackage : PackageRegistry.getActivePackages()) {
+            packageOrder.add(gamePackage.folder());
+        }
+        return packageOrder;
+    }
+
+    /**
+     * Packages missing from registry, which should not normally happen, are chained after the rest by path.
+     */
+    private static Map<String, List<CSVEntry>> chain(Map<Path, ? extends List<? extends CSVEntry>> entriesByPackage,
+                                                     List<Path> packageOrder) {
+        Map<String, List<CSVEntry>> result = new HashMap<>();
+        if (entriesByPackage == null) return result;
+        List<Path> packages = new ArrayList<>(entriesByPackage.keySet());
+        packages.sort(Comparator.comparingInt((Path folder) -> {
+            int position = packageOrder.indexOf(PackageOverlay.normalize(folder));
+            return position < 0 ? Integer.MAX_VALUE : position;
+        }).thenComparing(Path::toString));
+        for (Path folder : packages) {
+            for (CSVEntry entry : entriesByPackage.get(folder)) {
+                result.computeIfAbsent(entry.getID(), key -> new ArrayList<>(1)).add(entry);
+            }
+        }
+        return result;
+    }
+
+    private static Path normalize(Path folder) {
+        return folder.toAbsolutePath().normalize();
+    }
+
+    /**
+     * @return effective definition of the ID, or NULL if no enabled package defines it.
+     */
+    public CSVEntry getWinner(Kind kind, String entityID) {
+        List<CSVEntry> chain = chains.get(kind).get(entityID);
+        return chain == null ? null : chain.getLast();
+    }
+
+    /**
+     * @return all definitions of the ID in loading order, the effective one last; empty if there are none.
+     */
+    public List<CSVEntry> getChain(Kind kind, String entityID) {
+        List<CSVEntry> chain = chains.get(kind).get(entityID);
+        return chain == null ? List.of() : Collections.unmodifiableList(chain);
+    }
+
+    /**
+     * @return IDs to their effective definitions.
+     */
+    public Map<String, CSVEntry> getWinners(Kind kind) {
+        Map<String, List<CSVEntry>> kindChains = chains.get(kind);
+        Map<String, CSVEntry> result = new HashMap<>(kindChains.size() * 2);
+        kindChains.forEach((entityID, chain) -> result.put(entityID, chain.getLast()));
+        return result;
+    }
+
+    /**
+     * @return IDs defined by more than one entry, by kind and ID.
+     */
+    public List<Conflict> getConflicts() {
+        List<Conflict> result = new ArrayList<>();
+        chains.forEach((kind, kindChains) -> kindChains.forEach((entityID, chain) -> {
+            if (chain.size() > 1) {
+                result.add(new Conflict(kind, entityID, List.copyOf(chain)));
+            }
+        }));
+        result.sort(Comparator.comparing(Conflict::kind).thenComparing(Conflict::entityID));
+        return result;
+    }
+
+    public enum Kind {
+
+        HULL("Hull"),
+        WEAPON("Weapon"),
+        HULLMOD("Hullmod"),
+        WING("Wing"),
+        SHIP_SYSTEM("Ship system");
+
+        private final String displayedName;
+
+        Kind(String name) {
+            this.displayedName = name;
+        }
+
+        @Override
+        public String toString() {
+            return displayedName;
+        }
+
+    }
+
+    /**
+     * @param chain definitions in loading order, the effective one last.
+     */
+    public record Conflict(Kind kind, String entityID, List<CSVEntry> chain) {
+
+        public CSVEntry winner() {
+            return chain.getLast();
+        }
+
+        public List<CSVEntry> shadowed() {
+            return chain.subList(0, chain.size() - 1);
+        }
+
+    }
+
+}
@@ -0,0 +1,162 @@
+package oth.shipeditor.representation;
+
+import oth.shipeditor.components.datafiles.entities.CSVEntry;
+import oth.shipeditor.components.datafiles.entities.HullmodCSVEntry;
+import oth.shipeditor.components.datafiles.entities.ShipCSVEntry;
+import oth.shipeditor.components.datafiles.entities.WeaponCSVEntry;
+import oth.shipeditor.components.datafiles.entities.WingCSVEntry;
+import oth.shipeditor.components.logging.Diagnostics;
+import oth.shipeditor.representation.ship.VariantFile;
+import oth.shipeditor.representation.weapon.WeaponSize;
+import oth.shipeditor.representation.weapon.WeaponSpecFile;
+import oth.shipeditor.representation.weapon.WeaponType;
+import oth.shipeditor.utility.text.StringConstants;
+
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Lookup tables derived from primary collections of {@link GameDataRepository}, built in one pass over them.
+ * Immutable once built; repository drops the whole instance when primary collections change.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+final class SecondaryIndexes {
+
+    /**
+     * Variant IDs to variants, grouped by hull ID from variant file header.
+     */
+    private final Map<String, Map<String, LazySpec<VariantFile>>> variantsByHull;
+
+    /**
+     * Holds entries of every package, including ones shadowed by same ID in later package.
+     * Weapon type already accounts for mount type override of the entry.
+     */
+    private final Map<WeaponType, Map<WeaponSize, List<WeaponCSVEntry>>> weaponsByTypeAndSize;
+
+    private final FacetIndex<WeaponCSVEntry> weaponFacets;
+
+    private final FacetIndex<ShipCSVEntry> hullFacets;
+
+    /**
+     * Reads package lists rather than ID maps, as ID maps of hullmods and wings are filled later by entry trees.
+     */
+    private final FacetIndex<HullmodCSVEntry> hullmodFacets;
+
+    private final FacetIndex<WingCSVEntry> wingFacets;
+
+    /**
+     * Hullmods and wings that win over same-ID definitions of other packages.
+     */
+    private final BitSet effectiveHullmods;
+
+    private final BitSet effectiveWings;
+
+    SecondaryIndexes(GameDataRepository repository) {
+        this.variantsByHull = SecondaryIndexes.indexVariants(repository.getAllVariants());
+        this.weaponsByTypeAndSize = SecondaryIndexes.indexWeapons(repository.getWeaponEntriesByPackage());
+        this.weaponFacets = new FacetIndex<>(repository.getWeaponEntriesByPackage(), Map.of(
+                FacetIndex.TYPE, SecondaryIndexes::getWeaponType,
+                FacetIndex.SIZE, weapon -> SecondaryIndexes.valueOf(weapon.getSize())));
+        this.hullFacets = new FacetIndex<>(repository.getShipEntriesByPackage(), Map.of(
+                FacetIndex.SIZE, hull -> SecondaryIndexes.valueOf(hull.getSize())));
+        this.hullmodFacets = new FacetIndex<>(repository.getHullmodEntriesByPackage(), Map.of(
+                FacetIndex.TAG, SecondaryIndexes::getTags));
+        this.wingFacets = new FacetIndex<>(repository.getWingEntriesByPackage(), Map.of(
+                FacetIndex.TAG, SecondaryIndexes::getTags));
+        PackageOverlay overlay = repository.getOverlay();
+        this.effectiveHullmods = hullmodFacets.selectEntries(overlay.getWinners(PackageOverlay.Kind.HULLMOD).values());
+        this.effectiveWings = wingFacets.selectEntries(overlay.getWinners(PackageOverlay.Kind.WING).values());
+    }
+
+    Map<String, LazySpec<VariantFile>> getVariantsForHull(String hullID) {
+        return variantsByHull.getOrDefault(hullID, Map.of());
+    }
+
+    Map<WeaponType, Map<WeaponSize, List<WeaponCSVEntry>>> getWeaponsByTypeAndSize() {
+        return weaponsByTypeAndSize;
+    }
+
+    FacetIndex<WeaponCSVEntry> getWeaponFacets() {
+        return weaponFacets;
+    }
+
+    FacetIndex<ShipCSVEntry> getHullFacets() {
+        return hullFacets;
+    }
+
+    /**
+     * Same as in lookups by ID, only the effective definition of each ID is considered.
+     */
+    List<HullmodCSVEntry> getHullmodsByTag(String tag) {
+        return SecondaryIndexes.listByTag(hullmodFacets, effectiveHullmods, tag);
+    }
+
+    List<WingCSVEntry> getWingsByTag(String tag) {
+        return SecondaryIndexes.listByTag(wingFacets, effectiveWings, tag);
+    }
+
+    private static <T extends CSVEntry> List<T> listByTag(FacetIndex<T> facets, BitSet effective, String tag) {
+        BitSet selection = facets.select(FacetIndex.TAG, tag);
+        selection.and(effective);
+        return facets.list(selection);
+    }
+
+    private static Collection<?> valueOf(Object value) {
+        return value == null ? List.of() : List.of(value);
+    }
+
+    private static Collection<?> getWeaponType(WeaponCSVEntry weapon) {
+        WeaponType type = weapon.getType();
+        if (type == null) {
+            WeaponSpecFile specFile = weapon.getSpecFile();
+            Diagnostics.error(specFile.getWeaponSpecFilePath(), weapon.getWeaponID(),
+                    "Null weapon type was found in weapon spec");
+            return List.of();
+        }
+        return List.of(type);
+    }
+
+    private static Collection<?> getTags(CSVEntry entry) {
+        String tags = entry.getRowData().get(StringConstants.TAGS);
+        if (tags == null || tags.isBlank()) return List.of();
+        Collection<String> result = new LinkedHashSet<>();
+        for (String tag : tags.split(",")) {
+            String trimmed = tag.trim();
+            if (!trimmed.isEmpty()) {
+                result.add(trimmed);
+            }
+        }
+        return result;
+    }
+
+    private static Map<String, Map<String, LazySpec<VariantFile>>> indexVariants(
+            Map<String, LazySpec<VariantFile>> allVariants) {
+        Map<String, Map<String, LazySpec<VariantFile>>> result = new HashMap<>();
+        if (allVariants == null) return result;
+        allVariants.forEach((variantID, lazyVariant) -> {
+            String hullID = lazyVariant.getHeaderValue(StringConstants.HULL_ID);
+            if (hullID == null) return;
+            result.computeIfAbsent(hullID, key -> new LinkedHashMap<>()).put(variantID, lazyVariant);
+        });
+        return result;
+    }
+
+    private static Map<WeaponType, Map<WeaponSize, List<WeaponCSVEntry>>> indexWeapons(
+            Map<Path, List<WeaponCSVEntry>> weaponsByPackage) {
+        Map<WeaponType, Map<WeaponSize, List<WeaponCSVEntry>>> result = new EnumMap<>(WeaponType.class);
+        if (weaponsByPackage == null) return result;
+        for (List<WeaponCSVEntry> weapons : weaponsByPackage.values()) {
+            for (WeaponCSVEntry weapon : weapons) {
+                WeaponType type = weapon.getType();
+                WeaponSize size = weapon.getSize();
+                if (type == null || size == null) continue;
+                result.computeIfAbsent(type, key -> new EnumMap<>(WeaponSize.class))
+                        .computeIfAbsent(size, key -> new ArrayList<>())
+                        .add(weapon);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,145 @@
+package oth.shipeditor.representation;
+
+import oth.shipeditor.representation.ship.HullSpecFile;
+import oth.shipeditor.representation.ship.ShipSpecFile;
+import oth.shipeditor.representation.ship.SkinSpecFile;
+import oth.shipeditor.representation.ship.VariantFile;
+import oth.shipeditor.utility.text.StringConstants;
+
+import java.util.*;
+
+/**
+ * Reverse references: which variants and ship specs refer to a given weapon, hullmod, wing or module variant.
+ * Variant side is built from IDs captured by header scan during loading, so no variant file is deserialized.
+ * Built on first query; after that, changed variants are patched in on EDT without rebuilding.
+ * @author Ontheheavens
+ * @since 17.10.2026
+ */
+final class UsageIndex {
+
+    private final Map<String, Set<String>> variantsByWeapon = new HashMap<>();
+
+    private final Map<String, Set<String>> variantsByHullmod = new HashMap<>();
+
+    private final Map<String, Set<String>> variantsByWing = new HashMap<>();
+
+    private final Map<String, Set<String>> variantsByModule = new HashMap<>();
+
+    /**
+     * Hull and skin IDs by IDs of weapons, hullmods, wings and module variants built into them.
+     */
+    private final Map<String, Set<String>> specsByBuiltIn = new HashMap<>();
+
+    UsageIndex(GameDataRepository repository) {
+        Map<String, LazySpec<VariantFile>> variants = repository.getAllVariants();
+        if (variants != null) {
+            variants.forEach(this::addVariant);
+        }
+        for (ShipSpecFile spec : repository.getAllSpecEntries().values()) {
+            this.addSpec(spec);
+        }
+    }
+
+    Set<String> getVariantsByWeapon(String weaponID) {
+        return variantsByWeapon.getOrDefault(weaponID, Set.of());
+    }
+
+    Set<String> getVariantsByHullmod(String hullmodID) {
+        return variantsByHullmod.getOrDefault(hullmodID, Set.of());
+    }
+
+    Set<String> getVariantsByWing(String wingID) {
+        return variantsByWing.getOrDefault(wingID, Set.of());
+    }
+
+    Set<String> getVariantsByModule(String variantID) {
+        return variantsByModule.getOrDefault(variantID, Set.of());
+    }
+
+    Set<String> getSpecsByBuiltIn(String builtInID) {
+        return specsByBuiltIn.getOrDefault(builtInID, Set.of());
+    }
+
+    void addVariant(String variantID, LazySpec<VariantFile> variant) {
+        for (String weaponID : variant.getReferences(StringConstants.WEAPON_GROUPS)) {
+            UsageIndex.link(variantsByWeapon, weaponID, variantID);
+        }
+        for (String field : List.of(StringConstants.HULL_MODS, StringConstants.PERMA_MODS, StringConstants.S_MODS)) {
+            for (String hullmodID : variant.getReferences(field)) {
+                UsageIndex.link(variantsByHullmod, hullmodID, variantID);
+            }
+        }
+        for (String wingID : variant.getReferences(StringConstants.WINGS)) {
+            UsageIndex.link(variantsByWing, wingID, variantID);
+        }
+        for (String moduleID : variant.getReferences(StringConstants.MODULES)) {
+            UsageIndex.link(variantsByModule, moduleID, variantID);
+        }
+    }
+
+    void removeVariant(String variantID, LazySpec<VariantFile> variant) {
+        for (String weaponID : variant.getReferences(StringConstants.WEAPON_GROUPS)) {
+            UsageIndex.unlink(variantsByWeapon, weaponID, variantID);
+        }
+        for (String field : List.of(StringConstants.HULL_MODS, StringConstants.PERMA_MODS, StringConstants.S_MODS)) {
+            for (String hullmodID : variant.getReferences(field)) {
+                UsageIndex.unlink(variantsByHullmod, hullmodID, variantID);
+            }
+        }
+        for (String wingID : variant.getReferences(StringConstants.WINGS)) {
+            UsageIndex.unlink(variantsByWing, wingID, variantID);
+        }
+        for (String moduleID : variant.getReferences(StringConstants.MODULES)) {
+            UsageIndex.unlink(variantsByModule, moduleID, variantID);
+        }
+    }
+
+    private void addSpec(ShipSpecFile spec) {
+        String hullID = spec.getHullId();
+        Collection<String> builtIns = new ArrayList<>();
+        if (spec instanceof HullSpecFile hull) {
+            UsageIndex.addAll(builtIns, hull.getBuiltInMods());
+            UsageIndex.addAll(builtIns, hull.getBuiltInWings());
+            UsageIndex.addValues(builtIns, hull.getBuiltInWeapons());
+            UsageIndex.addValues(builtIns, hull.getBuiltInModules());
+        } else if (spec instanceof SkinSpecFile skin) {
+            if (skin.getBuiltInMods() != null) {
+                builtIns.addAll(skin.getBuiltInMods());
+            }
+            if (skin.getBuiltInWings() != null) {
+                builtIns.addAll(skin.getBuiltInWings());
+            }
+            UsageIndex.addValues(builtIns, skin.getBuiltInWeapons());
+        }
+        for (String builtInID : builtIns) {
+            UsageIndex.link(specsByBuiltIn, builtInID, hullID);
+        }
+    }
+
+    private static void addAll(Collection<String> target, String[] values) {
+        if (values != null) {
+            Collections.addAll(target, values);
+        }
+    }
+
+    private static void addValues(Collection<String> target, Map<String, String> values) {
+        if (values != null) {
+            target.addAll(values.values());
+        }
+    }
+
+    private static void link(Map<String, Set<String>> index, String referencedID, String userID) {
+        if (referencedID == null || userID == null) return;
+        index.computeIfAbsent(referencedID, key -> new HashSet<>()).add(userID);
+    }
+
+    private static void unlink(Map<String, Set<String>> index, String referencedID, String userID) {
+        Set<String> users = index.get(referencedID);
+        if (users == null) return;
+        users.remove(userID);
+        if (users.isEmpty()) {
+            index.remove(referencedID);
+        }
+    }
+
+}
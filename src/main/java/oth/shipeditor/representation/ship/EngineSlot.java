@@ -12,13 +12,18 @@ import oth.shipeditor.parsing.serialize.points.EngineLocationSerializer;
 import oth.shipeditor.utility.text.StringConstants;
 
 import java.awt.geom.Point2D;
+import java.io.Serial;
+import java.io.Serializable;
 
 /**
  * @author Ontheheavens
  * @since 05.05.2023
  */
 @Getter @Setter
-public class EngineSlot {
+public class EngineSlot implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @JsonProperty("location")
     @JsonDeserialize(using = Point2DDeserializer.class)
@@ -13,16 +13,21 @@ import oth.shipeditor.parsing.serialize.BaseNumberSerializer;
 import oth.shipeditor.parsing.serialize.ColorArrayRGBASerializer;
 
 import java.awt.*;
+import java.io.Serial;
+import java.io.Serializable;
 import java.nio.file.Path;
 
 /**
  * @author Ontheheavens
  * @since 30.07.2023
  */
-@SuppressWarnings({"ClassWithTooManyFields", "TransientFieldInNonSerializableClass", "ClassWithTooManyMethods"})
+@SuppressWarnings({"ClassWithTooManyFields", "ClassWithTooManyMethods"})
 @Getter @Setter
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class EngineStyle {
+public class EngineStyle implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @JsonIgnore
     @Setter
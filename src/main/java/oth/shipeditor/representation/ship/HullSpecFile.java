@@ -18,6 +18,8 @@ import oth.shipeditor.representation.weapon.WeaponSlot;
 import oth.shipeditor.utility.text.StringConstants;
 
 import java.awt.geom.Point2D;
+import java.io.Serial;
+import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.Map;
 
@@ -28,17 +30,20 @@ import java.util.Map;
  * @author Ontheheavens
  * @since 05.05.2023
  */
-@SuppressWarnings({"ClassWithTooManyFields", "ClassWithTooManyMethods"})
+@SuppressWarnings({"ClassWithTooManyFields", "ClassWithTooManyMethods", "serial"})
 @Getter @Setter
-public class HullSpecFile implements ShipSpecFile {
+public class HullSpecFile implements ShipSpecFile, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @JsonIgnore
     @Setter
-    Path filePath;
+    transient Path filePath;
 
     @JsonIgnore
     @Setter
-    Path tableFilePath;
+    transient Path tableFilePath;
 
     @JsonProperty(StringConstants.HULL_NAME)
     String hullName = "New Hull";
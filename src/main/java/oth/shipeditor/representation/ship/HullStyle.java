@@ -12,16 +12,20 @@ import oth.shipeditor.parsing.serialize.ColorArrayRGBASerializer;
 import oth.shipeditor.utility.text.StringConstants;
 
 import java.awt.*;
+import java.io.Serial;
+import java.io.Serializable;
 import java.nio.file.Path;
 
 /**
  * @author Ontheheavens
  * @since 16.07.2023
  */
-@SuppressWarnings("TransientFieldInNonSerializableClass")
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
-public class HullStyle {
+public class HullStyle implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @JsonIgnore @Setter
     private transient Path filePath;
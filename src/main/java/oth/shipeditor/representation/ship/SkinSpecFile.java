@@ -17,6 +17,8 @@ import oth.shipeditor.utility.text.StringConstants;
 
 import java.awt.*;
 import java.io.File;
+import java.io.Serial;
+import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
@@ -27,8 +29,11 @@ import java.util.Map;
  * @since 29.06.2023
  */
 @Getter @Setter
-@SuppressWarnings({"TransientFieldInNonSerializableClass", "ClassWithTooManyFields", "ClassWithTooManyMethods", "OverlyComplexClass"})
-public class SkinSpecFile implements ShipSpecFile {
+@SuppressWarnings({"ClassWithTooManyFields", "ClassWithTooManyMethods", "OverlyComplexClass", "serial"})
+public class SkinSpecFile implements ShipSpecFile, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @JsonIgnore
     private static final SkinSpecFile NO_SKIN_DATA_SPEC_FILE = new SkinSpecFile(true);
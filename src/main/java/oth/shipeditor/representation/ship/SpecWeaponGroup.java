@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.Setter;
 import oth.shipeditor.utility.text.StringConstants;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.util.Map;
 
 /**
@@ -12,7 +14,11 @@ import java.util.Map;
  * @since 05.08.2023
  */
 @Getter @Setter
-public class SpecWeaponGroup {
+@SuppressWarnings("serial")
+public class SpecWeaponGroup implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @JsonProperty("autofire")
     private boolean autofire;
@@ -12,6 +12,8 @@ import oth.shipeditor.parsing.serialize.VariantFileSerializer;
 import oth.shipeditor.representation.GameDataRepository;
 import oth.shipeditor.utility.text.StringConstants;
 
+import java.io.Serial;
+import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
@@ -20,11 +22,14 @@ import java.util.Map;
  * @author Ontheheavens
  * @since 05.08.2023
  */
-@SuppressWarnings("ClassWithTooManyFields")
+@SuppressWarnings({"ClassWithTooManyFields", "serial"})
 @Getter @Setter
 @JsonSerialize(using = VariantFileSerializer.class)
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class VariantFile implements Variant {
+public class VariantFile implements Variant, Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @JsonIgnore
     private static final VariantFile EMPTY = new VariantFile(true);
@@ -50,11 +55,11 @@ public class VariantFile implements Variant {
 
     @Setter
     @JsonIgnore
-    private Path variantFilePath;
+    private transient Path variantFilePath;
 
     @Setter
     @JsonIgnore
-    private Path containingPackage;
+    private transient Path containingPackage;
 
     @JsonProperty(StringConstants.DISPLAY_NAME)
     private String displayName;
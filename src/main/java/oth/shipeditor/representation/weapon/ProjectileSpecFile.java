@@ -10,6 +10,8 @@ import oth.shipeditor.parsing.deserialize.Point2DDeserializer;
 import oth.shipeditor.utility.text.StringConstants;
 
 import java.awt.geom.Point2D;
+import java.io.Serial;
+import java.io.Serializable;
 import java.nio.file.Path;
 
 /**
@@ -18,15 +20,18 @@ import java.nio.file.Path;
  */
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
-public class ProjectileSpecFile {
+public class ProjectileSpecFile implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @Setter
     @JsonIgnore
-    private Path projectileSpecFilePath;
+    private transient Path projectileSpecFilePath;
 
     @Setter
     @JsonIgnore
-    private Path containingPackage;
+    private transient Path containingPackage;
 
     @JsonProperty("id")
     private String id;
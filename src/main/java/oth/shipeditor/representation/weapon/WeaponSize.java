@@ -1,6 +1,7 @@
 package oth.shipeditor.representation.weapon;
 
 import lombok.Getter;
+import org.kordamp.ikonli.Ikon;
 import org.kordamp.ikonli.boxicons.BoxiconsRegular;
 import org.kordamp.ikonli.swing.FontIcon;
 import oth.shipeditor.representation.SizeEnum;
@@ -15,26 +16,35 @@ public enum WeaponSize implements SizeEnum {
 
     // TODO: dynamic getter of icons to account for selection color and size change.
 
-    SMALL("SMALL", "Small",
-            FontIcon.of(BoxiconsRegular.DICE_1, 19, Themes.getIconColor()), 1),
-    MEDIUM("MEDIUM", "Medium",
-            FontIcon.of(BoxiconsRegular.DICE_2, 19, Themes.getIconColor()), 2),
-    LARGE("LARGE", "Large",
-            FontIcon.of(BoxiconsRegular.DICE_3, 19, Themes.getIconColor()), 3);
+    SMALL("SMALL", "Small", BoxiconsRegular.DICE_1, 1),
+    MEDIUM("MEDIUM", "Medium", BoxiconsRegular.DICE_2, 2),
+    LARGE("LARGE", "Large", BoxiconsRegular.DICE_3, 3);
 
     private final String id;
     private final String displayedName;
 
     private final int numericSize;
 
+    private final Ikon ikonTemplate;
+
     @SuppressWarnings("NonSerializableFieldInSerializableClass")
-    private final FontIcon icon;
+    private FontIcon icon;
 
-    WeaponSize(String serialized, String name, FontIcon iconImage, int numeric) {
+    WeaponSize(String serialized, String name, Ikon ikon, int numeric) {
         this.id = serialized;
         this.displayedName = name;
         this.numericSize = numeric;
-        this.icon = iconImage;
+        this.ikonTemplate = ikon;
+    }
+
+    /**
+     * Icon is created on first use, so that sizes can be used before look-and-feel colors are installed.
+     */
+    public FontIcon getIcon() {
+        if (icon == null) {
+            icon = FontIcon.of(ikonTemplate, 19, Themes.getIconColor());
+        }
+        return icon;
     }
 
     static int getSizeDifference(WeaponSize firstSize, WeaponSize secondSize) {
@@ -13,6 +13,8 @@ import oth.shipeditor.parsing.serialize.points.SlotLocationsSerializer;
 import oth.shipeditor.utility.text.StringConstants;
 
 import java.awt.geom.Point2D;
+import java.io.Serial;
+import java.io.Serializable;
 
 /**
  * @author Ontheheavens
@@ -20,7 +22,10 @@ import java.awt.geom.Point2D;
  */
 @Getter @Setter
 @JsonIgnoreProperties(ignoreUnknown = true)
-public class WeaponSlot {
+public class WeaponSlot implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @JsonProperty("id")
     private String id;
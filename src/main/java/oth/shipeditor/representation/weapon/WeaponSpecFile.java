@@ -20,6 +20,8 @@ import oth.shipeditor.utility.text.StringConstants;
 
 import java.awt.*;
 import java.awt.geom.Point2D;
+import java.io.Serial;
+import java.io.Serializable;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -27,22 +29,25 @@ import java.util.List;
  * @author Ontheheavens
  * @since 05.08.2023
  */
-@SuppressWarnings("ClassWithTooManyFields")
+@SuppressWarnings({"ClassWithTooManyFields", "serial"})
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
-public class WeaponSpecFile {
+public class WeaponSpecFile implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @Setter
     @JsonIgnore
-    private Path tableFilePath;
+    private transient Path tableFilePath;
 
     @Setter
     @JsonIgnore
-    private Path weaponSpecFilePath;
+    private transient Path weaponSpecFilePath;
 
     @Setter
     @JsonIgnore
-    private Path containingPackage;
+    private transient Path containingPackage;
 
     @JsonProperty(StringConstants.SPEC_CLASS)
     private String specClass;
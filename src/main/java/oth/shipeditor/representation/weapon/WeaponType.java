@@ -59,15 +59,30 @@ public enum WeaponType {
         }
     }
 
+    public static boolean isWeaponFitting(SlotData slotPoint, WeaponCSVEntry weaponEntry) {
+        return WeaponType.isFitting(slotPoint.getWeaponType(), slotPoint.getWeaponSize(),
+                weaponEntry.getType(), weaponEntry.getSize());
+    }
+
+    /**
+     * Table lookup; slot mount plays no part in fitting rules. Slot edits need no invalidation,
+     * as the lookup is keyed by current type and size of the slot.
+     * @return false if any of the values is NULL.
+     */
+    public static boolean isFitting(WeaponType slotType, WeaponSize slotSize,
+                                    WeaponType weaponType, WeaponSize weaponSize) {
+        if (slotType == null || slotSize == null || weaponType == null || weaponSize == null) return false;
+        return FittingTable.FITTING[slotType.ordinal()][slotSize.ordinal()]
+                [weaponType.ordinal()][weaponSize.ordinal()];
+    }
+
     /**
      * Yeah, this sucks, but... weapon type rules suck in the first place, sorry Alex!
      */
     @SuppressWarnings({"OverlyComplexBooleanExpression", "RedundantLabeledSwitchRuleCodeBlock", "OverlyComplexMethod"})
-    public static boolean isWeaponFitting(SlotData slotPoint, WeaponCSVEntry weaponEntry) {
-        WeaponType slotType = slotPoint.getWeaponType();
-        WeaponType weaponType = weaponEntry.getType();
-
-        int sizeDifference = WeaponSize.getSizeDifference(slotPoint.getWeaponSize(), weaponEntry.getSize());
+    private static boolean computeFitting(WeaponType slotType, WeaponSize slotSize,
+                                          WeaponType weaponType, WeaponSize weaponSize) {
+        int sizeDifference = WeaponSize.getSizeDifference(slotSize, weaponSize);
         boolean isSameOrSmaller = 1 >= sizeDifference && sizeDifference >= 0;
         boolean isSameSize = sizeDifference == 0;
 
@@ -122,4 +137,32 @@ public enum WeaponType {
         return result;
     }
 
+    /**
+     * Outcome of fitting rules for every slot type and size against every weapon type and size.
+     */
+    private static final class FittingTable {
+
+        private static final boolean[][][][] FITTING = FittingTable.compute();
+
+        private FittingTable() {}
+
+        private static boolean[][][][] compute() {
+            WeaponType[] types = WeaponType.values();
+            WeaponSize[] sizes = WeaponSize.values();
+            boolean[][][][] table = new boolean[types.length][sizes.length][types.length][sizes.length];
+            for (WeaponType slotType : types) {
+                for (WeaponSize slotSize : sizes) {
+                    for (WeaponType weaponType : types) {
+                        for (WeaponSize weaponSize : sizes) {
+                            table[slotType.ordinal()][slotSize.ordinal()][weaponType.ordinal()][weaponSize.ordinal()] =
+                                    WeaponType.computeFitting(slotType, slotSize, weaponType, weaponSize);
+                        }
+                    }
+                }
+            }
+            return table;
+        }
+
+    }
+
 }
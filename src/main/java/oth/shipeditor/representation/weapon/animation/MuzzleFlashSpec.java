@@ -9,13 +9,18 @@ import oth.shipeditor.parsing.serialize.ColorArrayRGBASerializer;
 import oth.shipeditor.utility.text.StringConstants;
 
 import java.awt.*;
+import java.io.Serial;
+import java.io.Serializable;
 
 /**
  * @author Ontheheavens
  * @since 05.08.2023
  */
 @Getter
-public class MuzzleFlashSpec {
+public class MuzzleFlashSpec implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @JsonProperty(StringConstants.LENGTH)
     private double length;
@@ -8,12 +8,17 @@ import oth.shipeditor.parsing.serialize.ColorArrayRGBASerializer;
 import oth.shipeditor.utility.text.StringConstants;
 
 import java.awt.*;
+import java.io.Serial;
+import java.io.Serializable;
 
 /**
  * @author Ontheheavens
  * @since 05.08.2023
  */
-public class SmokeSpec {
+public class SmokeSpec implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
 
     @JsonProperty(StringConstants.PARTICLE_SIZE_MIN)
     private double particleSizeMin;
@@ -2,6 +2,7 @@ package oth.shipeditor.utility;
 
 import lombok.extern.log4j.Log4j2;
 import oth.shipeditor.components.CoordsDisplayMode;
+import oth.shipeditor.components.logging.Diagnostics;
 import oth.shipeditor.components.viewer.entities.AngledPoint;
 import oth.shipeditor.components.viewer.entities.BaseWorldPoint;
 import oth.shipeditor.components.viewer.entities.WorldPoint;
@@ -10,7 +11,7 @@ import oth.shipeditor.components.viewer.layers.LayerPainter;
 import oth.shipeditor.components.viewer.layers.ViewerLayer;
 import oth.shipeditor.components.viewer.layers.ship.ShipPainter;
 import oth.shipeditor.parsing.loading.FileLoading;
-import oth.shipeditor.persistence.SettingsManager;
+import oth.shipeditor.persistence.PackageRegistry;
 import oth.shipeditor.utility.graphics.Sprite;
 import oth.shipeditor.utility.overseers.StaticController;
 import oth.shipeditor.utility.text.StringValues;
@@ -23,14 +24,12 @@ import java.awt.geom.Point2D;
 import java.awt.image.BufferedImage;
 import java.awt.image.RenderedImage;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.text.DecimalFormat;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Locale;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -223,20 +222,13 @@ public final class Utility {
         return transformed - 90;
     }
 
-    @SuppressWarnings("CallToPrintStackTrace")
     public static void setSpriteFromPath(String pathInPackage, Consumer<Sprite> setter, Path packageFolderPath) {
         if (pathInPackage != null && !pathInPackage.isEmpty()) {
             Path filePath = Path.of(pathInPackage);
             File spriteFile = FileLoading.fetchDataFile(filePath, packageFolderPath);
 
             if (spriteFile == null) {
-                String report = "Image file not found: " + filePath;
-                JOptionPane.showMessageDialog(null,
-                        report,
-                        StringValues.FILE_LOADING_ERROR,
-                        JOptionPane.ERROR_MESSAGE);
-                FileNotFoundException notFoundException = new FileNotFoundException(report);
-                notFoundException.printStackTrace();
+                Diagnostics.error(filePath, null, "Image file not found");
                 return;
             }
 
@@ -258,21 +250,13 @@ public final class Utility {
     }
 
     public static String computeRelativePathFromPackage(Path fullPath) {
-        Path coreDataFolder = SettingsManager.getCoreFolderPath();
-        List<Path> otherModFolders = SettingsManager.getAllModFolders();
-        String relativePathFromCore = Utility.findRelativePath(coreDataFolder, fullPath);
-
-        if (relativePathFromCore != null) {
-            return relativePathFromCore;
-        }
-
-        for (Path modFolder : otherModFolders) {
-            String relativePathFromMod = Utility.findRelativePath(modFolder, fullPath);
-            if (relativePathFromMod != null) {
-                return relativePathFromMod;
+        PackageRegistry.GamePackage containing = PackageRegistry.findContaining(fullPath);
+        if (containing != null) {
+            String relativePath = Utility.findRelativePath(containing.folder(), fullPath);
+            if (relativePath != null) {
+                return relativePath;
             }
         }
-
         return fullPath.toString();
     }
 
@@ -30,7 +30,7 @@ public final class Sprite {
     }
 
     public String getPathFromPackage() {
-        if (pathFromPackage == null || !pathFromPackage.isEmpty()) {
+        if (pathFromPackage == null) {
             pathFromPackage = Utility.computeRelativePathFromPackage(path);
         }
         return pathFromPackage;
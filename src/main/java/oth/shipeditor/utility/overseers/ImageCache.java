@@ -1,18 +1,28 @@
 package oth.shipeditor.utility.overseers;
 
 import lombok.extern.log4j.Log4j2;
-import oth.shipeditor.utility.text.StringValues;
+import oth.shipeditor.components.logging.Diagnostics;
+import oth.shipeditor.persistence.SettingsManager;
 
 import javax.imageio.ImageIO;
-import javax.swing.*;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
+ * Decoded sprites by file, bounded by byte budget from settings; safe to use from loader threads and EDT at once.
+ * Least recently used sprites are evicted first, except the ones pinned by viewer layers.
+ * Concurrent requests for the same file wait for a single decode.
  * @author Ontheheavens
  * @since 09.07.2023
  */
@@ -21,29 +31,198 @@ public final class ImageCache {
 
     private static final ImageCache instance = new ImageCache();
 
-    private final Map<File, BufferedImage> cache;
+    private final Object lock = new Object();
+
+    /**
+     * Access-ordered, least recently used first; guarded by lock, as are pins and resident bytes.
+     */
+    private final LinkedHashMap<Path, CachedImage> resident;
+
+    private final Map<Path, Integer> pins;
+
+    private long residentBytes;
+
+    private final Map<Path, CompletableFuture<BufferedImage>> pending;
+
+    private final AtomicLong hits = new AtomicLong();
+
+    private final AtomicLong misses = new AtomicLong();
+
+    private final AtomicLong evictions = new AtomicLong();
 
     private ImageCache() {
-        cache = new HashMap<>();
+        resident = new LinkedHashMap<>(64, 0.75f, true);
+        pins = new HashMap<>();
+        pending = new ConcurrentHashMap<>();
     }
 
+    /**
+     * @return decoded image, or NULL if no registered reader supports the file format.
+     */
     public static BufferedImage loadImage(File file) {
-        BufferedImage sprite = instance.cache.get(file);
+        return instance.load(ImageCache.keyOf(file.toPath()), file);
+    }
+
+    private BufferedImage load(Path key, File file) {
+        BufferedImage sprite = this.getResident(key);
         if (sprite != null) {
+            hits.incrementAndGet();
             return sprite;
         }
+        CompletableFuture<BufferedImage> decoding = new CompletableFuture<>();
+        CompletableFuture<BufferedImage> running = pending.putIfAbsent(key, decoding);
+        if (running != null) {
+            hits.incrementAndGet();
+            return ImageCache.await(running, file);
+        }
+        try {
+            // Another decode of the same file might have finished between the two lookups.
+            sprite = this.getResident(key);
+            if (sprite != null) {
+                hits.incrementAndGet();
+            } else {
+                misses.incrementAndGet();
+                sprite = ImageCache.decode(file);
+                if (sprite != null) {
+                    this.store(key, sprite);
+                }
+            }
+            decoding.complete(sprite);
+            return sprite;
+        } catch (Throwable ex) {
+            // Image reader plugins throw all kinds of runtime exceptions and errors on corrupt files;
+            // whatever it is, threads waiting for this decode must not be left blocked.
+            decoding.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            pending.remove(key, decoding);
+        }
+    }
+
+    private static BufferedImage decode(File file) {
+        BufferedImage sprite;
         try {
             sprite = ImageIO.read(file);
         } catch (IOException ex) {
-            JOptionPane.showMessageDialog(null,
-                    "Image file loading failed: " + file,
-                    StringValues.FILE_LOADING_ERROR,
-                    JOptionPane.ERROR_MESSAGE);
+            Diagnostics.error(file.toPath(), null, "Image file loading failed");
             throw new UncheckedIOException("Failed to load sprite: " + file.getName(), ex);
         }
         log.trace("Opening sprite: {}.", file.getName());
-        instance.cache.put(file, sprite);
         return sprite;
     }
 
+    private static BufferedImage await(CompletableFuture<BufferedImage> running, File file) {
+        try {
+            return running.join();
+        } catch (CompletionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof UncheckedIOException failed) {
+                throw new UncheckedIOException("Failed to load sprite: " + file.getName(), failed.getCause());
+            }
+            if (cause instanceof RuntimeException failed) {
+                throw failed;
+            }
+            if (cause instanceof Error failed) {
+                throw failed;
+            }
+            throw ex;
+        }
+    }
+
+    private BufferedImage getResident(Path key) {
+        synchronized (lock) {
+            CachedImage cached = resident.get(key);
+            return cached == null ? null : cached.image();
+        }
+    }
+
+    private void store(Path key, BufferedImage image) {
+        long bytes = ImageCache.sizeOf(image);
+        synchronized (lock) {
+            CachedImage previous = resident.put(key, new CachedImage(image, bytes));
+            if (previous != null) {
+                residentBytes -= previous.bytes();
+            }
+            residentBytes += bytes;
+            this.evictOverBudget();
+        }
+    }
+
+    /**
+     * Expected to be called while holding lock.
+     */
+    private void evictOverBudget() {
+        long budget = SettingsManager.getSpriteCacheBudget();
+        Iterator<Map.Entry<Path, CachedImage>> iterator = resident.entrySet().iterator();
+        while (residentBytes > budget && iterator.hasNext()) {
+            Map.Entry<Path, CachedImage> entry = iterator.next();
+            if (pins.containsKey(entry.getKey())) continue;
+            iterator.remove();
+            residentBytes -= entry.getValue().bytes();
+            evictions.incrementAndGet();
+            log.trace("Evicting sprite: {}.", entry.getKey().getFileName());
+        }
+    }
+
+    private static long sizeOf(BufferedImage image) {
+        int bytesPerPixel = Math.max(1, (image.getColorModel().getPixelSize() + 7) / 8);
+        return (long) image.getWidth() * image.getHeight() * bytesPerPixel;
+    }
+
+    private static Path keyOf(Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Keeps sprite of the file from eviction until it is unpinned as many times as it was pinned.
+     */
+    public static void pin(Path file) {
+        if (file == null) return;
+        Path key = ImageCache.keyOf(file);
+        synchronized (instance.lock) {
+            instance.pins.merge(key, 1, Integer::sum);
+        }
+    }
+
+    public static void unpin(Path file) {
+        if (file == null) return;
+        Path key = ImageCache.keyOf(file);
+        synchronized (instance.lock) {
+            instance.pins.computeIfPresent(key, (path, count) -> count > 1 ? count - 1 : null);
+            instance.evictOverBudget();
+        }
+    }
+
+    /**
+     * Evicts sprites until resident size fits the budget again; called when budget setting changes.
+     */
+    public static void trimToBudget() {
+        synchronized (instance.lock) {
+            instance.evictOverBudget();
+        }
+    }
+
+    public static Statistics getStatistics() {
+        synchronized (instance.lock) {
+            int pinnedImages = 0;
+            for (Path key : instance.resident.keySet()) {
+                if (instance.pins.containsKey(key)) {
+                    pinnedImages++;
+                }
+            }
+            return new Statistics(instance.hits.get(), instance.misses.get(), instance.evictions.get(),
+                    instance.residentBytes, instance.resident.size(), pinnedImages,
+                    SettingsManager.getSpriteCacheBudget());
+        }
+    }
+
+    private record CachedImage(BufferedImage image, long bytes) {}
+
+    /**
+     * @param hits requests served without decoding, including ones that waited for a decode already running.
+     * @param misses requests that decoded the file.
+     */
+    public record Statistics(long hits, long misses, long evictions, long residentBytes,
+                             int residentImages, int pinnedImages, long budgetBytes) {}
+
 }
@@ -43,6 +43,8 @@ public interface StringConstants {
 
     String ORDNANCE_POINTS_SPACED = "ordnance points";
 
+    String FLEET_POINTS_SPACED = "fleet pts";
+
     String BASE_VALUE = "baseValue";
 
     String SUPPLIES_PER_MONTH = "suppliesPerMonth";
@@ -96,6 +98,8 @@ public interface StringConstants {
 
     String HULL_ID = "hullId";
 
+    String TAGS = "tags";
+
     String VARIANT = "variant";
 
     String CONFIG = "config";
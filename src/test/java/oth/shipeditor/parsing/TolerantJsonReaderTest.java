@@ -0,0 +1,83 @@
+package oth.shipeditor.parsing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TolerantJsonReaderTest {
+
+    /**
+     * Reads through a tiny buffer so that tokens get split across read calls.
+     */
+    private static String rewrite(String input) throws IOException {
+        StringWriter output = new StringWriter();
+        try (Reader reader = new TolerantJsonReader(new StringReader(input))) {
+            char[] buffer = new char[3];
+            int count;
+            while ((count = reader.read(buffer, 0, buffer.length)) >= 0) {
+                output.write(buffer, 0, count);
+            }
+        }
+        return output.toString();
+    }
+
+    @Test
+    void passesWellFormedJsonUnchanged() throws IOException {
+        String json = "{\"id\": \"a\", \"values\": [1, 2.5, -3e4, 1e-5], \"flag\": true, \"none\": null}";
+        assertEquals(json, rewrite(json));
+    }
+
+    @Test
+    void stripsCommentsUpToLineEnd() throws IOException {
+        assertEquals("{\"a\": 1 \n}", rewrite("{\"a\": 1 # note; id: x\n}"));
+    }
+
+    @Test
+    void quotesUnquotedIdentifiers() throws IOException {
+        assertEquals("{\"id\": \"hull_id\", \"path\": \"graphics/ships/a.png\"}",
+                rewrite("{id: hull_id, path: graphics/ships/a.png}"));
+    }
+
+    @Test
+    void keepsLiteralKeywordsUnquoted() throws IOException {
+        assertEquals("[true, false, null]", rewrite("[true, false, null]"));
+    }
+
+    @Test
+    void turnsSemicolonsIntoCommas() throws IOException {
+        assertEquals("[1,2,3]", rewrite("[1;2;3]"));
+    }
+
+    @Test
+    void dropsNumberSuffixes() throws IOException {
+        assertEquals("[1.5, 2, 0.25, 2E+3]", rewrite("[1.5f, 2d, 0.25F, 2E+3f]"));
+    }
+
+    @Test
+    void quotesNumberFollowedByIdentifierCharacters() throws IOException {
+        assertEquals("[\"3fa\"]", rewrite("[3fa]"));
+        assertEquals("[\"2x\", \"10_b\"]", rewrite("[2x, 10_b]"));
+    }
+
+    @Test
+    void stripsLeadingZeros() throws IOException {
+        assertEquals("[7, -0.5, 0.5, 0, 10]", rewrite("[007, -00.5, 0.5, 0, 10]"));
+    }
+
+    @Test
+    void passesQuotedStringsThrough() throws IOException {
+        String json = "{\"text\": \"a # b; c 1.5f\", \"escaped\": \"x\\\"y#\"}";
+        assertEquals(json, rewrite(json));
+    }
+
+    @Test
+    void dropsByteOrderMark() throws IOException {
+        assertEquals("{\"a\": 1}", rewrite("\uFEFF{\"a\": 1}"));
+    }
+
+}
@@ -0,0 +1,71 @@
+package oth.shipeditor.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import oth.shipeditor.components.logging.Diagnostics;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PackageRegistryTest {
+
+    @BeforeEach
+    void clearDiagnostics() {
+        Diagnostics.clear();
+    }
+
+    private static PackageRegistry.GamePackage mod(String modID, boolean enabled, String... dependencies) {
+        return new PackageRegistry.GamePackage(Path.of("mods", modID + "_folder"), false, Set.of(),
+                modID, List.of(dependencies), enabled);
+    }
+
+    private static List<String> idsOf(List<PackageRegistry.GamePackage> packages) {
+        return packages.stream().map(PackageRegistry.GamePackage::modID).toList();
+    }
+
+    @Test
+    void keepsNameOrderWithoutDependencies() {
+        List<PackageRegistry.GamePackage> mods = List.of(mod("a", true), mod("b", true), mod("c", true));
+        assertEquals(List.of("a", "b", "c"), idsOf(PackageRegistry.sortByDependencies(mods)));
+    }
+
+    @Test
+    void movesDependenciesBeforeDependents() {
+        List<PackageRegistry.GamePackage> mods = List.of(mod("a", true, "c"), mod("b", true), mod("c", true, "d"),
+                mod("d", true));
+        assertEquals(List.of("d", "c", "a", "b"), idsOf(PackageRegistry.sortByDependencies(mods)));
+    }
+
+    @Test
+    void breaksCyclesAtFirstRevisit() {
+        List<PackageRegistry.GamePackage> mods = List.of(mod("a", true, "b"), mod("b", true, "a"));
+        assertEquals(List.of("b", "a"), idsOf(PackageRegistry.sortByDependencies(mods)));
+    }
+
+    @Test
+    void keepsModsWithoutID() {
+        PackageRegistry.GamePackage unnamed = new PackageRegistry.GamePackage(Path.of("mods", "unnamed"), false,
+                Set.of(), null, List.of(), true);
+        List<PackageRegistry.GamePackage> mods = List.of(mod("a", true, "b"), unnamed, mod("b", true));
+        List<PackageRegistry.GamePackage> sorted = PackageRegistry.sortByDependencies(mods);
+        assertEquals(3, sorted.size());
+        assertEquals("b", sorted.get(0).modID());
+        assertEquals("a", sorted.get(1).modID());
+        assertEquals(unnamed, sorted.get(2));
+    }
+
+    @Test
+    void reportsMissingDependenciesOfEnabledMods() {
+        List<PackageRegistry.GamePackage> mods = List.of(mod("a", true, "missing"), mod("b", false, "absent"));
+        assertEquals(List.of("a", "b"), idsOf(PackageRegistry.sortByDependencies(mods)));
+        List<Diagnostics.Recorded> recorded = Diagnostics.getRecorded();
+        assertEquals(1, recorded.size());
+        assertEquals("a", recorded.get(0).diagnostic().entityID());
+        assertTrue(recorded.get(0).diagnostic().cause().contains("missing"));
+    }
+
+}
@@ -0,0 +1,129 @@
+package oth.shipeditor.representation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import oth.shipeditor.components.logging.Diagnostics;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CSVTableTest {
+
+    @BeforeEach
+    void clearDiagnostics() {
+        Diagnostics.clear();
+    }
+
+    @Test
+    void exposesCellsByHeaderName() {
+        CSVTable table = CSVTable.fromRecords(List.of(
+                new String[]{"id", "name", "OPs"},
+                new String[]{"lasher", "Lasher", "45"},
+                new String[]{"wolf", "Wolf", "35"}));
+        assertEquals(2, table.getRowCount());
+        assertEquals(List.of("id", "name", "OPs"), table.getHeader());
+        CSVRow row = table.getRow(1);
+        assertEquals("wolf", row.get("id"));
+        assertEquals("Wolf", row.get("name"));
+        assertNull(row.get("missing"));
+        assertEquals(Map.of("id", "wolf", "name", "Wolf", "OPs", "35"), Map.copyOf(row));
+    }
+
+    @Test
+    void leavesCellsOfShortRowsAbsent() {
+        CSVTable table = CSVTable.fromRecords(List.of(
+                new String[]{"id", "name", "OPs"},
+                new String[]{"lasher"}));
+        CSVRow row = table.getRow(0);
+        assertTrue(row.containsKey("id"));
+        assertFalse(row.containsKey("name"));
+        assertEquals(1, row.size());
+        assertEquals(List.of("id"), new ArrayList<>(row.keySet()));
+    }
+
+    @Test
+    void ignoresCellsBeyondHeader() {
+        CSVTable table = CSVTable.fromRecords(List.of(
+                new String[]{"id"},
+                new String[]{"lasher", "extra"}));
+        assertEquals(Map.of("id", "lasher"), Map.copyOf(table.getRow(0)));
+    }
+
+    @Test
+    void letsLastOfDuplicateColumnsWin() {
+        CSVTable table = CSVTable.fromRecords(List.of(
+                new String[]{"id", "tags", "tags"},
+                new String[]{"lasher", "first", "second"}));
+        CSVRow row = table.getRow(0);
+        assertEquals("second", row.get("tags"));
+        assertEquals(2, row.size());
+        assertEquals(Map.of("id", "lasher", "tags", "second"), Map.copyOf(row));
+    }
+
+    @Test
+    void sharesEqualCellsOfColumn() {
+        CSVTable table = CSVTable.fromRecords(List.of(
+                new String[]{"id", "size"},
+                new String[]{"a", new String("SMALL")},
+                new String[]{"b", new String("SMALL")}));
+        assertSame(table.getRow(0).get("size"), table.getRow(1).get("size"));
+    }
+
+    @Test
+    void filtersRowsInFileOrder() {
+        CSVTable table = CSVTable.fromRecords(List.of(
+                new String[]{"id"},
+                new String[]{"a"},
+                new String[]{""},
+                new String[]{"b"}));
+        List<CSVRow> rows = table.getRows(row -> !row.get("id").isEmpty());
+        assertEquals(2, rows.size());
+        assertEquals("a", rows.get(0).get("id"));
+        assertEquals("b", rows.get(1).get("id"));
+    }
+
+    @Test
+    void handlesEmptyInput() {
+        CSVTable table = CSVTable.fromRecords(List.of());
+        assertEquals(0, table.getRowCount());
+        assertEquals(List.of(), table.getHeader());
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getRow(0));
+    }
+
+    @Test
+    void parsesIntegerCells() {
+        CSVTable table = CSVTable.fromRecords(List.of(
+                new String[]{"id", "OPs"},
+                new String[]{"a", "45"},
+                new String[]{"b", " -3 "},
+                new String[]{"c", ""},
+                new String[]{"d"}));
+        assertEquals(45, table.getRow(0).getInt("OPs", 0));
+        assertEquals(-3, table.getRow(1).getInt("OPs", 0));
+        assertEquals(-1, table.getRow(2).getInt("OPs", -1));
+        assertEquals(-1, table.getRow(3).getInt("OPs", -1));
+        assertEquals(7, table.getRow(0).getInt("missing", 7));
+        assertTrue(Diagnostics.isEmpty());
+    }
+
+    @Test
+    void reportsMalformedIntegerCells() {
+        CSVTable table = CSVTable.fromRecords(List.of(
+                new String[]{"id", "OPs"},
+                new String[]{"a", "4.5"}));
+        Path source = Path.of("data", "weapons", "weapon_data.csv");
+        table.setSourceFile(source);
+        assertEquals(0, table.getRow(0).getInt("OPs", 0));
+        List<Diagnostics.Recorded> recorded = Diagnostics.getRecorded();
+        assertEquals(1, recorded.size());
+        Diagnostics.Diagnostic diagnostic = recorded.get(0).diagnostic();
+        assertEquals(Diagnostics.Severity.WARNING, diagnostic.severity());
+        assertEquals(source, diagnostic.file());
+        assertEquals("a", diagnostic.entityID());
+    }
+
+}
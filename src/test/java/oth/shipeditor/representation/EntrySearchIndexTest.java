@@ -0,0 +1,78 @@
+package oth.shipeditor.representation;
+
+import org.junit.jupiter.api.Test;
+import oth.shipeditor.components.datafiles.entities.CSVEntry;
+import oth.shipeditor.components.datafiles.entities.HullmodCSVEntry;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntrySearchIndexTest {
+
+    private final EntrySearchIndex index = new EntrySearchIndex(EntrySearchIndexTest.hullmods(
+            new String[]{"id", "name"},
+            new String[]{"heavyarmor", "Heavy Armor"},
+            new String[]{"fluxcoil", "Flux Coil Adjunct"},
+            new String[]{"abc", "xyz"},
+            new String[]{"fortressshield", "Fortress Shield"}));
+
+    private static List<CSVEntry> hullmods(String[]... records) {
+        Path folder = Path.of("starsector-core");
+        List<CSVEntry> result = new ArrayList<>();
+        for (CSVRow row : CSVTable.fromRecords(List.of(records)).getRows(row -> true)) {
+            result.add(new HullmodCSVEntry(row, folder, folder.resolve("hull_mods.csv")));
+        }
+        return result;
+    }
+
+    private static List<String> idsOf(Set<CSVEntry> entries) {
+        return entries.stream().map(CSVEntry::getID).toList();
+    }
+
+    @Test
+    void matchesDisplayNameIgnoringCase() {
+        assertEquals(List.of("heavyarmor"), idsOf(index.search("ARMOR")));
+        assertEquals(List.of("fortressshield"), idsOf(index.search("ss shi")));
+    }
+
+    @Test
+    void matchesID() {
+        assertEquals(List.of("fluxcoil"), idsOf(index.search("xcoi")));
+    }
+
+    @Test
+    void matchesShortQueriesBySubstring() {
+        assertEquals(List.of("heavyarmor", "fortressshield"), idsOf(index.search("r")));
+    }
+
+    @Test
+    void doesNotMatchAcrossNameAndID() {
+        assertEquals(List.of(), idsOf(index.search("yza")));
+        assertEquals(List.of(), idsOf(index.search("za")));
+    }
+
+    @Test
+    void treatsQueryAsPlainText() {
+        assertEquals(List.of(), idsOf(index.search(".*")));
+    }
+
+    @Test
+    void narrowsAndWidensBetweenQueries() {
+        assertEquals(List.of("heavyarmor", "fortressshield"), idsOf(index.search("r")));
+        assertEquals(List.of("heavyarmor"), idsOf(index.search("rm")));
+        assertEquals(List.of("heavyarmor"), idsOf(index.search("rmo")));
+        assertEquals(List.of("fortressshield"), idsOf(index.search("ort")));
+        assertEquals(List.of("heavyarmor", "fortressshield"), idsOf(index.search("r")));
+    }
+
+    @Test
+    void returnsUnmodifiableResult() {
+        Set<CSVEntry> result = index.search("flux");
+        assertThrows(UnsupportedOperationException.class, result::clear);
+    }
+
+}
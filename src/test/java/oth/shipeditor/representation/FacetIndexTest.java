@@ -0,0 +1,171 @@
+package oth.shipeditor.representation;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import oth.shipeditor.components.datafiles.entities.CSVEntry;
+
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetIndexTest {
+
+    private static final Path CORE = Path.of("starsector-core");
+
+    private static final Path MOD = Path.of("mods", "a_mod");
+
+    private final Item first = new Item("a", "BALLISTIC", "SMALL", "x");
+
+    private final Item second = new Item("b", "ENERGY", "MEDIUM", "x", "y");
+
+    private final Item third = new Item("c", "BALLISTIC", "MEDIUM");
+
+    private final Item fourth = new Item("d", "MISSILE", "SMALL", "y");
+
+    private FacetIndex<Item> index;
+
+    @BeforeEach
+    void buildIndex() {
+        Map<Path, List<Item>> byPackage = new LinkedHashMap<>();
+        byPackage.put(CORE, List.of(first, second));
+        byPackage.put(MOD, List.of(third, fourth));
+        Map<String, Function<? super Item, Collection<?>>> extractors = new LinkedHashMap<>();
+        extractors.put(FacetIndex.TYPE, item -> List.of(item.type));
+        extractors.put(FacetIndex.SIZE, item -> List.of(item.size));
+        extractors.put(FacetIndex.TAG, item -> item.tags);
+        index = new FacetIndex<>(byPackage, extractors);
+    }
+
+    private static BitSet bitsOf(int... positions) {
+        BitSet result = new BitSet();
+        for (int position : positions) {
+            result.set(position);
+        }
+        return result;
+    }
+
+    @Test
+    void keepsEntriesInPackageOrder() {
+        assertEquals(4, index.size());
+        assertEquals(List.of(first, second, third, fourth), index.list(index.selectAll()));
+    }
+
+    @Test
+    void selectsByFacetValue() {
+        assertEquals(bitsOf(0, 2), index.select(FacetIndex.TYPE, "BALLISTIC"));
+        assertEquals(bitsOf(2, 3), index.select(FacetIndex.PACKAGE, MOD));
+        assertEquals(bitsOf(1, 3), index.select(FacetIndex.TAG, "y"));
+        assertEquals(new BitSet(), index.select(FacetIndex.TYPE, "HYBRID"));
+        assertEquals(new BitSet(), index.select("missing", "BALLISTIC"));
+    }
+
+    @Test
+    void returnsSelectionsCallersMayModify() {
+        BitSet selection = index.select(FacetIndex.TYPE, "BALLISTIC");
+        selection.clear();
+        assertEquals(bitsOf(0, 2), index.select(FacetIndex.TYPE, "BALLISTIC"));
+    }
+
+    @Test
+    void leavesEntriesWithoutValuesOutOfFacet() {
+        BitSet tagged = index.selectAny(FacetIndex.TAG, value -> true);
+        assertEquals(bitsOf(0, 1, 3), tagged);
+    }
+
+    @Test
+    void selectsEntryInstances() {
+        Item foreign = new Item("a", "BALLISTIC", "SMALL");
+        BitSet selection = index.selectEntries(List.of(second, foreign, fourth));
+        assertEquals(bitsOf(1, 3), selection);
+        assertTrue(index.isSelected(selection, second));
+        assertFalse(index.isSelected(selection, first));
+        assertFalse(index.isSelected(selection, foreign));
+    }
+
+    @Test
+    void intersectsFacetsAndCountsValues() {
+        Map<String, Predicate<Object>> enabled = new LinkedHashMap<>();
+        enabled.put(FacetIndex.TYPE, value -> "BALLISTIC".equals(value) || "ENERGY".equals(value));
+        enabled.put(FacetIndex.SIZE, "MEDIUM"::equals);
+        Map<String, Map<Object, Integer>> counts = new HashMap<>();
+
+        BitSet result = index.filter(index.selectAll(), enabled, counts);
+
+        assertEquals(List.of(second, third), index.list(result));
+        assertEquals(Map.of("BALLISTIC", 1, "ENERGY", 1, "MISSILE", 0), counts.get(FacetIndex.TYPE));
+        assertEquals(Map.of("SMALL", 1, "MEDIUM", 2), counts.get(FacetIndex.SIZE));
+    }
+
+    @Test
+    void filtersWithinBase() {
+        Map<String, Map<Object, Integer>> counts = new HashMap<>();
+        BitSet result = index.filter(bitsOf(0, 1), Map.of(FacetIndex.TAG, "y"::equals), counts);
+        assertEquals(List.of(second), index.list(result));
+        assertEquals(Map.of("x", 2, "y", 1), counts.get(FacetIndex.TAG));
+    }
+
+    @Test
+    void groupsSelectionByPackage() {
+        Map<Path, List<Item>> grouped = index.groupByPackage(bitsOf(1, 2, 3));
+        assertEquals(List.of(CORE, MOD), new ArrayList<>(grouped.keySet()));
+        assertEquals(List.of(second), grouped.get(CORE));
+        assertEquals(List.of(third, fourth), grouped.get(MOD));
+        assertEquals(List.of(MOD), new ArrayList<>(index.groupByPackage(bitsOf(3)).keySet()));
+    }
+
+    @Test
+    void handlesMissingEntries() {
+        FacetIndex<Item> empty = new FacetIndex<>(null, Map.of(FacetIndex.TYPE, item -> List.of(item.type)));
+        assertEquals(0, empty.size());
+        assertEquals(new BitSet(), empty.selectAll());
+        assertEquals(Map.of(), empty.groupByPackage(empty.selectAll()));
+    }
+
+    private static final class Item implements CSVEntry {
+
+        private final String id;
+
+        private final String type;
+
+        private final String size;
+
+        private final List<String> tags;
+
+        private Item(String id, String type, String size, String... tags) {
+            this.id = id;
+            this.type = type;
+            this.size = size;
+            this.tags = List.of(tags);
+        }
+
+        @Override
+        public Map<String, String> getRowData() {
+            return Map.of("id", id);
+        }
+
+        @Override
+        public String getID() {
+            return id;
+        }
+
+        @Override
+        public String getMultilineTooltip() {
+            return id;
+        }
+
+        @Override
+        public Path getPackageFolderPath() {
+            return null;
+        }
+
+        @Override
+        public Path getTableFilePath() {
+            return null;
+        }
+
+    }
+
+}
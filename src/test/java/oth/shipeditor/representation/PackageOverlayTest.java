@@ -0,0 +1,104 @@
+package oth.shipeditor.representation;
+
+import org.junit.jupiter.api.Test;
+import oth.shipeditor.components.datafiles.entities.CSVEntry;
+import oth.shipeditor.components.datafiles.entities.HullmodCSVEntry;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackageOverlayTest {
+
+    private static final Path CORE = Path.of("starsector-core");
+
+    private static final Path FIRST_MOD = Path.of("mods", "a_mod");
+
+    private static final Path SECOND_MOD = Path.of("mods", "b_mod");
+
+    private static final List<Path> LOADING_ORDER = List.of(CORE, FIRST_MOD, SECOND_MOD);
+
+    private static List<HullmodCSVEntry> hullmods(Path folder, String... ids) {
+        List<String[]> records = new ArrayList<>();
+        records.add(new String[]{"id"});
+        for (String id : ids) {
+            records.add(new String[]{id});
+        }
+        List<HullmodCSVEntry> result = new ArrayList<>();
+        for (CSVRow row : CSVTable.fromRecords(records).getRows(row -> true)) {
+            result.add(new HullmodCSVEntry(row, folder, folder.resolve("hull_mods.csv")));
+        }
+        return result;
+    }
+
+    private static List<Path> foldersOf(List<CSVEntry> chain) {
+        return chain.stream().map(CSVEntry::getPackageFolderPath).toList();
+    }
+
+    /**
+     * Packages are put in reverse of loading order, so that map order cannot decide the outcome.
+     */
+    private static PackageOverlay overlayOf(List<HullmodCSVEntry> core, List<HullmodCSVEntry> firstMod,
+                                            List<HullmodCSVEntry> secondMod) {
+        Map<Path, List<HullmodCSVEntry>> byPackage = new LinkedHashMap<>();
+        byPackage.put(SECOND_MOD, secondMod);
+        byPackage.put(FIRST_MOD, firstMod);
+        byPackage.put(CORE, core);
+        return new PackageOverlay(Map.of(PackageOverlay.Kind.HULLMOD, byPackage), LOADING_ORDER);
+    }
+
+    @Test
+    void letsLastPackageInLoadingOrderWin() {
+        PackageOverlay overlay = overlayOf(hullmods(CORE, "shared", "core_only"), hullmods(FIRST_MOD, "shared"),
+                hullmods(SECOND_MOD, "shared", "second_only"));
+
+        CSVEntry winner = overlay.getWinner(PackageOverlay.Kind.HULLMOD, "shared");
+        assertEquals(SECOND_MOD, winner.getPackageFolderPath());
+        assertEquals(LOADING_ORDER, foldersOf(overlay.getChain(PackageOverlay.Kind.HULLMOD, "shared")));
+        assertEquals(CORE, overlay.getWinner(PackageOverlay.Kind.HULLMOD, "core_only").getPackageFolderPath());
+        assertNull(overlay.getWinner(PackageOverlay.Kind.HULLMOD, "missing"));
+        assertEquals(List.of(), overlay.getChain(PackageOverlay.Kind.HULLMOD, "missing"));
+        assertEquals(Set.of("shared", "core_only", "second_only"),
+                overlay.getWinners(PackageOverlay.Kind.HULLMOD).keySet());
+    }
+
+    @Test
+    void keepsKindsApart() {
+        Map<PackageOverlay.Kind, Map<Path, List<HullmodCSVEntry>>> byKind = new EnumMap<>(PackageOverlay.Kind.class);
+        byKind.put(PackageOverlay.Kind.HULLMOD, Map.of(CORE, hullmods(CORE, "shared")));
+        byKind.put(PackageOverlay.Kind.SHIP_SYSTEM, Map.of(FIRST_MOD, hullmods(FIRST_MOD, "shared")));
+        PackageOverlay overlay = new PackageOverlay(byKind, LOADING_ORDER);
+
+        assertEquals(CORE, overlay.getWinner(PackageOverlay.Kind.HULLMOD, "shared").getPackageFolderPath());
+        assertEquals(FIRST_MOD, overlay.getWinner(PackageOverlay.Kind.SHIP_SYSTEM, "shared").getPackageFolderPath());
+        assertNull(overlay.getWinner(PackageOverlay.Kind.WEAPON, "shared"));
+        assertTrue(overlay.getConflicts().isEmpty());
+    }
+
+    @Test
+    void chainsUnknownPackagesLast() {
+        Path unknown = Path.of("elsewhere");
+        Map<Path, List<HullmodCSVEntry>> byPackage = new LinkedHashMap<>();
+        byPackage.put(unknown, hullmods(unknown, "shared"));
+        byPackage.put(SECOND_MOD, hullmods(SECOND_MOD, "shared"));
+        PackageOverlay overlay = new PackageOverlay(Map.of(PackageOverlay.Kind.HULLMOD, byPackage), LOADING_ORDER);
+
+        assertEquals(unknown, overlay.getWinner(PackageOverlay.Kind.HULLMOD, "shared").getPackageFolderPath());
+    }
+
+    @Test
+    void listsConflictsWithShadowedDefinitions() {
+        PackageOverlay overlay = overlayOf(hullmods(CORE, "b_shared", "a_shared", "single"),
+                hullmods(FIRST_MOD, "a_shared"), hullmods(SECOND_MOD, "b_shared"));
+        List<PackageOverlay.Conflict> conflicts = overlay.getConflicts();
+
+        List<String> conflictIDs = conflicts.stream().map(PackageOverlay.Conflict::entityID).toList();
+        assertEquals(List.of("a_shared", "b_shared"), conflictIDs);
+        PackageOverlay.Conflict first = conflicts.getFirst();
+        assertEquals(PackageOverlay.Kind.HULLMOD, first.kind());
+        assertEquals(FIRST_MOD, first.winner().getPackageFolderPath());
+        assertEquals(List.of(CORE), foldersOf(first.shadowed()));
+    }
+
+}
@@ -0,0 +1,126 @@
+package oth.shipeditor.representation.weapon;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeaponTypeTest {
+
+    private static final Set<WeaponType> NOT_UNIVERSAL = EnumSet.of(WeaponType.LAUNCH_BAY, WeaponType.BUILT_IN,
+            WeaponType.DECORATIVE, WeaponType.SYSTEM, WeaponType.STATION_MODULE);
+
+    /**
+     * Fitting rules as they were written before the lookup table, restated by slot type:
+     * weapons of the first set fit slots of same size or one size larger, weapons of the second set only same size.
+     */
+    private static boolean expectedFitting(WeaponType slotType, WeaponSize slotSize,
+                                           WeaponType weaponType, WeaponSize weaponSize) {
+        int sizeDifference = slotSize.getNumericSize() - weaponSize.getNumericSize();
+        boolean sameOrSmaller = sizeDifference == 0 || sizeDifference == 1;
+        boolean sameSize = sizeDifference == 0;
+        Set<WeaponType> smallerFits;
+        Set<WeaponType> sameSizeFits;
+        switch (slotType) {
+            case BALLISTIC -> {
+                smallerFits = EnumSet.of(WeaponType.BALLISTIC);
+                sameSizeFits = EnumSet.of(WeaponType.HYBRID, WeaponType.COMPOSITE);
+            }
+            case ENERGY -> {
+                smallerFits = EnumSet.of(WeaponType.ENERGY);
+                sameSizeFits = EnumSet.of(WeaponType.HYBRID, WeaponType.SYNERGY);
+            }
+            case MISSILE -> {
+                smallerFits = EnumSet.of(WeaponType.MISSILE);
+                sameSizeFits = EnumSet.of(WeaponType.COMPOSITE, WeaponType.SYNERGY);
+            }
+            case HYBRID -> {
+                smallerFits = EnumSet.of(WeaponType.HYBRID);
+                sameSizeFits = EnumSet.of(WeaponType.BALLISTIC, WeaponType.ENERGY);
+            }
+            case COMPOSITE -> {
+                smallerFits = EnumSet.of(WeaponType.COMPOSITE);
+                sameSizeFits = EnumSet.of(WeaponType.BALLISTIC, WeaponType.MISSILE);
+            }
+            case SYNERGY -> {
+                smallerFits = EnumSet.of(WeaponType.SYNERGY);
+                sameSizeFits = EnumSet.of(WeaponType.ENERGY, WeaponType.MISSILE);
+            }
+            case UNIVERSAL -> {
+                smallerFits = EnumSet.of(WeaponType.UNIVERSAL);
+                sameSizeFits = EnumSet.complementOf(EnumSet.copyOf(NOT_UNIVERSAL));
+            }
+            case BUILT_IN -> {
+                smallerFits = EnumSet.complementOf(EnumSet.of(WeaponType.DECORATIVE));
+                sameSizeFits = EnumSet.noneOf(WeaponType.class);
+            }
+            case DECORATIVE -> {
+                smallerFits = EnumSet.of(WeaponType.DECORATIVE);
+                sameSizeFits = EnumSet.noneOf(WeaponType.class);
+            }
+            default -> {
+                smallerFits = EnumSet.noneOf(WeaponType.class);
+                sameSizeFits = EnumSet.noneOf(WeaponType.class);
+            }
+        }
+        return (smallerFits.contains(weaponType) && sameOrSmaller)
+                || (sameSizeFits.contains(weaponType) && sameSize);
+    }
+
+    @Test
+    void matchesPreviousRulesForEveryCombination() {
+        for (WeaponType slotType : WeaponType.values()) {
+            for (WeaponSize slotSize : WeaponSize.values()) {
+                for (WeaponType weaponType : WeaponType.values()) {
+                    for (WeaponSize weaponSize : WeaponSize.values()) {
+                        boolean expected = expectedFitting(slotType, slotSize, weaponType, weaponSize);
+                        assertEquals(expected, WeaponType.isFitting(slotType, slotSize, weaponType, weaponSize),
+                                slotType + " " + slotSize + " slot, " + weaponType + " " + weaponSize + " weapon");
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void fitsWeaponsOneSizeSmaller() {
+        assertTrue(WeaponType.isFitting(WeaponType.BALLISTIC, WeaponSize.MEDIUM,
+                WeaponType.BALLISTIC, WeaponSize.SMALL));
+        assertFalse(WeaponType.isFitting(WeaponType.BALLISTIC, WeaponSize.LARGE,
+                WeaponType.BALLISTIC, WeaponSize.SMALL));
+        assertFalse(WeaponType.isFitting(WeaponType.BALLISTIC, WeaponSize.SMALL,
+                WeaponType.BALLISTIC, WeaponSize.MEDIUM));
+    }
+
+    @Test
+    void fitsHybridWeaponsOnlyOfSameSize() {
+        assertTrue(WeaponType.isFitting(WeaponType.ENERGY, WeaponSize.MEDIUM,
+                WeaponType.HYBRID, WeaponSize.MEDIUM));
+        assertFalse(WeaponType.isFitting(WeaponType.ENERGY, WeaponSize.MEDIUM,
+                WeaponType.HYBRID, WeaponSize.SMALL));
+        assertFalse(WeaponType.isFitting(WeaponType.MISSILE, WeaponSize.MEDIUM,
+                WeaponType.HYBRID, WeaponSize.MEDIUM));
+    }
+
+    @Test
+    void fitsNothingIntoSystemAndModuleSlots() {
+        for (WeaponType weaponType : WeaponType.values()) {
+            assertFalse(WeaponType.isFitting(WeaponType.SYSTEM, WeaponSize.SMALL, weaponType, WeaponSize.SMALL));
+            assertFalse(WeaponType.isFitting(WeaponType.STATION_MODULE, WeaponSize.LARGE,
+                    weaponType, WeaponSize.LARGE));
+        }
+    }
+
+    @Test
+    void rejectsMissingValues() {
+        assertFalse(WeaponType.isFitting(null, WeaponSize.SMALL, WeaponType.BALLISTIC, WeaponSize.SMALL));
+        assertFalse(WeaponType.isFitting(WeaponType.BALLISTIC, null, WeaponType.BALLISTIC, WeaponSize.SMALL));
+        assertFalse(WeaponType.isFitting(WeaponType.BALLISTIC, WeaponSize.SMALL, null, WeaponSize.SMALL));
+        assertFalse(WeaponType.isFitting(WeaponType.BALLISTIC, WeaponSize.SMALL, WeaponType.BALLISTIC, null));
+    }
+
+}